@@ -9,8 +9,10 @@ dependencies {
     jmh("org.projectlombok:lombok:latest.release")
 
     jmh(project(":rewrite-core"))
+    jmh(project(":rewrite-gradle"))
     jmh(project(":rewrite-java-17"))
     jmh(project(":rewrite-maven"))
+    jmh(project(":rewrite-yaml"))
     jmh("org.rocksdb:rocksdbjni:latest.release")
     jmh("org.openjdk.jmh:jmh-core:latest.release")
     jmh("org.openjdk.jol:jol-core:latest.release")
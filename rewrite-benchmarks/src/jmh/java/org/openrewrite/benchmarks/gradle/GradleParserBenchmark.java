@@ -0,0 +1,99 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.benchmarks.gradle;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.gradle.GradleParser;
+import org.openrewrite.groovy.GroovyParser;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@Measurement(iterations = 2)
+@Warmup(iterations = 2)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class GradleParserBenchmark {
+    List<Parser.Input> inputs;
+
+    @Param({"false", "true"})
+    boolean reuseCompilationInfrastructure;
+
+    @Param({"1", "4"})
+    int parallelism;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(GradleParserBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // The module build scripts of a large multi-project build
+        inputs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            //language=groovy
+            String source = String.format(
+                    "plugins {\n" +
+                    "    id 'java-library'\n" +
+                    "}\n" +
+                    "\n" +
+                    "group = 'com.example'\n" +
+                    "version = '1.%1$d.0'\n" +
+                    "\n" +
+                    "repositories {\n" +
+                    "    mavenCentral()\n" +
+                    "}\n" +
+                    "\n" +
+                    "dependencies {\n" +
+                    "    implementation project(':module-%2$d')\n" +
+                    "    implementation 'org.slf4j:slf4j-api:2.0.%1$d'\n" +
+                    "    testImplementation 'org.junit.jupiter:junit-jupiter:5.10.0'\n" +
+                    "}\n" +
+                    "\n" +
+                    "tasks.named('test') {\n" +
+                    "    useJUnitPlatform()\n" +
+                    "}\n",
+                    i, Math.max(0, i - 1));
+            inputs.add(Parser.Input.fromString(Paths.get("module-" + i, "build.gradle"), source));
+        }
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        GradleParser parser = GradleParser.builder()
+                .groovyParser(GroovyParser.builder()
+                        .reuseCompilationInfrastructure(reuseCompilationInfrastructure)
+                        .parallelism(parallelism))
+                .build();
+        parser.parseInputs(inputs, null, new InMemoryExecutionContext()).forEach(blackhole::consume);
+    }
+}
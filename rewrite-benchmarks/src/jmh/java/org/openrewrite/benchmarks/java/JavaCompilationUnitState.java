@@ -25,6 +25,8 @@
 import org.openrewrite.internal.InMemoryLargeSourceSet;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.internal.AdaptiveRadixJavaTypeCache;
+import org.openrewrite.java.internal.ConcurrentAdaptiveRadixJavaTypeCache;
+import org.openrewrite.java.internal.ConcurrentJavaTypeCache;
 import org.openrewrite.java.internal.JavaTypeCache;
 
 import java.net.URISyntaxException;
@@ -43,6 +45,8 @@ public class JavaCompilationUnitState {
     List<Path> inputs;
     JavaTypeCache snappyTypeCache;
     AdaptiveRadixJavaTypeCache radixMapTypeCache;
+    ConcurrentJavaTypeCache concurrentTypeCache;
+    ConcurrentAdaptiveRadixJavaTypeCache concurrentRadixTypeCache;
     MapJavaTypeCache typeCache;
 
     public static void main(String[] args) throws URISyntaxException {
@@ -108,6 +112,13 @@ public void setup() throws URISyntaxException {
         for (Map.Entry<String, Object> entry : typeCache.map().entrySet()) {
             snappyTypeCache.put(entry.getKey(), entry.getValue());
         }
+
+        concurrentTypeCache = new ConcurrentJavaTypeCache();
+        concurrentRadixTypeCache = new ConcurrentAdaptiveRadixJavaTypeCache();
+        for (Map.Entry<String, Object> entry : typeCache.map().entrySet()) {
+            concurrentTypeCache.put(entry.getKey(), entry.getValue());
+            concurrentRadixTypeCache.put(entry.getKey(), entry.getValue());
+        }
     }
 
     void printMemory() {
@@ -115,6 +126,10 @@ void printMemory() {
         System.out.printf("Retained AdaptiveRadixTree size: %10d bytes\n", retainedSize);
         retainedSize = GraphLayout.parseInstance(snappyTypeCache).totalSize();
         System.out.printf("Retained Snappy size:            %10d bytes\n", retainedSize);
+        retainedSize = GraphLayout.parseInstance(concurrentTypeCache).totalSize();
+        System.out.printf("Retained concurrent size:        %10d bytes\n", retainedSize);
+        retainedSize = GraphLayout.parseInstance(concurrentRadixTypeCache).totalSize();
+        System.out.printf("Retained concurrent radix size:  %10d bytes\n", retainedSize);
     }
 
     @TearDown(Level.Trial)
@@ -23,12 +23,21 @@
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.internal.AdaptiveRadixJavaTypeCache;
 import org.openrewrite.java.internal.JavaTypeCache;
+import org.openrewrite.java.internal.PersistentJavaTypeCache;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Fork(1)
 @Measurement(iterations = 2)
@@ -56,6 +65,54 @@ public void adaptiveRadix(JavaCompilationUnitState state, Blackhole bh) {
                 .forEach(bh::consume);
     }
 
+    @Benchmark
+    public void persistentCold(PersistentTypeCacheState state, Blackhole bh) throws IOException {
+        Path empty = Files.createTempDirectory(state.directory, "cold");
+        PersistentJavaTypeCache typeCache = PersistentJavaTypeCache.forClasspath(empty, state.classpath);
+        JavaParser parser = state.compilationUnits.javaParser.typeCache(typeCache).build();
+        parser
+                .parse(state.compilationUnits.inputs, null, new InMemoryExecutionContext())
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void persistentWarm(PersistentTypeCacheState state, Blackhole bh) {
+        PersistentJavaTypeCache typeCache = PersistentJavaTypeCache.forClasspath(state.directory, state.classpath);
+        JavaParser parser = state.compilationUnits.javaParser.typeCache(typeCache).build();
+        parser
+                .parse(state.compilationUnits.inputs, null, new InMemoryExecutionContext())
+                .forEach(bh::consume);
+    }
+
+    @State(Scope.Benchmark)
+    public static class PersistentTypeCacheState {
+        JavaCompilationUnitState compilationUnits;
+        List<Path> classpath;
+        Path directory;
+
+        @Setup(Level.Trial)
+        public void setup() throws URISyntaxException, IOException {
+            compilationUnits = new JavaCompilationUnitState();
+            compilationUnits.setup();
+            classpath = JavaParser.dependenciesFromClasspath("jsr305", "classgraph", "jackson-annotations",
+                    "micrometer-core", "jgit", "jspecify", "lombok", "annotations");
+            directory = Files.createTempDirectory("rewrite-type-cache");
+
+            PersistentJavaTypeCache typeCache = PersistentJavaTypeCache.forClasspath(directory, classpath);
+            List<SourceFile> parsed = compilationUnits.javaParser.typeCache(typeCache).build()
+                    .parse(compilationUnits.inputs, null, new InMemoryExecutionContext())
+                    .collect(Collectors.toList());
+            typeCache.save(parsed);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
     public static void main(String[] args) throws RunnerException, URISyntaxException {
         Options opt = new OptionsBuilder()
                 .include(JavaParserBenchmark.class.getSimpleName())
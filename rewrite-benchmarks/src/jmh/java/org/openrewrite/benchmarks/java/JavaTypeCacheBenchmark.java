@@ -22,8 +22,10 @@
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
-import org.openrewrite.java.internal.JavaTypeCache;
 import org.openrewrite.java.internal.AdaptiveRadixJavaTypeCache;
+import org.openrewrite.java.internal.ConcurrentAdaptiveRadixJavaTypeCache;
+import org.openrewrite.java.internal.ConcurrentJavaTypeCache;
+import org.openrewrite.java.internal.JavaTypeCache;
 
 import java.net.URISyntaxException;
 import java.util.Map;
@@ -53,6 +55,39 @@ public void writeAdaptiveRadix(JavaCompilationUnitState state, Blackhole bh) {
         }
     }
 
+    @Benchmark
+    public void writeConcurrent(JavaCompilationUnitState state, Blackhole bh) {
+        ConcurrentJavaTypeCache typeCache = new ConcurrentJavaTypeCache();
+        for (Map.Entry<String, Object> entry : state.typeCache.map().entrySet()) {
+            typeCache.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public void writeConcurrentAdaptiveRadix(JavaCompilationUnitState state, Blackhole bh) {
+        ConcurrentAdaptiveRadixJavaTypeCache typeCache = new ConcurrentAdaptiveRadixJavaTypeCache();
+        for (Map.Entry<String, Object> entry : state.typeCache.map().entrySet()) {
+            typeCache.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * All benchmark threads write to the same cache, as parsers sharing a cache would.
+     */
+    @Benchmark
+    public void writeSharedConcurrent(JavaCompilationUnitState state, Blackhole bh) {
+        for (Map.Entry<String, Object> entry : state.typeCache.map().entrySet()) {
+            state.concurrentTypeCache.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public void writeSharedConcurrentAdaptiveRadix(JavaCompilationUnitState state, Blackhole bh) {
+        for (Map.Entry<String, Object> entry : state.typeCache.map().entrySet()) {
+            state.concurrentRadixTypeCache.put(entry.getKey(), entry.getValue());
+        }
+    }
+
     @Benchmark
     public void readSnappy(JavaCompilationUnitState state, Blackhole bh) {
         for (Map.Entry<String, Object> entry : state.typeCache.map().entrySet()) {
@@ -67,6 +102,20 @@ public void readAdaptiveRadix(JavaCompilationUnitState state, Blackhole bh) {
         }
     }
 
+    @Benchmark
+    public void readConcurrent(JavaCompilationUnitState state, Blackhole bh) {
+        for (Map.Entry<String, Object> entry : state.typeCache.map().entrySet()) {
+            bh.consume(state.concurrentTypeCache.get(entry.getKey()));
+        }
+    }
+
+    @Benchmark
+    public void readConcurrentAdaptiveRadix(JavaCompilationUnitState state, Blackhole bh) {
+        for (Map.Entry<String, Object> entry : state.typeCache.map().entrySet()) {
+            bh.consume(state.concurrentRadixTypeCache.get(entry.getKey()));
+        }
+    }
+
     public static void main(String[] args) throws RunnerException, URISyntaxException {
         Options opt = new OptionsBuilder()
                 .include(JavaTypeCacheBenchmark.class.getSimpleName())
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.benchmarks.java;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.MethodMatcherIndex;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@Measurement(iterations = 2)
+@Warmup(iterations = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MethodMatcherBenchmark {
+    List<JavaType.Method> methodTypes;
+    List<MethodMatcher> matchers;
+    MethodMatcherIndex index;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MethodMatcherBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws URISyntaxException {
+        JavaCompilationUnitState state = new JavaCompilationUnitState();
+        state.setup();
+
+        methodTypes = new ArrayList<>();
+        for (SourceFile sourceFile : state.getSourceFiles()) {
+            new JavaIsoVisitor<List<JavaType.Method>>() {
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, List<JavaType.Method> types) {
+                    if (method.getMethodType() != null) {
+                        types.add(method.getMethodType());
+                    }
+                    return super.visitMethodInvocation(method, types);
+                }
+            }.visit(sourceFile, methodTypes);
+        }
+
+        // Hundreds of independent matchers, like those of a large recipe list
+        matchers = new ArrayList<>();
+        String[] types = {"java.util.List", "java.util.Map", "java.util.Collection", "java.lang.String",
+                "java.util.Optional", "java.util.stream.Stream", "java.lang.StringBuilder", "java.util.Objects"};
+        String[] names = {"add", "get", "put", "of", "map", "filter", "append", "equals", "isEmpty", "size",
+                "contains", "remove", "stream", "collect", "requireNonNull", "substring", "format", "trim",
+                "forEach", "toString"};
+        for (String type : types) {
+            for (String name : names) {
+                matchers.add(new MethodMatcher(type + " " + name + "(..)", true));
+                matchers.add(new MethodMatcher(type + " " + name + "(java.lang.Object)"));
+            }
+            matchers.add(new MethodMatcher(type + " as*(..)"));
+        }
+        matchers.add(new MethodMatcher("java.util..* *(java.lang.String, ..)"));
+        index = new MethodMatcherIndex(matchers);
+    }
+
+    @Benchmark
+    public void eachMatcher(Blackhole blackhole) {
+        for (JavaType.Method methodType : methodTypes) {
+            for (MethodMatcher matcher : matchers) {
+                if (matcher.matches(methodType)) {
+                    blackhole.consume(matcher);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void index(Blackhole blackhole) {
+        for (JavaType.Method methodType : methodTypes) {
+            for (MethodMatcher matcher : index.matching(methodType)) {
+                blackhole.consume(matcher);
+            }
+        }
+    }
+}
@@ -28,6 +28,8 @@
 import org.openrewrite.maven.MavenParser;
 import org.openrewrite.maven.cache.CompositeMavenPomCache;
 import org.openrewrite.maven.cache.InMemoryMavenPomCache;
+import org.openrewrite.maven.cache.MappedMavenPomCache;
+import org.openrewrite.maven.cache.MavenPomCache;
 import org.openrewrite.maven.cache.RocksdbMavenPomCache;
 
 import java.nio.file.Paths;
@@ -41,10 +43,30 @@
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
 @State(Scope.Benchmark)
 public class MavenParserBenchmark {
-    CompositeMavenPomCache pomCache = new CompositeMavenPomCache(
-            new InMemoryMavenPomCache(),
-            new RocksdbMavenPomCache(Paths.get(System.getProperty("user.home")))
-    );
+    @Param({"rocksdb", "mapped", "inMemory"})
+    String cache;
+
+    MavenPomCache pomCache;
+
+    @Setup
+    public void setup() {
+        switch (cache) {
+            case "rocksdb":
+                pomCache = new CompositeMavenPomCache(
+                        new InMemoryMavenPomCache(),
+                        new RocksdbMavenPomCache(Paths.get(System.getProperty("user.home")))
+                );
+                break;
+            case "mapped":
+                pomCache = new CompositeMavenPomCache(
+                        new InMemoryMavenPomCache(),
+                        new MappedMavenPomCache(Paths.get(System.getProperty("user.home")))
+                );
+                break;
+            default:
+                pomCache = new InMemoryMavenPomCache();
+        }
+    }
 
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.benchmarks.xml;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openrewrite.SourceFile;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.XPathMatcherIndex;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.XmlParser;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+@Fork(1)
+@Measurement(iterations = 2)
+@Warmup(iterations = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class XPathMatcherBenchmark {
+    List<SourceFile> poms;
+    List<XPathMatcher> matchers;
+    XPathMatcherIndex index;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(XPathMatcherBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // The poms of a large multi-module build
+        String[] sources = new String[200];
+        for (int i = 0; i < sources.length; i++) {
+            //language=xml
+            sources[i] = String.format(
+                    "<project>\n" +
+                    "  <groupId>com.example</groupId>\n" +
+                    "  <artifactId>module-%1$d</artifactId>\n" +
+                    "  <version>1.%1$d.0</version>\n" +
+                    "  <properties>\n" +
+                    "    <maven.compiler.source>17</maven.compiler.source>\n" +
+                    "    <maven.compiler.target>17</maven.compiler.target>\n" +
+                    "  </properties>\n" +
+                    "  <dependencies>\n" +
+                    "    <dependency>\n" +
+                    "      <groupId>org.slf4j</groupId>\n" +
+                    "      <artifactId>slf4j-api</artifactId>\n" +
+                    "      <version>2.0.%1$d</version>\n" +
+                    "    </dependency>\n" +
+                    "    <dependency>\n" +
+                    "      <groupId>org.junit.jupiter</groupId>\n" +
+                    "      <artifactId>junit-jupiter</artifactId>\n" +
+                    "      <version>5.10.0</version>\n" +
+                    "      <scope>test</scope>\n" +
+                    "    </dependency>\n" +
+                    "  </dependencies>\n" +
+                    "  <build>\n" +
+                    "    <plugins>\n" +
+                    "      <plugin>\n" +
+                    "        <groupId>org.apache.maven.plugins</groupId>\n" +
+                    "        <artifactId>maven-compiler-plugin</artifactId>\n" +
+                    "        <version>3.11.0</version>\n" +
+                    "        <configuration>\n" +
+                    "          <release>17</release>\n" +
+                    "        </configuration>\n" +
+                    "      </plugin>\n" +
+                    "    </plugins>\n" +
+                    "  </build>\n" +
+                    "</project>\n",
+                    i);
+        }
+        poms = XmlParser.builder().build().parse(sources).collect(toList());
+        matchers = List.of(
+                new XPathMatcher("/project/dependencies/dependency"),
+                new XPathMatcher("/project/dependencyManagement/dependencies/dependency"),
+                new XPathMatcher("/project/build/plugins/plugin"),
+                new XPathMatcher("/project/build/pluginManagement/plugins/plugin"),
+                new XPathMatcher("/project/parent"),
+                new XPathMatcher("/project/properties/*"),
+                new XPathMatcher("/project/version"),
+                new XPathMatcher("//plugin[artifactId='maven-compiler-plugin']/configuration/release"),
+                new XPathMatcher("/project/build//plugin/configuration"),
+                new XPathMatcher("//dependency/scope")
+        );
+        index = new XPathMatcherIndex(matchers);
+    }
+
+    @Benchmark
+    public void eachMatcher(Blackhole blackhole) {
+        XmlIsoVisitor<Blackhole> visitor = new XmlIsoVisitor<Blackhole>() {
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, Blackhole blackhole) {
+                for (XPathMatcher matcher : matchers) {
+                    blackhole.consume(matcher.matches(getCursor()));
+                }
+                return super.visitTag(tag, blackhole);
+            }
+        };
+        for (SourceFile pom : poms) {
+            visitor.visit(pom, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void index(Blackhole blackhole) {
+        XmlIsoVisitor<Blackhole> visitor = new XmlIsoVisitor<Blackhole>() {
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, Blackhole blackhole) {
+                blackhole.consume(index.matching(getCursor()));
+                return super.visitTag(tag, blackhole);
+            }
+        };
+        for (SourceFile pom : poms) {
+            visitor.visit(pom, blackhole);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.benchmarks.yaml;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openrewrite.SourceFile;
+import org.openrewrite.yaml.JsonPathMatcher;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.YamlParser;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+@Fork(1)
+@Measurement(iterations = 2)
+@Warmup(iterations = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JsonPathMatcherBenchmark {
+    List<SourceFile> manifests;
+    List<JsonPathMatcher> matchers;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(JsonPathMatcherBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Kubernetes manifests like those of a large Helm chart repository
+        String[] sources = new String[500];
+        for (int i = 0; i < sources.length; i++) {
+            //language=yaml
+            sources[i] = String.format(
+                    "apiVersion: apps/v1\n" +
+                    "kind: Deployment\n" +
+                    "metadata:\n" +
+                    "  name: service-%1$d\n" +
+                    "  labels:\n" +
+                    "    app: service-%1$d\n" +
+                    "spec:\n" +
+                    "  replicas: %2$d\n" +
+                    "  selector:\n" +
+                    "    matchLabels:\n" +
+                    "      app: service-%1$d\n" +
+                    "  template:\n" +
+                    "    metadata:\n" +
+                    "      labels:\n" +
+                    "        app: service-%1$d\n" +
+                    "    spec:\n" +
+                    "      containers:\n" +
+                    "        - name: app\n" +
+                    "          image: registry.example.com/service-%1$d:1.%1$d.0\n" +
+                    "          ports:\n" +
+                    "            - containerPort: 8080\n" +
+                    "          env:\n" +
+                    "            - name: JAVA_OPTS\n" +
+                    "              value: -Xmx512m\n" +
+                    "            - name: PROFILE\n" +
+                    "              value: production\n" +
+                    "          resources:\n" +
+                    "            limits:\n" +
+                    "              cpu: 500m\n" +
+                    "              memory: 1Gi\n" +
+                    "---\n" +
+                    "apiVersion: v1\n" +
+                    "kind: Service\n" +
+                    "metadata:\n" +
+                    "  name: service-%1$d\n" +
+                    "spec:\n" +
+                    "  selector:\n" +
+                    "    app: service-%1$d\n" +
+                    "  ports:\n" +
+                    "    - port: 80\n" +
+                    "      targetPort: 8080\n",
+                    i, i % 5 + 1);
+        }
+        manifests = YamlParser.builder().build().parse(sources).collect(toList());
+        matchers = List.of(
+                new JsonPathMatcher("$.spec.replicas"),
+                new JsonPathMatcher("$.metadata.labels.app"),
+                new JsonPathMatcher("$.spec.template.spec.containers[*].image"),
+                new JsonPathMatcher("$..resources.limits.memory"),
+                new JsonPathMatcher("$.spec.template.spec.containers[?(@.name == 'app')].env")
+        );
+    }
+
+    @Benchmark
+    public void matches(Blackhole blackhole) {
+        YamlIsoVisitor<Blackhole> visitor = new YamlIsoVisitor<Blackhole>() {
+            @Override
+            public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, Blackhole blackhole) {
+                for (JsonPathMatcher matcher : matchers) {
+                    blackhole.consume(matcher.matches(getCursor()));
+                }
+                return super.visitMappingEntry(entry, blackhole);
+            }
+        };
+        for (SourceFile manifest : manifests) {
+            visitor.visit(manifest, blackhole);
+        }
+    }
+}
@@ -26,4 +26,5 @@ dependencies {
     implementation("org.yaml:snakeyaml:latest.release")
 
     testImplementation(project(":rewrite-test"))
+    testImplementation("com.squareup.okhttp3:mockwebserver:4.+")
 }
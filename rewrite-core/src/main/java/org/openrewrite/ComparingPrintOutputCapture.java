@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compares what is printed to an expected text as it is printed, rather than accumulating the printed text. Once
+ * the printed text differs from the expected text, anything further that is printed is ignored.
+ */
+class ComparingPrintOutputCapture<P> extends PrintOutputCapture<P> {
+    private final String expected;
+    private int position;
+    private boolean mismatched;
+
+    ComparingPrintOutputCapture(P p, String expected) {
+        super(p);
+        this.expected = expected;
+    }
+
+    /**
+     * @return Whether everything printed so far equals the expected text in its entirety.
+     */
+    boolean isEqualToExpected() {
+        return !mismatched && position == expected.length();
+    }
+
+    /**
+     * @return The part of the expected text that has been printed so far, up to the first difference.
+     */
+    @Override
+    public String getOut() {
+        return expected.substring(0, position);
+    }
+
+    @Override
+    public PrintOutputCapture<P> append(@Nullable String text) {
+        if (mismatched || text == null || text.isEmpty()) {
+            return this;
+        }
+        if (!expected.startsWith(text, position)) {
+            mismatched = true;
+            return this;
+        }
+        position += text.length();
+        return this;
+    }
+
+    @Override
+    public PrintOutputCapture<P> append(char c) {
+        if (mismatched) {
+            return this;
+        }
+        if (position == expected.length() || expected.charAt(position) != c) {
+            mismatched = true;
+            return this;
+        }
+        position++;
+        return this;
+    }
+}
@@ -19,6 +19,7 @@
 import org.jspecify.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -46,6 +47,15 @@ public Cursor(@Nullable Cursor parent, Object value) {
         this.value = value;
     }
 
+    /**
+     * @return A root cursor whose messages may be read and written by visitors running on multiple threads.
+     */
+    static Cursor concurrentRoot() {
+        Cursor root = new Cursor(null, ROOT_VALUE);
+        root.messages = new ConcurrentHashMap<>();
+        return root;
+    }
+
     public Cursor getRoot() {
         Cursor c = this;
         while (c.parent != null) {
@@ -348,8 +358,8 @@ public <T> T getMessage(String key, T defaultValue) {
 
     public void clearMessages() {
         if (messages != null) {
+            // cleared in place so that a concurrent root cursor stays safe to share between threads
             messages.clear();
-            messages = null;
         }
     }
 
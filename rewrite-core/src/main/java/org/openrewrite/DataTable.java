@@ -82,12 +82,29 @@ public TypeReference<List<Row>> getRowsTypeReference() {
 
     public void insertRow(ExecutionContext ctx, Row row) {
         if (enabled && ctx.getCycle() <= maxCycle) {
-            ctx.computeMessage(ExecutionContext.DATA_TABLES, row, ConcurrentHashMap::new, (extract, allDataTables) -> {
-                //noinspection unchecked
-                List<Row> dataTablesOfType = (List<Row>) allDataTables.computeIfAbsent(this, c -> new ArrayList<>());
-                dataTablesOfType.add(row);
-                return allDataTables;
-            });
+            addRow(ctx, row);
         }
     }
+
+    /**
+     * Add a row to the {@link DataTableStore} registered in the execution context, or
+     * otherwise to the in-memory {@link ExecutionContext#DATA_TABLES}, regardless of
+     * whether this data table is enabled.
+     */
+    protected void addRow(ExecutionContext ctx, Row row) {
+        DataTableStore store = ctx.getMessage(DataTableStore.DATA_TABLE_STORE);
+        if (store != null) {
+            store.insertRow(this, row);
+            return;
+        }
+        ctx.computeMessage(ExecutionContext.DATA_TABLES, row, ConcurrentHashMap::new, (extract, allDataTables) -> {
+            //noinspection unchecked
+            List<Row> dataTablesOfType = (List<Row>) allDataTables.computeIfAbsent(this, c -> new ArrayList<>());
+            // rows may be inserted concurrently when source files are edited in parallel
+            synchronized (dataTablesOfType) {
+                dataTablesOfType.add(row);
+            }
+            return allDataTables;
+        });
+    }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Receives the rows inserted into {@link DataTable data tables} during a recipe run. When an instance is
+ * registered under {@link #DATA_TABLE_STORE} in the {@link ExecutionContext}, rows are sent to it instead
+ * of being collected in memory under {@link ExecutionContext#DATA_TABLES}.
+ * <p>
+ * Rows may be inserted concurrently when source files are edited in parallel.
+ */
+@Incubating(since = "8.40.0")
+public interface DataTableStore {
+    String DATA_TABLE_STORE = "org.openrewrite.dataTableStore";
+
+    <Row> void insertRow(DataTable<Row> dataTable, Row row);
+
+    /**
+     * @return The rows of every data table that has had rows inserted, which an implementation
+     * may read lazily as the returned lists are iterated.
+     */
+    Map<DataTable<?>, List<?>> getDataTables();
+}
@@ -35,6 +35,20 @@ public interface ExecutionContext {
     String CURRENT_RECIPE = "org.openrewrite.currentRecipe";
     String DATA_TABLES = "org.openrewrite.dataTables";
     String RUN_TIMEOUT = "org.openrewrite.runTimeout";
+
+    /**
+     * A {@link java.time.Duration} that all recipes together may spend on a single source file in one cycle
+     * before the remaining work on that source file is cancelled and the source file is skipped.
+     */
+    @Incubating(since = "8.40.0")
+    String SOURCE_FILE_TIMEOUT = "org.openrewrite.sourceFileTimeout";
+
+    /**
+     * A {@link java.time.Duration} that one recipe may spend scanning or editing a single source file before its
+     * work on that source file is cancelled and the source file is left as it was before that recipe.
+     */
+    @Incubating(since = "8.40.0")
+    String RECIPE_SOURCE_FILE_TIMEOUT = "org.openrewrite.recipeSourceFileTimeout";
     String REQUIRE_PRINT_EQUALS_INPUT = "org.openrewrite.requirePrintEqualsInput";
 
     @Incubating(since = "7.20.0")
@@ -20,6 +20,7 @@
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.function.UnaryOperator;
 
 /**
@@ -70,6 +71,22 @@ default void beforeCycle(boolean definitelyLastCycle) {
      */
     LargeSourceSet edit(UnaryOperator<SourceFile> map);
 
+    /**
+     * Execute a transformation on all items, where the transformation of independent source files
+     * may happen concurrently on the supplied executor. Implementations must preserve the order of
+     * source files so that the resulting {@link #getChangeset()} is the same as with {@link #edit(UnaryOperator)}.
+     * <p>
+     * The default implementation does not support concurrent edits and falls back to {@link #edit(UnaryOperator)}.
+     *
+     * @param map      A transformation on T, which must be safe to call from multiple threads.
+     * @param executor The executor on which to apply the transformation.
+     * @return A new source set if the map function results in any changes, otherwise this source set is returned.
+     */
+    @Incubating(since = "8.40.0")
+    default LargeSourceSet edit(UnaryOperator<SourceFile> map, ExecutorService executor) {
+        return edit(map);
+    }
+
     /**
      * Concatenate new items. Where possible, implementations should not iterate the entire source set in order
      * to accomplish this, since the ordering of {@link SourceFile} is not significant.
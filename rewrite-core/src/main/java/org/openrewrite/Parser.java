@@ -24,6 +24,7 @@
 import org.openrewrite.tree.ParsingExecutionContextView;
 
 import java.io.*;
+import java.lang.ref.SoftReference;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -41,30 +42,29 @@
 public interface Parser {
     @Incubating(since = "8.2.0")
     default SourceFile requirePrintEqualsInput(SourceFile sourceFile, Parser.Input input, @Nullable Path relativeTo, ExecutionContext ctx) {
-        if (ctx.getMessage(ExecutionContext.REQUIRE_PRINT_EQUALS_INPUT, true) &&
-            !sourceFile.printEqualsInput(input, ctx)) {
-            String diff = Result.diff(input.getSource(ctx).readFully(), sourceFile.printAll(), input.getPath());
-            return ParseError.build(
-                    this,
-                    input,
-                    relativeTo,
-                    ctx,
-                    new IllegalStateException(sourceFile.getSourcePath() + " is not print idempotent. \n" + diff)
-            ).withErroneous(sourceFile);
+        try {
+            if (ctx.getMessage(ExecutionContext.REQUIRE_PRINT_EQUALS_INPUT, true) &&
+                !sourceFile.printEqualsInput(input, ctx)) {
+                String diff = Result.diff(input.getSource(ctx).readFully(), sourceFile.printAll(), input.getPath());
+                return ParseError.build(
+                        this,
+                        input,
+                        relativeTo,
+                        ctx,
+                        new IllegalStateException(sourceFile.getSourcePath() + " is not print idempotent. \n" + diff)
+                ).withErroneous(sourceFile);
+            }
+            return sourceFile;
+        } finally {
+            // the contents of a file input are only kept to parse the file and check it prints back the same
+            input.releaseSource();
         }
-        return sourceFile;
     }
 
     default Stream<SourceFile> parse(Iterable<Path> sourceFiles, @Nullable Path relativeTo, ExecutionContext ctx) {
         return parseInputs(StreamSupport
                         .stream(sourceFiles.spliterator(), false)
-                        .map(sourceFile -> new Input(sourceFile, () -> {
-                            try {
-                                return new BufferedInputStream(Files.newInputStream(sourceFile));
-                            } catch (IOException e) {
-                                throw new UncheckedIOException(e);
-                            }
-                        }))
+                        .map(Input::fromFile)
                         .collect(toList()),
                 relativeTo,
                 ctx
@@ -175,14 +175,13 @@ public static Input fromString(Path sourcePath, String source, Charset charset)
             return new Input(sourcePath, null, () -> new ByteArrayInputStream(source.getBytes(charset)), true);
         }
 
+        /**
+         * An input whose file is read from disk once, however many times its source is read, so that parsing
+         * the file and checking that it prints back as it was read share the same contents. The contents are
+         * released by {@link Parser#requirePrintEqualsInput(SourceFile, Input, Path, ExecutionContext)}.
+         */
         public static Input fromFile(Path sourcePath) {
-            return new Input(sourcePath, FileAttributes.fromPath(sourcePath), () -> {
-                try {
-                    return Files.newInputStream(sourcePath);
-                } catch (IOException e) {
-                    throw new UncheckedIOException(e);
-                }
-            }, false);
+            return new Input(sourcePath, FileAttributes.fromPath(sourcePath), new FileContents(sourcePath), false);
         }
 
         @SuppressWarnings("unused")
@@ -227,6 +226,47 @@ public boolean equals(Object o) {
         public int hashCode() {
             return Objects.hash(path);
         }
+
+        /**
+         * Release the contents of a file input once they are no longer needed, so that they are read from disk
+         * again if the input is read again.
+         */
+        void releaseSource() {
+            if (source instanceof FileContents) {
+                ((FileContents) source).release();
+            }
+        }
+
+        /**
+         * The contents of a file, read onto the heap when they are first needed. They are softly referenced, so
+         * they are read again rather than held onto when memory runs short.
+         */
+        private static class FileContents implements Supplier<InputStream> {
+            private final Path path;
+            private SoftReference<byte[]> contents = new SoftReference<>(null);
+
+            FileContents(Path path) {
+                this.path = path;
+            }
+
+            @Override
+            public synchronized InputStream get() {
+                byte[] bytes = contents.get();
+                if (bytes == null) {
+                    try {
+                        bytes = Files.readAllBytes(path);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    contents = new SoftReference<>(bytes);
+                }
+                return new ByteArrayInputStream(bytes);
+            }
+
+            synchronized void release() {
+                contents.clear();
+            }
+        }
     }
 
     Path sourcePathFromSourceText(Path prefix, String sourceCode);
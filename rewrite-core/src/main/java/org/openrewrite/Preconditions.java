@@ -129,6 +129,22 @@ public static Supplier<TreeVisitor<?, ExecutionContext>> and(Supplier<TreeVisito
         };
     }
 
+    /**
+     * A precondition visitor that can decide whether a source file matches without visiting it,
+     * e.g. from an index of the source file that is built once and reused by every check of that
+     * source file. {@link Check} uses it in place of visiting the source file and comparing the
+     * result, which also avoids copying the source file to add a {@link SearchResult}.
+     */
+    @Incubating(since = "8.40.0")
+    public interface SourceFileMatcher {
+        /**
+         * @param sourceFile The source file to check.
+         * @param ctx        The execution context.
+         * @return true if visiting the source file with this visitor would have changed it.
+         */
+        boolean matches(SourceFile sourceFile, ExecutionContext ctx);
+    }
+
     public static class RecipeCheck extends Check {
         private final Recipe check;
 
@@ -162,7 +178,7 @@ public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
         public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
             // if tree isn't an instanceof SourceFile, then a precondition visitor may
             // not be able to do its work because it may assume we are starting from the root level
-            return !(tree instanceof SourceFile) || check.visit(tree, ctx) != tree ?
+            return !(tree instanceof SourceFile) || matches((SourceFile) tree, ctx, null) ?
                     v.visit(tree, ctx) :
                     tree;
         }
@@ -171,9 +187,16 @@ public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
         public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx, Cursor parent) {
             // if tree isn't an instanceof SourceFile, then a precondition visitor may
             // not be able to do its work because it may assume we are starting from the root level
-            return !(tree instanceof SourceFile) || check.visit(tree, ctx, parent) != tree ?
+            return !(tree instanceof SourceFile) || matches((SourceFile) tree, ctx, parent) ?
                     v.visit(tree, ctx, parent) :
                     tree;
         }
+
+        private boolean matches(SourceFile sourceFile, ExecutionContext ctx, @Nullable Cursor parent) {
+            if (check instanceof SourceFileMatcher) {
+                return ((SourceFileMatcher) check).matches(sourceFile, ctx);
+            }
+            return (parent == null ? check.visit(sourceFile, ctx) : check.visit(sourceFile, ctx, parent)) != sourceFile;
+        }
     }
 }
@@ -306,6 +306,18 @@ public boolean causesAnotherCycle() {
         return false;
     }
 
+    /**
+     * @return Determines if a change this recipe makes to one source file can lead to changes in other source files
+     * on a subsequent cycle. When a {@link RecipeScheduler} runs incremental cycles and none of the recipes that made
+     * changes in a cycle affect other source files, the next cycle only edits the source files that were changed in
+     * that cycle. Recipes whose changes to one source file require changes to other source files on the next cycle,
+     * like renaming a method declaration and then its invocations, should return {@code true}.
+     */
+    @Incubating(since = "8.40.0")
+    public boolean changesAffectOtherSourceFiles() {
+        return false;
+    }
+
     /**
      * A list of recipes that run, source file by source file,
      * after this recipe. This method is guaranteed to be called only once
@@ -15,6 +15,7 @@
  */
 package org.openrewrite;
 
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.scheduling.RecipeRunCycle;
 import org.openrewrite.scheduling.WatchableExecutionContext;
 import org.openrewrite.table.RecipeRunStats;
@@ -24,6 +25,10 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
@@ -31,6 +36,42 @@
 import static org.openrewrite.scheduling.WorkingDirectoryExecutionContextView.WORKING_DIRECTORY_ROOT;
 
 public class RecipeScheduler {
+    @Nullable
+    private final ExecutorService executor;
+
+    private final boolean incrementalCycles;
+
+    public RecipeScheduler() {
+        this(null);
+    }
+
+    /**
+     * Create a scheduler that scans and edits independent source files concurrently. Each source file is still
+     * passed through the recipes in order, and the resulting changeset is the same order as a sequential run.
+     * Only the {@link ScanningRecipe}s that can merge accumulators scan concurrently, the others scan sequentially
+     * once the concurrent scan is complete, see {@link ScanningRecipe#canMergeAccumulators()}. Data table rows may
+     * be inserted in a different order than in a sequential run.
+     *
+     * @param executor The executor to schedule work on or {@code null} to run sequentially on the calling thread.
+     *                 The executor is not shut down by the scheduler.
+     */
+    @Incubating(since = "8.40.0")
+    public RecipeScheduler(@Nullable ExecutorService executor) {
+        this(executor, false);
+    }
+
+    /**
+     * @param executor          The executor to schedule work on or {@code null} to run sequentially on the calling thread.
+     * @param incrementalCycles When {@code true}, cycles after the first only edit the source files changed in the
+     *                          previous cycle, unless a recipe that made changes reports that its changes affect other
+     *                          source files (see {@link Recipe#changesAffectOtherSourceFiles()}) or the run contains a
+     *                          {@link ScanningRecipe}, whose accumulators are rebuilt from every source file each cycle.
+     */
+    @Incubating(since = "8.40.0")
+    public RecipeScheduler(@Nullable ExecutorService executor, boolean incrementalCycles) {
+        this.executor = executor;
+        this.incrementalCycles = incrementalCycles;
+    }
 
     public RecipeRun scheduleRun(Recipe recipe,
                                  LargeSourceSet sourceSet,
@@ -39,9 +80,12 @@ public RecipeRun scheduleRun(Recipe recipe,
                                  int minCycles) {
         try {
             LargeSourceSet after = runRecipeCycles(recipe, sourceSet, ctx, maxCycles, minCycles);
+            DataTableStore dataTableStore = ctx.getMessage(DataTableStore.DATA_TABLE_STORE);
             return new RecipeRun(
                     after.getChangeset(),
-                    ctx.getMessage(ExecutionContext.DATA_TABLES, emptyMap())
+                    dataTableStore == null ?
+                            ctx.getMessage(ExecutionContext.DATA_TABLES, emptyMap()) :
+                            dataTableStore.getDataTables()
             );
         } finally {
             Path workingDirectoryRoot = ctx.getMessage(WORKING_DIRECTORY_ROOT);
@@ -59,6 +103,15 @@ private LargeSourceSet runRecipeCycles(Recipe recipe, LargeSourceSet sourceSet,
         SourcesFileResults sourceFileResults = new SourcesFileResults(Recipe.noop());
 
         LargeSourceSet after = sourceSet;
+        boolean hasScanningRecipe = hasScanningRecipe(recipe);
+
+        // when not null, the source files that the next cycle needs to edit
+        Set<UUID> sourceFilesToEdit = null;
+
+        if (executor != null && ctx.getMessage(ExecutionContext.DATA_TABLES) == null) {
+            // so that data tables inserted into concurrently don't race to create the map of all data tables
+            ctx.putMessage(ExecutionContext.DATA_TABLES, new ConcurrentHashMap<>());
+        }
 
         try {
             for (int i = 1; i <= maxCycles; i++) {
@@ -69,16 +122,17 @@ private LargeSourceSet runRecipeCycles(Recipe recipe, LargeSourceSet sourceSet,
                 // this root cursor is shared by all `TreeVisitor` instances used created from `getVisitor` and
                 // single source applicable tests so that data can be shared at the root (especially for caching
                 // use cases like sharing a `JavaTypeCache` between `JavaTemplate` parsers).
-                Cursor rootCursor = new Cursor(null, Cursor.ROOT_VALUE);
+                Cursor rootCursor = executor == null ? new Cursor(null, Cursor.ROOT_VALUE) : Cursor.concurrentRoot();
                 try {
                     RecipeRunCycle<LargeSourceSet> cycle = new RecipeRunCycle<>(recipe, i, rootCursor, ctxWithWatch,
-                            recipeRunStats, sourceFileResults, errorsTable, LargeSourceSet::edit);
+                            recipeRunStats, sourceFileResults, errorsTable, LargeSourceSet::edit, executor);
+                    cycle.setSourceFilesToEdit(sourceFilesToEdit);
                     ctxWithWatch.putCycle(cycle);
                     after.beforeCycle(i == maxCycles);
 
                     // pre-transformation scanning phase where there can only be modifications to capture exceptions
                     // occurring during the scanning phase
-                    if (hasScanningRecipe(recipe)) {
+                    if (hasScanningRecipe) {
                         after = cycle.scanSources(after);
                     }
 
@@ -101,6 +155,10 @@ private LargeSourceSet runRecipeCycles(Recipe recipe, LargeSourceSet sourceSet,
 
                     after.afterCycle(i == maxCycles);
                     ctxWithWatch.resetHasNewMessages();
+
+                    sourceFilesToEdit = incrementalCycles && !hasScanningRecipe &&
+                                        !anyChangesAffectOtherSourceFiles(cycle) ?
+                            cycle.getChangedSourceFiles() : null;
                 } finally {
                     // Clear any messages that were added to the root cursor during the cycle. This is important
                     // to avoid leaking memory in the case when a recipe defines a static TreeVisitor. That
@@ -117,6 +175,15 @@ private LargeSourceSet runRecipeCycles(Recipe recipe, LargeSourceSet sourceSet,
         return after;
     }
 
+    private boolean anyChangesAffectOtherSourceFiles(RecipeRunCycle<?> cycle) {
+        for (Recipe madeChanges : cycle.getMadeChangesInThisCycle()) {
+            if (madeChanges.changesAffectOtherSourceFiles()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean hasScanningRecipe(Recipe recipe) {
         if (recipe instanceof ScanningRecipe) {
             return true;
@@ -22,9 +22,15 @@
 import org.openrewrite.jgit.lib.FileMode;
 import org.openrewrite.marker.RecipesThatMadeChanges;
 import org.openrewrite.marker.SearchResult;
+import org.openrewrite.quark.Quark;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -230,6 +236,63 @@ public String diff(@Nullable Path relativeTo, PrintOutputCapture.@Nullable Marke
         }
     }
 
+    /**
+     * Write the after-state of this result to the files under a directory, printing the source file straight to
+     * disk. A changed file is overwritten, a moved file is written to its new path before it is removed from its old
+     * one, and a deleted file is removed. A {@link Quark} has no contents to print, so a moved quark's file is moved
+     * as it is.
+     *
+     * @param root The directory that the source paths of this result are relative to.
+     * @return The path written to, or {@code null} if the file was deleted.
+     */
+    @Incubating(since = "8.40.0")
+    public @Nullable Path writeAfter(Path root) {
+        try {
+            Path beforePath = before == null ? null : root.resolve(before.getSourcePath());
+            if (after == null) {
+                if (beforePath != null) {
+                    Files.deleteIfExists(beforePath);
+                }
+                return null;
+            }
+            Path path = root.resolve(after.getSourcePath());
+            boolean moved = beforePath != null && !beforePath.equals(path);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            if (after instanceof Quark) {
+                if (moved) {
+                    Files.move(beforePath, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } else {
+                try (OutputStream out = Files.newOutputStream(path)) {
+                    after.printAllTo(out);
+                }
+                if (moved) {
+                    Files.deleteIfExists(beforePath);
+                }
+            }
+            if (after.getFileAttributes() != null && after.getFileAttributes().isExecutable()) {
+                //noinspection ResultOfMethodCallIgnored
+                path.toFile().setExecutable(true);
+            }
+            return path;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write the after-state of this result to a stream, such as that of an entry of an archive, printing the source
+     * file straight to the stream. Nothing is written if the file was deleted. The stream is not closed.
+     */
+    @Incubating(since = "8.40.0")
+    public void writeAfter(OutputStream out) {
+        if (after != null) {
+            after.printAllTo(out);
+        }
+    }
+
     public static @Nullable String diff(String before, String after, Path path) {
         String diff = null;
         try (InMemoryDiffEntry diffEntry = new InMemoryDiffEntry(
@@ -34,13 +34,21 @@
  */
 public abstract class ScanningRecipe<T> extends Recipe {
     @Nullable
-    private String recipeAccMessage;
+    private volatile String recipeAccMessage;
 
     private String getRecipeAccMessage() {
-        if (recipeAccMessage == null) {
-            recipeAccMessage = "org.openrewrite.recipe.acc." + UUID.randomUUID();
+        String message = recipeAccMessage;
+        if (message == null) {
+            // accumulators may be requested from several threads at once when scanning concurrently
+            synchronized (this) {
+                message = recipeAccMessage;
+                if (message == null) {
+                    message = "org.openrewrite.recipe.acc." + UUID.randomUUID();
+                    recipeAccMessage = message;
+                }
+            }
         }
-        return recipeAccMessage;
+        return message;
     }
 
     /**
@@ -97,6 +105,54 @@ public T getAccumulator(Cursor cursor, ExecutionContext ctx) {
         return cursor.getRoot().computeMessageIfAbsent(getRecipeAccMessage(), m -> getInitialValue(ctx));
     }
 
+    /**
+     * When a {@link RecipeScheduler} is configured to run recipes concurrently, recipes that can merge
+     * accumulators scan source files concurrently. Each worker thread scans a subset of the source files
+     * into its own accumulator, starting from {@link #getInitialValue(ExecutionContext)}, and these are
+     * combined with {@link #mergeAccumulators(Object, Object, ExecutionContext)} before
+     * {@link #generate(Object, Collection, ExecutionContext)} is called. Recipes that can't merge accumulators
+     * fall back to scanning every source file sequentially into a single accumulator once the concurrent
+     * scan is complete.
+     *
+     * @return {@code true} if this recipe overrides {@link #mergeAccumulators(Object, Object, ExecutionContext)}.
+     */
+    @Incubating(since = "8.40.0")
+    public boolean canMergeAccumulators() {
+        return false;
+    }
+
+    /**
+     * Combine two accumulators that were each populated by scanning a disjoint subset of source files.
+     * The order in which worker accumulators are merged is not defined. This is only called when
+     * {@link #canMergeAccumulators()} returns {@code true}, so recipes that override this method must
+     * also override {@link #canMergeAccumulators()}.
+     * <br/>
+     * By default, source files are scanned sequentially into a single accumulator, so there is never
+     * another accumulator to merge and {@code acc} is returned as it is.
+     *
+     * @param acc   The accumulator that will be used for the rest of the cycle.
+     * @param other An accumulator populated by another worker thread.
+     * @return The combined accumulator, which may be {@code acc} itself if it was modified in place.
+     */
+    @Incubating(since = "8.40.0")
+    public T mergeAccumulators(T acc, T other, ExecutionContext ctx) {
+        return acc;
+    }
+
+    /**
+     * Merge the accumulator held by the root of {@code from}, if any, into the accumulator held by the root of {@code into}.
+     */
+    @Incubating(since = "8.40.0")
+    public void mergeAccumulator(Cursor into, Cursor from, ExecutionContext ctx) {
+        if (!canMergeAccumulators()) {
+            throw new IllegalStateException(getName() + " does not support merging accumulators, so its source files must be scanned sequentially.");
+        }
+        T other = from.getRoot().getMessage(getRecipeAccMessage());
+        if (other != null) {
+            into.getRoot().putMessage(getRecipeAccMessage(), mergeAccumulators(getAccumulator(into, ctx), other, ctx));
+        }
+    }
+
     @Override
     public final TreeVisitor<?, ExecutionContext> getVisitor() {
         return new TreeVisitor<Tree, ExecutionContext>() {
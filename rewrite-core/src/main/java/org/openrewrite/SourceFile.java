@@ -20,6 +20,7 @@
 import org.openrewrite.style.NamedStyles;
 import org.openrewrite.style.Style;
 
+import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
@@ -36,12 +37,14 @@ public interface SourceFile extends Tree {
      * @return <code>true</code> if the parse-to-print loop is idempotent, <code>false</code> otherwise.
      */
     default boolean printEqualsInput(Parser.Input input, ExecutionContext ctx) {
-        String printed = printAll();
         Charset charset = getCharset();
-        if (charset != null) {
-            return printed.equals(StringUtils.readFully(input.getSource(ctx), charset));
-        }
-        return printed.equals(StringUtils.readFully(input.getSource(ctx)));
+        String source = charset == null ?
+                StringUtils.readFully(input.getSource(ctx)) :
+                StringUtils.readFully(input.getSource(ctx), charset);
+        // compared as it is printed, so that the printed source file is never held in memory in its entirety
+        ComparingPrintOutputCapture<Integer> out = new ComparingPrintOutputCapture<>(0, source);
+        printAll(out);
+        return out.isEqualToExpected();
     }
 
     /**
@@ -80,7 +83,33 @@ default <S extends Style> S getStyle(Class<S> style, S defaultStyle) {
     }
 
     default <P> byte[] printAllAsBytes(P p) {
-        return printAll(p).getBytes(getCharset() == null ? StandardCharsets.UTF_8 : getCharset());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        printAllTo(out, p);
+        return out.toByteArray();
+    }
+
+    /**
+     * Print this source file to the stream in its charset, encoding it as it is printed rather than printing it
+     * to a String first. The stream is flushed but not closed.
+     *
+     * @param out The stream to print to, like that of a file or of an entry of an archive.
+     */
+    @Incubating(since = "8.40.0")
+    default <P> void printAllTo(OutputStream out, P p) {
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out,
+                    getCharset() == null ? StandardCharsets.UTF_8 : getCharset()));
+            Cursor root = new Cursor(null, "root");
+            this.<P>printer(root).visit(this, new WriterPrintOutputCapture<>(p, writer), root);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Incubating(since = "8.40.0")
+    default void printAllTo(OutputStream out) {
+        printAllTo(out, 0);
     }
 
     default byte[] printAllAsBytes() {
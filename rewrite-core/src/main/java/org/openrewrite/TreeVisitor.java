@@ -15,11 +15,9 @@
  */
 package org.openrewrite;
 
-import io.micrometer.core.instrument.DistributionSummary;
-import io.micrometer.core.instrument.Metrics;
-import io.micrometer.core.instrument.Timer;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.internal.Cancellation;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.internal.RecipeRunException;
 import org.openrewrite.internal.TreeVisitorAdapter;
@@ -74,7 +72,6 @@ public static <T extends Tree, P> TreeVisitor<T, P> noop() {
     private @Nullable List<TreeVisitor<?, P>> afterVisit;
 
     private int visitCount;
-    private final DistributionSummary visitCountSummary = DistributionSummary.builder("rewrite.visitor.visit.method.count").description("Visit methods called per source file visited.").tag("visitor.class", getClass().getName()).register(Metrics.globalRegistry);
 
     public boolean isAcceptable(SourceFile sourceFile, P p) {
         return true;
@@ -227,11 +224,19 @@ public P reduce(Tree tree, P p, Cursor parent) {
             return defaultValue(null, p);
         }
 
-        Timer.Sample sample = null;
+        Cancellation.checkCancelled();
+
+        TreeVisitorMetrics metrics = null;
+        long start = 0;
         boolean topLevel = false;
         if (visitCount == 0) {
             topLevel = true;
-            sample = Timer.start();
+            if (p instanceof ExecutionContext) {
+                metrics = ((ExecutionContext) p).getMessage(TreeVisitorMetrics.TREE_VISITOR_METRICS);
+                if (metrics != null) {
+                    start = System.nanoTime();
+                }
+            }
         }
 
         visitCount++;
@@ -266,8 +271,8 @@ public P reduce(Tree tree, P p, Cursor parent) {
             setCursor(cursor.getParent());
 
             if (topLevel) {
-                sample.stop(Timer.builder("rewrite.visitor.visit").tag("visitor.class", getClass().getName()).register(Metrics.globalRegistry));
-                visitCountSummary.record(visitCount);
+                long visitNanos = metrics == null ? 0 : System.nanoTime() - start;
+                int topLevelVisitCount = visitCount;
 
                 if (t != null && afterVisit != null) {
                     for (TreeVisitor<?, P> v : afterVisit) {
@@ -277,7 +282,9 @@ public P reduce(Tree tree, P p, Cursor parent) {
                     }
                 }
 
-                sample.stop(Timer.builder("rewrite.visitor.visit.cumulative").tag("visitor.class", getClass().getName()).register(Metrics.globalRegistry));
+                if (metrics != null) {
+                    metrics.recordVisit(this, topLevelVisitCount, visitNanos, System.nanoTime() - start);
+                }
                 afterVisit = null;
                 visitCount = 0;
             }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receives a measurement of each top-level {@link TreeVisitor#visit(Tree, Object)}, which is a visit made by a
+ * visitor that isn't already visiting a tree. Visits are only measured when an instance is registered under
+ * {@link #TREE_VISITOR_METRICS} in the {@link ExecutionContext} passed to the visitor, so that visiting costs
+ * nothing more than counting visit methods by default.
+ */
+@Incubating(since = "8.40.0")
+public interface TreeVisitorMetrics {
+    String TREE_VISITOR_METRICS = "org.openrewrite.treeVisitorMetrics";
+
+    /**
+     * @param visitor         The visitor that made the visit.
+     * @param visitCount      The number of visit methods called, including the top-level one.
+     * @param visitNanos      The time spent visiting the tree.
+     * @param cumulativeNanos The time spent visiting the tree and running the visitors scheduled with
+     *                        {@link TreeVisitor#doAfterVisit(TreeVisitor)}.
+     */
+    void recordVisit(TreeVisitor<?, ?> visitor, int visitCount, long visitNanos, long cumulativeNanos);
+
+    /**
+     * @return Metrics recorded as the {@code rewrite.visitor.visit}, {@code rewrite.visitor.visit.cumulative} timers
+     * and the {@code rewrite.visitor.visit.method.count} distribution summary, tagged by visitor class.
+     */
+    static TreeVisitorMetrics micrometer(MeterRegistry registry) {
+        return new Micrometer(registry);
+    }
+
+    static TreeVisitorMetrics micrometer() {
+        return micrometer(Metrics.globalRegistry);
+    }
+
+    class Micrometer implements TreeVisitorMetrics {
+        private final MeterRegistry registry;
+
+        /**
+         * Meters are registered once per visitor class rather than looked up in the registry on every visit.
+         */
+        private final Map<Class<?>, Meters> metersByVisitor = new ConcurrentHashMap<>();
+
+        private Micrometer(MeterRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public void recordVisit(TreeVisitor<?, ?> visitor, int visitCount, long visitNanos, long cumulativeNanos) {
+            Meters meters = metersByVisitor.computeIfAbsent(visitor.getClass(), Meters::new);
+            meters.visit.record(visitNanos, TimeUnit.NANOSECONDS);
+            meters.cumulative.record(cumulativeNanos, TimeUnit.NANOSECONDS);
+            meters.visitCount.record(visitCount);
+        }
+
+        private class Meters {
+            final Timer visit;
+            final Timer cumulative;
+            final DistributionSummary visitCount;
+
+            Meters(Class<?> visitorClass) {
+                visit = Timer.builder("rewrite.visitor.visit")
+                        .tag("visitor.class", visitorClass.getName())
+                        .register(registry);
+                cumulative = Timer.builder("rewrite.visitor.visit.cumulative")
+                        .tag("visitor.class", visitorClass.getName())
+                        .register(registry);
+                visitCount = DistributionSummary.builder("rewrite.visitor.visit.method.count")
+                        .description("Visit methods called per source file visited.")
+                        .tag("visitor.class", visitorClass.getName())
+                        .register(registry);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Writes what is printed straight to a {@link Writer} rather than accumulating it in memory, so that a source file
+ * can be printed to a file or an archive without ever being held as a String. What has been printed isn't kept, so
+ * {@link #getOut()} always returns an empty string. The writer is neither flushed nor closed.
+ */
+@Incubating(since = "8.40.0")
+public class WriterPrintOutputCapture<P> extends PrintOutputCapture<P> {
+    private final Writer writer;
+    private long written;
+
+    public WriterPrintOutputCapture(P p, Writer writer) {
+        super(p);
+        this.writer = writer;
+    }
+
+    public WriterPrintOutputCapture(P p, MarkerPrinter markerPrinter, Writer writer) {
+        super(p, markerPrinter);
+        this.writer = writer;
+    }
+
+    /**
+     * @return The number of characters written so far.
+     */
+    public long getWritten() {
+        return written;
+    }
+
+    /**
+     * @return An empty string, as printed output is written to the writer rather than captured.
+     */
+    @Override
+    public String getOut() {
+        return "";
+    }
+
+    @Override
+    public PrintOutputCapture<P> append(@Nullable String text) {
+        if (text == null || text.isEmpty()) {
+            return this;
+        }
+        try {
+            writer.write(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        written += text.length();
+        return this;
+    }
+
+    @Override
+    public PrintOutputCapture<P> append(char c) {
+        try {
+            writer.write(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        written++;
+        return this;
+    }
+}
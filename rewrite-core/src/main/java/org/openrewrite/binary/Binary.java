@@ -21,6 +21,9 @@
 import org.openrewrite.*;
 import org.openrewrite.marker.Markers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.UUID;
@@ -70,6 +73,16 @@ public <P> byte[] printAllAsBytes(P p) {
         return bytes;
     }
 
+    @Override
+    public <P> void printAllTo(OutputStream out, P p) {
+        try {
+            out.write(bytes);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public <P> String printAll(P p) {
         throw new UnsupportedOperationException("Cannot print a binary as a string.");
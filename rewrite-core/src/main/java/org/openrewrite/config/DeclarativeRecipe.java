@@ -202,6 +202,11 @@ public List<Recipe> getRecipeList() {
         public boolean causesAnotherCycle() {
             return delegate.causesAnotherCycle();
         }
+
+        @Override
+        public boolean changesAffectOtherSourceFiles() {
+            return delegate.changesAffectOtherSourceFiles();
+        }
     }
 
     @Value
@@ -236,6 +241,16 @@ public TreeVisitor<?, ExecutionContext> getScanner(T acc) {
             return delegate.getScanner(acc);
         }
 
+        @Override
+        public boolean canMergeAccumulators() {
+            return delegate.canMergeAccumulators();
+        }
+
+        @Override
+        public T mergeAccumulators(T acc, T other, ExecutionContext ctx) {
+            return delegate.mergeAccumulators(acc, other, ctx);
+        }
+
         @Override
         public Collection<? extends SourceFile> generate(T acc, ExecutionContext ctx) {
             return delegate.generate(acc, ctx);
@@ -255,6 +270,11 @@ public List<Recipe> getRecipeList() {
         public boolean causesAnotherCycle() {
             return delegate.causesAnotherCycle();
         }
+
+        @Override
+        public boolean changesAffectOtherSourceFiles() {
+            return delegate.changesAffectOtherSourceFiles();
+        }
     }
 
     @Override
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.internal;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Time budgets for work done on the current thread, which {@link org.openrewrite.TreeVisitor} cooperatively
+ * enforces by throwing a {@link CancellationException} from the next call to
+ * {@link org.openrewrite.TreeVisitor#visit(org.openrewrite.Tree, Object)} once a budget is exceeded.
+ * <p>
+ * A single watchdog thread marks budgets as exceeded when they expire, so that the check made on every visit
+ * is only a read of a volatile counter for as long as no budget on any thread has been exceeded.
+ */
+public final class Cancellation {
+    private static final ThreadLocal<@Nullable Budget> current = new ThreadLocal<>();
+
+    /**
+     * The number of budgets that are exceeded but not yet closed, across all threads.
+     */
+    private static final AtomicInteger exceeded = new AtomicInteger();
+
+    private static final ScheduledThreadPoolExecutor watchdog;
+
+    static {
+        watchdog = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "rewrite-cancellation-watchdog");
+            t.setDaemon(true);
+            return t;
+        });
+        watchdog.setRemoveOnCancelPolicy(true);
+    }
+
+    private Cancellation() {
+    }
+
+    /**
+     * Start a budget for work done on the calling thread, which must close it when the work is done.
+     * Budgets may be nested, in which case exceeding any of them cancels the work.
+     *
+     * @param timeout The time budget, or null for no budget.
+     * @return The budget, or null when there is no timeout.
+     */
+    public static @Nullable Budget start(@Nullable Duration timeout) {
+        if (timeout == null) {
+            return null;
+        }
+        Budget budget = new Budget(current.get());
+        budget.timer = watchdog.schedule(budget::exceed, timeout.toNanos(), TimeUnit.NANOSECONDS);
+        current.set(budget);
+        return budget;
+    }
+
+    /**
+     * @throws CancellationException if any budget of the calling thread has been exceeded.
+     */
+    public static void checkCancelled() {
+        if (exceeded.get() != 0) {
+            for (Budget budget = current.get(); budget != null; budget = budget.parent) {
+                if (budget.isExceeded()) {
+                    throw new CancellationException("Time budget exceeded");
+                }
+            }
+        }
+    }
+
+    public static final class Budget implements AutoCloseable {
+        private final @Nullable Budget parent;
+        private @Nullable ScheduledFuture<?> timer;
+        private volatile boolean exceeded;
+        private boolean closed;
+
+        private Budget(@Nullable Budget parent) {
+            this.parent = parent;
+        }
+
+        private synchronized void exceed() {
+            if (!closed && !exceeded) {
+                exceeded = true;
+                Cancellation.exceeded.incrementAndGet();
+            }
+        }
+
+        public boolean isExceeded() {
+            return exceeded;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            if (exceeded) {
+                Cancellation.exceeded.decrementAndGet();
+            }
+            current.set(parent);
+        }
+    }
+}
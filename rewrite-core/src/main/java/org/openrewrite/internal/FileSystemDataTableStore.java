@@ -0,0 +1,272 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.internal;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.ConstructorDetector;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.openrewrite.DataTable;
+import org.openrewrite.DataTableStore;
+import org.openrewrite.Incubating;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link DataTableStore} that streams rows to one file per data table in a local directory, so that the
+ * rows of a recipe run don't have to fit in memory. Rows are buffered in memory and appended to the file in
+ * batches. The lists returned by {@link #getDataTables()} read rows back from disk in batches of the same size
+ * as they are iterated or accessed by index, and don't hold the file open between batches.
+ * <p>
+ * Rows are stored in Jackson's binary Smile format rather than as CSV so that they can be read back as
+ * instances of the data table's row type. {@link org.openrewrite.RecipeRun#exportDatatablesToCsv} still
+ * produces CSV from these lists.
+ */
+@Incubating(since = "8.40.0")
+public class FileSystemDataTableStore implements DataTableStore, AutoCloseable {
+    private static final int DEFAULT_BUFFER_SIZE = 1_000;
+
+    private static final ObjectMapper mapper;
+
+    static {
+        ObjectMapper m = JsonMapper.builder(new SmileFactory())
+                .constructorDetector(ConstructorDetector.USE_PROPERTIES_BASED)
+                .build()
+                .registerModule(new ParameterNamesModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        mapper = m.setVisibility(m.getSerializationConfig().getDefaultVisibilityChecker()
+                .withFieldVisibility(JsonAutoDetect.Visibility.ANY)
+                .withGetterVisibility(JsonAutoDetect.Visibility.NONE)
+                .withIsGetterVisibility(JsonAutoDetect.Visibility.NONE)
+                .withSetterVisibility(JsonAutoDetect.Visibility.NONE)
+                .withCreatorVisibility(JsonAutoDetect.Visibility.PUBLIC_ONLY));
+    }
+
+    private final Path directory;
+    private final int bufferSize;
+    private final AtomicInteger tableCount = new AtomicInteger();
+
+    /**
+     * Each table is locked on its own, and tables are numbered so that data tables can be exposed in the
+     * order they first received a row.
+     */
+    private final ConcurrentMap<DataTable<?>, Table> tables = new ConcurrentHashMap<>();
+
+    public FileSystemDataTableStore(Path directory) {
+        this(directory, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param directory  A directory to store rows in, which will be created if it doesn't exist.
+     * @param bufferSize The number of rows of each data table to hold in memory before appending them to disk,
+     *                   which is also the number of rows read back from disk at a time.
+     */
+    public FileSystemDataTableStore(Path directory, int bufferSize) {
+        this.directory = directory;
+        this.bufferSize = Math.max(1, bufferSize);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public <Row> void insertRow(DataTable<Row> dataTable, Row row) {
+        tables.computeIfAbsent(dataTable, t -> new Table(tableCount.getAndIncrement(), t.getType())).add(row);
+    }
+
+    @Override
+    public Map<DataTable<?>, List<?>> getDataTables() {
+        List<Map.Entry<DataTable<?>, Table>> entries = new ArrayList<>(tables.entrySet());
+        entries.sort(Comparator.comparingInt(entry -> entry.getValue().index));
+        Map<DataTable<?>, List<?>> dataTables = new LinkedHashMap<>();
+        for (Map.Entry<DataTable<?>, Table> entry : entries) {
+            Table table = entry.getValue();
+            dataTables.put(entry.getKey(), new Rows(table, table.flush()));
+        }
+        return dataTables;
+    }
+
+    /**
+     * Delete all stored rows. Lists returned by {@link #getDataTables()} may not be used after the store is closed.
+     */
+    @Override
+    public void close() {
+        for (Iterator<Table> iterator = tables.values().iterator(); iterator.hasNext(); ) {
+            Table table = iterator.next();
+            iterator.remove();
+            try {
+                Files.deleteIfExists(table.file);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private class Table {
+        final int index;
+        final Class<?> rowType;
+        final Path file;
+        final List<Object> buffer = new ArrayList<>();
+        int size;
+
+        /**
+         * The length of the file, and the position in it of every {@link #bufferSize}th row.
+         */
+        long length;
+        final List<Long> batchPositions = new ArrayList<>();
+
+        Table(int index, Class<?> rowType) {
+            this.index = index;
+            this.rowType = rowType;
+            this.file = directory.resolve(index + ".rows");
+        }
+
+        synchronized void add(Object row) {
+            buffer.add(row);
+            size++;
+            if (buffer.size() >= bufferSize) {
+                flush();
+            }
+        }
+
+        /**
+         * @return The number of rows on disk after the flush.
+         */
+        synchronized int flush() {
+            if (buffer.isEmpty()) {
+                return size;
+            }
+            int position = size - buffer.size();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(file.toFile(), true)))) {
+                for (Object row : buffer) {
+                    if (position++ % bufferSize == 0) {
+                        batchPositions.add(length);
+                    }
+                    byte[] bytes = mapper.writeValueAsBytes(row);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                    length += Integer.BYTES + bytes.length;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            buffer.clear();
+            return size;
+        }
+
+        /**
+         * Read the rows of a batch, which must have been flushed to disk.
+         */
+        List<Object> read(int batch, int count) {
+            long position;
+            synchronized (this) {
+                position = batchPositions.get(batch);
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                channel.position(position);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+                List<Object> rows = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    byte[] bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    rows.add(mapper.readValue(bytes, rowType));
+                }
+                return rows;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * The rows of a data table as of the time it was requested, read from disk one batch at a time.
+     */
+    private class Rows extends AbstractList<Object> {
+        private final Table table;
+        private final int size;
+
+        private int batch = -1;
+        private List<Object> batchRows = Collections.emptyList();
+
+        Rows(Table table, int size) {
+            this.table = table;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Object get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            if (index / bufferSize != batch) {
+                batch = index / bufferSize;
+                batchRows = read(batch);
+            }
+            return batchRows.get(index % bufferSize);
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Iterator<Object>() {
+                int next;
+                List<Object> rows = Collections.emptyList();
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public Object next() {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    if (next % bufferSize == 0) {
+                        rows = read(next / bufferSize);
+                    }
+                    return rows.get(next++ % bufferSize);
+                }
+            };
+        }
+
+        private List<Object> read(int batch) {
+            return table.read(batch, Math.min(bufferSize, size - batch * bufferSize));
+        }
+    }
+}
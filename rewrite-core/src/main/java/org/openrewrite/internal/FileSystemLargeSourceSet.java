@@ -0,0 +1,383 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.internal;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ConstructorDetector;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.marker.Generated;
+import org.openrewrite.marker.RecipesThatMadeChanges;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A {@link LargeSourceSet} that keeps only the identity and path of each source file in memory. Source files are
+ * serialized to a local directory, materialized one at a time while they are being edited, and any edited source
+ * file is written back to the directory as a new revision. The {@link Changeset} materializes the before and after
+ * states of a page of results only when that page is requested.
+ * <p>
+ * Recipe attribution is held in memory rather than serialized with the source file, so a {@link Codec} never
+ * needs to be able to serialize {@link RecipesThatMadeChanges}.
+ * <p>
+ * Revisions of source files that are no longer referenced by the latest source set are deleted at the end of
+ * each cycle, so earlier source sets returned by {@link #edit(UnaryOperator)} can't be used once a cycle is complete.
+ */
+@Incubating(since = "8.40.0")
+public class FileSystemLargeSourceSet implements LargeSourceSet, AutoCloseable {
+
+    /**
+     * Converts source files to and from their stored representation.
+     */
+    public interface Codec {
+        void write(SourceFile sourceFile, OutputStream out) throws IOException;
+
+        SourceFile read(InputStream in) throws IOException;
+    }
+
+    /**
+     * Stores source files in Jackson's binary Smile format. Trees record their concrete class when serialized, so
+     * any source file whose markers and types are serializable by Jackson can be read back.
+     */
+    public static class SmileCodec implements Codec {
+        private final ObjectMapper mapper;
+
+        public SmileCodec() {
+            SmileFactory f = new SmileFactory();
+            f.configure(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES, true);
+            f.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            f.configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+
+            ObjectMapper m = JsonMapper.builder(f)
+                    .constructorDetector(ConstructorDetector.USE_PROPERTIES_BASED)
+                    .build()
+                    .registerModules(new ParameterNamesModule(), new JavaTimeModule())
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+            RecipeSerializer.maybeAddKotlinModule(m);
+
+            this.mapper = m.setVisibility(m.getSerializationConfig().getDefaultVisibilityChecker()
+                    .withCreatorVisibility(JsonAutoDetect.Visibility.PUBLIC_ONLY)
+                    .withGetterVisibility(JsonAutoDetect.Visibility.NONE)
+                    .withIsGetterVisibility(JsonAutoDetect.Visibility.NONE)
+                    .withFieldVisibility(JsonAutoDetect.Visibility.ANY));
+        }
+
+        @Override
+        public void write(SourceFile sourceFile, OutputStream out) throws IOException {
+            mapper.writeValue(out, sourceFile);
+        }
+
+        @Override
+        public SourceFile read(InputStream in) throws IOException {
+            return mapper.readValue(in, SourceFile.class);
+        }
+    }
+
+    private final Store store;
+
+    /**
+     * If null, then the initial state is this instance.
+     */
+    @Nullable
+    private final FileSystemLargeSourceSet initialState;
+
+    private final List<Entry> entries;
+
+    /**
+     * Indexes of the initial state, built once and shared by all source sets derived from it.
+     */
+    private final Map<UUID, Entry> initialById;
+    private final Map<Path, Entry> initialByPath;
+
+    private List<Deletion> deletions;
+
+    @Nullable
+    private List<Recipe> currentRecipeStack;
+
+    /**
+     * Write each source file to {@code directory} in Jackson's binary Smile format, so that only the source files
+     * being edited need to be held in memory for the remainder of a recipe run.
+     *
+     * @param directory   A directory to store source files in, which will be created if it doesn't exist.
+     * @param sourceFiles The initial source files, which may be lazily produced.
+     */
+    public FileSystemLargeSourceSet(Path directory, Iterable<? extends SourceFile> sourceFiles) {
+        this(directory, new SmileCodec(), sourceFiles);
+    }
+
+    /**
+     * Write each source file to {@code directory}, so that only the source files being edited
+     * need to be held in memory for the remainder of a recipe run.
+     *
+     * @param directory   A directory to store source files in, which will be created if it doesn't exist.
+     * @param codec       Converts source files to and from their stored representation.
+     * @param sourceFiles The initial source files, which may be lazily produced.
+     */
+    public FileSystemLargeSourceSet(Path directory, Codec codec, Iterable<? extends SourceFile> sourceFiles) {
+        this.store = new Store(directory, codec);
+        this.initialState = null;
+        this.deletions = emptyList();
+
+        List<Entry> entries = new ArrayList<>();
+        Map<UUID, Entry> byId = new HashMap<>();
+        Map<Path, Entry> byPath = new HashMap<>();
+        for (SourceFile sourceFile : sourceFiles) {
+            Entry entry = store.write(sourceFile, emptyList(),
+                    sourceFile.getMarkers().findFirst(Generated.class).isPresent());
+            entries.add(entry);
+            byId.put(entry.id, entry);
+            byPath.putIfAbsent(entry.sourcePath, entry);
+        }
+        this.entries = entries;
+        this.initialById = byId;
+        this.initialByPath = byPath;
+    }
+
+    private FileSystemLargeSourceSet(FileSystemLargeSourceSet initialState, List<Entry> entries, List<Deletion> deletions) {
+        this.store = initialState.store;
+        this.initialState = initialState;
+        this.entries = entries;
+        this.initialById = initialState.initialById;
+        this.initialByPath = initialState.initialByPath;
+        this.deletions = deletions;
+    }
+
+    private FileSystemLargeSourceSet withChanges(List<Entry> entries, List<Deletion> deletions) {
+        return new FileSystemLargeSourceSet(getInitialState(), entries, deletions);
+    }
+
+    private FileSystemLargeSourceSet getInitialState() {
+        return initialState == null ? this : initialState;
+    }
+
+    @Override
+    public void setRecipe(List<Recipe> recipeStack) {
+        this.currentRecipeStack = recipeStack;
+    }
+
+    @Override
+    public LargeSourceSet edit(UnaryOperator<SourceFile> map) {
+        List<Deletion> newDeletions = new ArrayList<>(deletions);
+        List<Entry> mapped = ListUtils.map(entries, entry -> {
+            SourceFile before = store.read(entry);
+            SourceFile after = map.apply(before);
+            if (after == null) {
+                newDeletions.add(new Deletion(entry, currentRecipeStack == null ? emptyList() : currentRecipeStack));
+                return null;
+            }
+            return after == before ? entry : store.write(after, entry.recipes, false);
+        });
+        return mapped != entries ? withChanges(mapped, newDeletions) : this;
+    }
+
+    @Override
+    public LargeSourceSet generate(@Nullable Collection<? extends SourceFile> t) {
+        if (t == null || t.isEmpty()) {
+            return this;
+        }
+
+        List<Entry> newEntries = new ArrayList<>(entries.size() + t.size());
+        newEntries.addAll(entries);
+        for (SourceFile sourceFile : t) {
+            newEntries.add(store.write(sourceFile, emptyList(), false));
+        }
+        return withChanges(newEntries, deletions);
+    }
+
+    @Override
+    public void afterCycle(boolean lastCycle) {
+        Set<Path> live = new HashSet<>();
+        for (Entry entry : getInitialState().entries) {
+            live.add(entry.location);
+        }
+        for (Entry entry : entries) {
+            live.add(entry.location);
+        }
+        for (Deletion deletion : deletions) {
+            live.add(deletion.entry.location);
+        }
+        store.compact(live);
+    }
+
+    @Override
+    public Changeset getChangeset() {
+        List<Change> changes = new ArrayList<>();
+
+        // added or changed files
+        for (Entry entry : entries) {
+            Entry original = initialById.get(entry.id);
+            if (original != entry) {
+                if (original != null) {
+                    if (original.generated) {
+                        continue;
+                    }
+                    changes.add(new Change(original, entry, entry.recipes));
+                } else {
+                    changes.add(new Change(null, entry, entry.recipes));
+                }
+            }
+        }
+
+        for (Deletion deletion : deletions) {
+            changes.add(new Change(deletion.entry, null, Collections.singleton(deletion.recipeStack)));
+        }
+
+        return new FileSystemChangeset(store, changes);
+    }
+
+    @Override
+    public @Nullable SourceFile getBefore(Path sourcePath) {
+        Entry entry = initialByPath.get(sourcePath);
+        return entry == null ? null : store.read(entry);
+    }
+
+    /**
+     * Delete all stored source files. Neither this source set nor any changeset
+     * produced from it may be used after it is closed.
+     */
+    @Override
+    public void close() {
+        store.compact(Collections.emptySet());
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        final UUID id;
+        final Path sourcePath;
+        final Path location;
+        final boolean generated;
+        final Collection<List<Recipe>> recipes;
+    }
+
+    @RequiredArgsConstructor
+    private static class Deletion {
+        final Entry entry;
+        final List<Recipe> recipeStack;
+    }
+
+    @RequiredArgsConstructor
+    private static class Change {
+        @Nullable
+        final Entry before;
+
+        @Nullable
+        final Entry after;
+
+        final Collection<List<Recipe>> recipes;
+    }
+
+    private static class Store {
+        private final Path directory;
+        private final Codec codec;
+        private final AtomicLong revision = new AtomicLong();
+
+        Store(Path directory, Codec codec) {
+            this.directory = directory;
+            this.codec = codec;
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        Entry write(SourceFile sourceFile, Collection<List<Recipe>> priorRecipes, boolean generated) {
+            Collection<List<Recipe>> recipes = priorRecipes;
+            Optional<RecipesThatMadeChanges> recipesThatMadeChanges = sourceFile.getMarkers().findFirst(RecipesThatMadeChanges.class);
+            if (recipesThatMadeChanges.isPresent()) {
+                Set<List<Recipe>> merged = new LinkedHashSet<>(priorRecipes);
+                merged.addAll(recipesThatMadeChanges.get().getRecipes());
+                recipes = unmodifiableList(new ArrayList<>(merged));
+                sourceFile = sourceFile.withMarkers(sourceFile.getMarkers().removeByType(RecipesThatMadeChanges.class));
+            }
+
+            Path location = directory.resolve(revision.getAndIncrement() + ".lst");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(location))) {
+                codec.write(sourceFile, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new Entry(sourceFile.getId(), sourceFile.getSourcePath(), location, generated, recipes);
+        }
+
+        SourceFile read(Entry entry) {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(entry.location))) {
+                return codec.read(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void compact(Set<Path> live) {
+            try (Stream<Path> stored = Files.list(directory)) {
+                stored.filter(p -> p.getFileName().toString().endsWith(".lst") && !live.contains(p))
+                        .forEach(p -> {
+                            try {
+                                Files.deleteIfExists(p);
+                            } catch (IOException ignored) {
+                            }
+                        });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class FileSystemChangeset implements Changeset {
+        final Store store;
+        final List<Change> changes;
+
+        @Override
+        public int size() {
+            return changes.size();
+        }
+
+        @Override
+        public List<Result> getPage(int start, int count) {
+            List<Change> page = changes.subList(start, Math.min(changes.size(), start + count));
+            List<Result> results = new ArrayList<>(page.size());
+            for (Change change : page) {
+                results.add(new Result(
+                        change.before == null ? null : store.read(change.before),
+                        change.after == null ? null : store.read(change.after),
+                        change.recipes));
+            }
+            return results;
+        }
+    }
+}
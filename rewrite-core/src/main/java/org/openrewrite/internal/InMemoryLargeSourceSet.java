@@ -23,6 +23,8 @@
 
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
 
 public class InMemoryLargeSourceSet implements LargeSourceSet {
@@ -37,7 +39,24 @@ public class InMemoryLargeSourceSet implements LargeSourceSet {
     @Nullable
     private Map<SourceFile, List<Recipe>> deletions;
 
-    private List<Recipe> currentRecipeStack;
+    /**
+     * Source files that are added or differ from the initial state, keyed by id. If null, changes
+     * were not tracked and have to be determined by comparing every source file to the initial state.
+     */
+    @Nullable
+    private Map<UUID, SourceFile> changedById;
+
+    /**
+     * Built on first use on the initial state only, and shared by every source set derived from it.
+     */
+    @Nullable
+    private volatile Index index;
+
+    /**
+     * Thread local so that concurrent edits each attribute deletions to the recipe that
+     * is operating on the source file being edited on that thread.
+     */
+    private final ThreadLocal<List<Recipe>> currentRecipeStack = new ThreadLocal<>();
 
     public InMemoryLargeSourceSet(List<SourceFile> ls) {
         this(null, null, ls);
@@ -49,6 +68,7 @@ protected InMemoryLargeSourceSet(@Nullable InMemoryLargeSourceSet initialState,
         this.initialState = initialState;
         this.ls = ls;
         this.deletions = deletions;
+        this.changedById = initialState == null ? new LinkedHashMap<>() : null;
     }
 
     protected InMemoryLargeSourceSet withChanges(@Nullable Map<SourceFile, List<Recipe>> deletions, List<SourceFile> mapped) {
@@ -57,22 +77,120 @@ protected InMemoryLargeSourceSet withChanges(@Nullable Map<SourceFile, List<Reci
 
     @Override
     public void setRecipe(List<Recipe> recipeStack) {
-        this.currentRecipeStack = recipeStack;
+        this.currentRecipeStack.set(recipeStack);
     }
 
     @Override
     public LargeSourceSet edit(UnaryOperator<SourceFile> map) {
+        Map<UUID, SourceFile> newChanges = changedById == null ? null : new LinkedHashMap<>(changedById);
         List<SourceFile> mapped = ListUtils.map(ls, before -> {
             SourceFile after = map.apply(before);
             if (after == null) {
                 if (deletions == null) {
                     deletions = new LinkedHashMap<>();
                 }
-                deletions.put(before, currentRecipeStack);
+                deletions.put(before, currentRecipeStack.get());
+            }
+            if (newChanges != null && after != before) {
+                recordChange(newChanges, before, after);
             }
             return after;
         });
-        return mapped != ls ? withChanges(deletions, mapped) : this;
+        return mapped != ls ? withTrackedChanges(deletions, mapped, newChanges) : this;
+    }
+
+    @Override
+    public LargeSourceSet edit(UnaryOperator<SourceFile> map, ExecutorService executor) {
+        int size = ls.size();
+        if (size < 2) {
+            return edit(map);
+        }
+
+        SourceFile[] mapped = new SourceFile[size];
+        Object[] deletedBy = new Object[size];
+        AtomicInteger next = new AtomicInteger();
+
+        // Workers pull the next unclaimed index so that a few expensive source
+        // files don't leave the rest of the workers idle
+        int workers = Math.min(size, parallelism(executor));
+        List<Future<?>> futures = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            futures.add(executor.submit(() -> {
+                try {
+                    for (int i = next.getAndIncrement(); i < size; i = next.getAndIncrement()) {
+                        SourceFile after = map.apply(ls.get(i));
+                        mapped[i] = after;
+                        if (after == null) {
+                            deletedBy[i] = currentRecipeStack.get();
+                        }
+                    }
+                } finally {
+                    currentRecipeStack.remove();
+                }
+            }));
+        }
+        awaitAll(futures);
+
+        // assemble the result in the original order so the changeset is deterministic
+        boolean changed = false;
+        List<SourceFile> newLs = new ArrayList<>(size);
+        Map<UUID, SourceFile> newChanges = changedById == null ? null : new LinkedHashMap<>(changedById);
+        for (int i = 0; i < size; i++) {
+            SourceFile before = ls.get(i);
+            SourceFile after = mapped[i];
+            if (newChanges != null && after != before) {
+                recordChange(newChanges, before, after);
+            }
+            if (after == null) {
+                if (deletions == null) {
+                    deletions = new LinkedHashMap<>();
+                }
+                //noinspection unchecked
+                deletions.put(before, (List<Recipe>) deletedBy[i]);
+                changed = true;
+            } else {
+                changed |= after != before;
+                newLs.add(after);
+            }
+        }
+        return changed ? withTrackedChanges(deletions, newLs, newChanges) : this;
+    }
+
+    private static int parallelism(ExecutorService executor) {
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getParallelism();
+        } else if (executor instanceof ThreadPoolExecutor) {
+            int maximumPoolSize = ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+            if (maximumPoolSize != Integer.MAX_VALUE) {
+                return maximumPoolSize;
+            }
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while editing source files", e);
+        } catch (ExecutionException e) {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
     }
 
     @Override
@@ -80,32 +198,76 @@ public LargeSourceSet generate(@Nullable Collection<? extends SourceFile> t) {
         if (t == null || t.isEmpty()) {
             //noinspection ConstantConditions
             return this;
-        } else if (ls.isEmpty()) {
+        }
+
+        Map<UUID, SourceFile> newChanges = null;
+        if (changedById != null) {
+            newChanges = new LinkedHashMap<>(changedById);
+            for (SourceFile generated : t) {
+                newChanges.put(generated.getId(), generated);
+            }
+        }
+
+        if (ls.isEmpty()) {
             //noinspection unchecked
-            return withChanges(deletions, (List<SourceFile>) t);
+            return withTrackedChanges(deletions, (List<SourceFile>) t, newChanges);
         }
 
         List<SourceFile> newLs = new ArrayList<>(ls);
         newLs.addAll(t);
-        return withChanges(deletions, newLs);
+        return withTrackedChanges(deletions, newLs, newChanges);
+    }
+
+    private InMemoryLargeSourceSet withTrackedChanges(@Nullable Map<SourceFile, List<Recipe>> deletions,
+                                                      List<SourceFile> mapped,
+                                                      @Nullable Map<UUID, SourceFile> changes) {
+        InMemoryLargeSourceSet next = withChanges(deletions, mapped);
+        next.changedById = changes;
+        return next;
+    }
+
+    private void recordChange(Map<UUID, SourceFile> changes, SourceFile before, @Nullable SourceFile after) {
+        Index index = getInitialState().index();
+        if (after == null || !after.getId().equals(before.getId())) {
+            changes.remove(before.getId());
+        }
+        if (after != null) {
+            if (index.getById(after.getId()) == after) {
+                // reverted to the initial state
+                changes.remove(after.getId());
+            } else {
+                changes.put(after.getId(), after);
+            }
+        }
     }
 
     protected InMemoryLargeSourceSet getInitialState() {
         return initialState == null ? this : initialState;
     }
 
+    private Index index() {
+        Index i = index;
+        if (i == null) {
+            synchronized (this) {
+                i = index;
+                if (i == null) {
+                    i = new Index(ls);
+                    index = i;
+                }
+            }
+        }
+        return i;
+    }
+
     @Override
     public Changeset getChangeset() {
-        Map<UUID, SourceFile> sourceFileIdentities = new HashMap<>();
-        for (SourceFile sourceFile : getInitialState().ls) {
-            sourceFileIdentities.put(sourceFile.getId(), sourceFile);
-        }
+        Index index = getInitialState().index();
 
         List<Result> changes = new ArrayList<>();
 
         // added or changed files
-        for (SourceFile s : ls) {
-            SourceFile original = sourceFileIdentities.get(s.getId());
+        for (SourceFile s : getChangedSourceFiles(index)) {
+            SourceFile original = index.getById(s.getId());
             if (original != s) {
                 if (original != null) {
                     if (original.getMarkers().findFirst(Generated.class).isPresent()) {
@@ -128,15 +290,49 @@ public Changeset getChangeset() {
         return new InMemoryChangeset(changes);
     }
 
+    /**
+     * @return Source files that may differ from the initial state, in the order they appear in this source set.
+     */
+    private Collection<SourceFile> getChangedSourceFiles(Index index) {
+        if (changedById == null) {
+            return ls;
+        }
+        List<SourceFile> changed = new ArrayList<>(changedById.values());
+        // generated source files sort after the initial source files, in the order they were generated
+        changed.sort(Comparator.comparingInt(s -> index.getPosition(s.getId())));
+        return changed;
+    }
+
     @Override
     public @Nullable SourceFile getBefore(Path sourcePath) {
-        List<SourceFile> sourceFiles = getInitialState().ls;
-        for (SourceFile s : sourceFiles) {
-            if (s.getSourcePath().equals(sourcePath)) {
-                return s;
+        return getInitialState().index().byPath.get(sourcePath);
+    }
+
+    private static class Index {
+        final List<SourceFile> initial;
+        final Map<UUID, Integer> positionById;
+        final Map<Path, SourceFile> byPath;
+
+        Index(List<SourceFile> initial) {
+            this.initial = initial;
+            this.positionById = new HashMap<>(initial.size() * 4 / 3 + 1);
+            this.byPath = new HashMap<>(initial.size() * 4 / 3 + 1);
+            for (int i = 0; i < initial.size(); i++) {
+                SourceFile sourceFile = initial.get(i);
+                positionById.put(sourceFile.getId(), i);
+                byPath.putIfAbsent(sourceFile.getSourcePath(), sourceFile);
             }
         }
-        return null;
+
+        @Nullable
+        SourceFile getById(UUID id) {
+            Integer position = positionById.get(id);
+            return position == null ? null : initial.get(position);
+        }
+
+        int getPosition(UUID id) {
+            return positionById.getOrDefault(id, Integer.MAX_VALUE);
+        }
     }
 
     @RequiredArgsConstructor
@@ -17,6 +17,7 @@
 
 import io.micrometer.core.instrument.util.StringUtils;
 import io.micrometer.core.lang.Nullable;
+import org.openrewrite.Incubating;
 
 import java.io.*;
 import java.net.MalformedURLException;
@@ -25,10 +26,7 @@
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.Duration;
-import java.util.Base64;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.zip.GZIPOutputStream;
@@ -365,11 +363,21 @@ public Builder withReadTimeout(Duration readTimeout) {
     class Response implements AutoCloseable {
         private final int code;
         private final InputStream body;
+        private final Map<String, List<String>> headers;
         private final Runnable onClose;
 
         public Response(int code, @Nullable InputStream body, Runnable onClose) {
+            this(code, body, Collections.emptyMap(), onClose);
+        }
+
+        /**
+         * @param headers The response headers, which are matched case-insensitively by {@link #getHeader(String)}.
+         */
+        @Incubating(since = "8.40.0")
+        public Response(int code, @Nullable InputStream body, Map<String, List<String>> headers, Runnable onClose) {
             this.code = code;
             this.body = body;
+            this.headers = headers;
             this.onClose = onClose;
         }
 
@@ -377,6 +385,21 @@ public int getCode() {
             return code;
         }
 
+        /**
+         * @param name The name of a response header, in any case.
+         * @return The first value of the header, or null if the response doesn't have it or the
+         * sender that produced the response doesn't report headers.
+         */
+        @Incubating(since = "8.40.0")
+        public @Nullable String getHeader(String name) {
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                if (name.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()) {
+                    return header.getValue().get(0);
+                }
+            }
+            return null;
+        }
+
         public InputStream getBody() {
             return new InputStream() {
                 @Override
@@ -401,7 +424,7 @@ public byte[] getBodyAsBytes() {
             try (InputStream is = getBody()) {
                 ByteArrayOutputStream buffer = new ByteArrayOutputStream();
                 int nRead;
-                byte[] data = new byte[4];
+                byte[] data = new byte[8192];
                 while ((nRead = is.read(data, 0, data.length)) != -1) {
                     buffer.write(data, 0, nRead);
                 }
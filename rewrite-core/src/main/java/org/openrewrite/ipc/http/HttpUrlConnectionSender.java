@@ -104,22 +104,28 @@ public Response send(Request request) {
 
             int status = con.getResponseCode();
 
-            Runnable onClose = () -> {
-                try {
-                    con.disconnect();
-                } catch (Exception ignore) {
-                }
-            };
-
             InputStream is;
             if (con.getErrorStream() != null) {
                 is = con.getErrorStream();
             } else if (status < 400 && con.getInputStream() != null) {
                 is = con.getInputStream();
             } else {
-                return new Response(status, new ByteArrayInputStream(new byte[0]), onClose);
+                return new Response(status, new ByteArrayInputStream(new byte[0]), con.getHeaderFields(), () -> {
+                    try {
+                        con.disconnect();
+                    } catch (Exception ignore) {
+                    }
+                });
             }
-            return new Response(status, is, onClose);
+
+            // closing rather than disconnecting returns the connection to the JDK's keep-alive cache,
+            // so that later requests to the same host don't have to connect again
+            return new Response(status, is, con.getHeaderFields(), () -> {
+                try {
+                    is.close();
+                } catch (Exception ignore) {
+                }
+            });
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -15,14 +15,20 @@
  */
 package org.openrewrite.ipc.http;
 
+import io.micrometer.core.lang.Nullable;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
+import org.openrewrite.Incubating;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.net.URL;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * OkHttp-based {@link HttpSender}.
@@ -33,8 +39,31 @@ public class OkHttpSender implements HttpSender {
 
     private final OkHttpClient client;
 
+    private final int maxConcurrentRequestsPerHost;
+
+    @Nullable
+    private final Map<String, Semaphore> permitsByHost;
+
     public OkHttpSender(OkHttpClient client) {
         this.client = client;
+        this.maxConcurrentRequestsPerHost = 0;
+        this.permitsByHost = null;
+    }
+
+    /**
+     * A sender that limits the number of concurrent requests to each host, such as a Maven repository. The client
+     * already keeps idle connections alive and multiplexes requests over HTTP/2 when the server supports it, but
+     * unlike its dispatcher's limit this one also applies to synchronous calls.
+     *
+     * @param client                       The client to send requests with.
+     * @param maxConcurrentRequestsPerHost The maximum number of requests to each host that may be in flight at once,
+     *                                     counting each request until its response is closed.
+     */
+    @Incubating(since = "8.40.0")
+    public OkHttpSender(OkHttpClient client, int maxConcurrentRequestsPerHost) {
+        this.client = client;
+        this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+        this.permitsByHost = maxConcurrentRequestsPerHost > 0 ? new ConcurrentHashMap<>() : null;
     }
 
     public OkHttpSender() {
@@ -68,14 +97,43 @@ public Response send(Request request) {
             }
         }
 
+        Semaphore permits = permits(request.getUrl());
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (permits != null && released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        if (permits != null) {
+            permits.acquireUninterruptibly();
+        }
         try {
             //noinspection resource
             okhttp3.Response response = client.newCall(requestBuilder.build()).execute();
             ResponseBody body = response.body();
-            return new Response(response.code(), body == null ? null : body.byteStream(), response::close);
+            return new Response(response.code(), body == null ? null : body.byteStream(),
+                    response.headers().toMultimap(), () -> {
+                        try {
+                            response.close();
+                        } finally {
+                            release.run();
+                        }
+                    });
         } catch (IOException e) {
+            release.run();
             throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+    }
+
+    private @Nullable Semaphore permits(URL url) {
+        if (permitsByHost == null) {
+            return null;
         }
+        return permitsByHost.computeIfAbsent(url.getProtocol() + "://" + url.getAuthority(),
+                host -> new Semaphore(maxConcurrentRequestsPerHost));
     }
 
     private static boolean requiresRequestBody(Method method) {
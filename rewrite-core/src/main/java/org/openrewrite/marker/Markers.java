@@ -19,15 +19,17 @@
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import lombok.Value;
 import lombok.With;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
 import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BinaryOperator;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.openrewrite.Tree.randomId;
 
@@ -37,6 +39,15 @@
 public class Markers {
     public static final Markers EMPTY = new Markers(randomId(), emptyList());
 
+    private static final int MAX_INTERNED = 1_024;
+
+    /**
+     * The {@link Markers} holding only an interned marker, by marker identity. Interning is rare and lookups happen
+     * whenever a marker is added to an empty {@link Markers}, so lookups read an immutable snapshot without locking,
+     * and interning replaces the snapshot.
+     */
+    private static volatile Map<Marker, Markers> interned = new IdentityHashMap<>();
+
     UUID id;
 
     @With
@@ -45,6 +56,11 @@ public class Markers {
     public static Markers build(Collection<? extends Marker> markers) {
         if (markers.isEmpty()) {
             return EMPTY;
+        } else if (markers.size() == 1) {
+            Markers singleton = singleton(markers.iterator().next());
+            if (singleton != null) {
+                return singleton;
+            }
         }
         List<Marker> markerList;
         if (markers instanceof List) {
@@ -57,6 +73,42 @@ public static Markers build(Collection<? extends Marker> markers) {
         return new Markers(randomId(), markerList);
     }
 
+    /**
+     * Share one instance of a marker that is immutable and carries no state specific to the tree it is attached to,
+     * such as a syntax flag, among all trees. Once a marker is interned, adding it to an empty {@link Markers} or
+     * building a {@link Markers} from it alone returns a single shared {@link Markers}, so that identical marker sets
+     * take no further memory and compare by identity.
+     * <p>
+     * Intern markers once, typically in a constant, and use the returned instance. Only a bounded number of markers
+     * is interned; beyond that the marker is returned as is.
+     *
+     * @param marker The marker to share.
+     * @param <M>    The marker type.
+     * @return The shared instance of the marker.
+     */
+    @Incubating(since = "8.40.0")
+    public static synchronized <M extends Marker> M intern(M marker) {
+        for (Marker m : interned.keySet()) {
+            if (m.equals(marker)) {
+                //noinspection unchecked
+                return (M) m;
+            }
+        }
+        if (interned.size() < MAX_INTERNED) {
+            Map<Marker, Markers> updated = new IdentityHashMap<>(interned);
+            updated.put(marker, new Markers(randomId(), singletonList(marker)));
+            interned = updated;
+        }
+        return marker;
+    }
+
+    /**
+     * @return The shared {@link Markers} holding only the marker, if the marker is interned.
+     */
+    private static @Nullable Markers singleton(Marker marker) {
+        return interned.get(marker);
+    }
+
     /**
      * {@link TreeVisitor} may respond to a marker to determine whether to act on
      * a source file or not.
@@ -79,11 +131,60 @@ public Markers add(Marker marker) {
                 return this;
             }
         }
-        List<Marker> updatedmarker = new ArrayList<>(markers);
+        return append(marker);
+    }
+
+    private Markers append(Marker marker) {
+        if (markers.isEmpty()) {
+            Markers singleton = singleton(marker);
+            if (singleton != null) {
+                return singleton;
+            }
+        }
+        List<Marker> updatedmarker = new ArrayList<>(markers.size() + 1);
+        updatedmarker.addAll(markers);
         updatedmarker.add(marker);
         return new Markers(id, updatedmarker);
     }
 
+    /**
+     * Remap the markers of the same type as the identity, or equal to it, and add the identity when there are none.
+     * The marker list is only copied when a marker is remapped to a different instance, so that unchanged markers
+     * are shared.
+     */
+    private <M extends Marker> Markers update(M identity, BinaryOperator<M> remappingFunction, boolean byType) {
+        List<Marker> updated = null;
+        boolean found = false;
+        for (int i = 0; i < markers.size(); i++) {
+            Marker m = markers.get(i);
+            Marker remapped = m;
+            if (byType ? m.getClass().equals(identity.getClass()) : m.equals(identity)) {
+                found = true;
+                //noinspection unchecked
+                remapped = remappingFunction.apply((M) m, identity);
+            }
+            if (updated == null && remapped != m) {
+                updated = new ArrayList<>(markers.size());
+                updated.addAll(markers.subList(0, i));
+            }
+            if (updated != null && remapped != null) {
+                updated.add(remapped);
+            }
+        }
+
+        if (!found) {
+            return append(identity);
+        } else if (updated == null) {
+            return this;
+        } else if (updated.size() == 1) {
+            Markers singleton = singleton(updated.get(0));
+            if (singleton != null) {
+                return singleton;
+            }
+        }
+        return withMarkers(updated);
+    }
+
     /**
      * Add a new marker or update some existing marker.
      *
@@ -93,17 +194,7 @@ public Markers add(Marker marker) {
      * @return A new {@link Markers} with an added or updated marker.
      */
     public <M extends Marker> Markers computeByType(M identity, BinaryOperator<M> remappingFunction) {
-        AtomicBoolean updated = new AtomicBoolean(false);
-        List<Marker> markers = ListUtils.map(this.markers, m -> {
-            if (m.getClass().equals(identity.getClass())) {
-                updated.set(true);
-
-                //noinspection unchecked
-                return remappingFunction.apply((M) m, identity);
-            }
-            return m;
-        });
-        return withMarkers(!updated.get() ? ListUtils.concat(markers, identity) : markers);
+        return update(identity, remappingFunction, true);
     }
 
     public Markers removeByType(Class<? extends Marker> type) {
@@ -123,21 +214,7 @@ public <M extends Marker> Markers setByType(M m) {
      * @return A new {@link Markers} with an added or updated marker.
      */
     public <M extends Marker> Markers compute(M identity, BinaryOperator<M> remappingFunction) {
-        AtomicBoolean foundEqualMarker = new AtomicBoolean(false);
-        List<Marker> updatedMarkers = ListUtils.map(markers, m -> {
-            if (m.equals(identity)) {
-                foundEqualMarker.set(true);
-                //noinspection unchecked
-                return remappingFunction.apply((M) m, identity);
-            }
-            return m;
-        });
-
-        if (!foundEqualMarker.get()) {
-            updatedMarkers = ListUtils.concat(updatedMarkers, identity);
-        }
-
-        return withMarkers(updatedMarkers);
+        return update(identity, remappingFunction, false);
     }
 
     /**
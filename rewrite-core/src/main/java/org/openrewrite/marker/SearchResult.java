@@ -34,6 +34,11 @@
 @Getter
 @With
 public final class SearchResult implements Marker {
+    /**
+     * Search results without a description are equal, so they share one instance.
+     */
+    private static final SearchResult FOUND = Markers.intern(new SearchResult(randomId(), null));
+
     UUID id;
 
     @EqualsAndHashCode.Include
@@ -49,7 +54,7 @@ public static <T extends Tree> T found(@Nullable T t, @Nullable String descripti
             //noinspection ConstantConditions
             return null;
         }
-        return t.withMarkers(t.getMarkers().computeByType(new SearchResult(randomId(), description),
+        return t.withMarkers(t.getMarkers().computeByType(description == null ? FOUND : new SearchResult(randomId(), description),
                 (s1, s2) -> s1 == null ? s2 : s1));
     }
 
@@ -26,8 +26,8 @@
 
     @Override
     public Quark visitQuark(Quark quark, PrintOutputCapture<P> p) {
-        beforeSyntax(quark.getMarkers(), p);
-        if (!p.getOut().isEmpty()) {
+        // checked without reading the output back, which isn't possible when printing straight to a writer
+        if (beforeSyntax(quark.getMarkers(), p)) {
             p.append("⚛⚛⚛ The contents of this file are not visible. ⚛⚛⚛");
         }
         afterSyntax(quark.getMarkers(), p);
@@ -37,14 +37,23 @@ public Quark visitQuark(Quark quark, PrintOutputCapture<P> p) {
     private static final UnaryOperator<String> QUARK_MARKER_WRAPPER =
             out -> "~~" + out + (out.isEmpty() ? "" : "~~") + ">";
 
-    private void beforeSyntax(Markers markers, PrintOutputCapture<P> p) {
+    /**
+     * @return Whether anything was printed.
+     */
+    private boolean beforeSyntax(Markers markers, PrintOutputCapture<P> p) {
+        boolean printed = false;
         for (Marker marker : markers.getMarkers()) {
-            p.append(p.getMarkerPrinter().beforePrefix(marker, new Cursor(getCursor(), marker), QUARK_MARKER_WRAPPER));
+            String text = p.getMarkerPrinter().beforePrefix(marker, new Cursor(getCursor(), marker), QUARK_MARKER_WRAPPER);
+            printed |= !text.isEmpty();
+            p.append(text);
         }
         visitMarkers(markers, p);
         for (Marker marker : markers.getMarkers()) {
-            p.append(p.getMarkerPrinter().beforeSyntax(marker, new Cursor(getCursor(), marker), QUARK_MARKER_WRAPPER));
+            String text = p.getMarkerPrinter().beforeSyntax(marker, new Cursor(getCursor(), marker), QUARK_MARKER_WRAPPER);
+            printed |= !text.isEmpty();
+            p.append(text);
         }
+        return printed;
     }
 
     private void afterSyntax(Markers markers, PrintOutputCapture<P> p) {
@@ -21,7 +21,10 @@
 import org.openrewrite.internal.StringUtils;
 import org.openrewrite.marker.Markers;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -81,6 +84,16 @@ default <P> String printAll(P p) {
         return StringUtils.readFully(getInputStream(ctx), StandardCharsets.UTF_8);
     }
 
+    @Override
+    default <P> void printAllTo(OutputStream out, P p) {
+        try {
+            out.write(printAll(p).getBytes(getCharset() == null ? StandardCharsets.UTF_8 : getCharset()));
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     default <P> String printAllTrimmed(P p) {
         return StringUtils.trimIndentPreserveCRLF(printAll(p));
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.scheduling;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.Callable;
+
+/**
+ * Measures the time and memory that each recipe spends scanning and editing source files, with low enough
+ * overhead to be left on for production runs. Register an instance under {@link #RECIPE_PROFILER} in the
+ * {@link org.openrewrite.ExecutionContext} before a run to use it in place of the Micrometer timers that
+ * otherwise back {@link org.openrewrite.table.RecipeRunStats}.
+ * <p>
+ * Each thread records into its own preallocated arrays of primitive counters, indexed by the position of the
+ * recipe in the recipe tree, so that recording a measurement does not allocate, look anything up, or contend
+ * with other threads. Durations are summarized in a base-2 logarithmic histogram, so percentiles are
+ * estimates accurate to within a factor of two.
+ */
+@Incubating(since = "8.40.0")
+public class RecipeProfiler {
+    public static final String RECIPE_PROFILER = "org.openrewrite.recipeProfiler";
+
+    static final int SCAN = 0;
+    static final int EDIT = 1;
+    private static final int PHASES = 2;
+    private static final int BUCKETS = 64;
+
+    /**
+     * Reads the bytes allocated by a thread, or null when allocations aren't tracked.
+     */
+    private final @Nullable MethodHandle allocations;
+    private final List<Counters> allCounters = new ArrayList<>();
+    private final ThreadLocal<Counters> counters = ThreadLocal.withInitial(() -> {
+        Counters c = new Counters();
+        synchronized (allCounters) {
+            allCounters.add(c);
+        }
+        return c;
+    });
+
+    public RecipeProfiler() {
+        this(true);
+    }
+
+    /**
+     * @param trackAllocations Whether to measure the bytes allocated by each recipe, when the JVM supports it.
+     */
+    public RecipeProfiler(boolean trackAllocations) {
+        this.allocations = trackAllocations ? threadAllocatedBytes() : null;
+    }
+
+    /**
+     * The bytes allocated by a thread are only available from {@code com.sun.management.ThreadMXBean}, which
+     * not every JVM provides, so it is looked up reflectively rather than linked against.
+     *
+     * @return A handle that takes a thread id and returns the bytes allocated by that thread, or null when
+     * the JVM doesn't measure them.
+     */
+    private static @Nullable MethodHandle threadAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        try {
+            Class<?> allocationsBean = Class.forName("com.sun.management.ThreadMXBean");
+            if (!allocationsBean.isInstance(threads)) {
+                return null;
+            }
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodType isEnabled = MethodType.methodType(boolean.class);
+            if (!(boolean) lookup.findVirtual(allocationsBean, "isThreadAllocatedMemorySupported", isEnabled).invoke(threads) ||
+                !(boolean) lookup.findVirtual(allocationsBean, "isThreadAllocatedMemoryEnabled", isEnabled).invoke(threads)) {
+                return null;
+            }
+            return lookup.findVirtual(allocationsBean, "getThreadAllocatedBytes",
+                    MethodType.methodType(long.class, long.class)).bindTo(threads);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    <T> T record(int phase, int position, Stack<Recipe> recipeStack, SourceFile sourceFile,
+                 Callable<T> work) throws Exception {
+        Counters c = counters.get();
+        c.ensureCapacity(position);
+        if (c.stacks[position] == null) {
+            c.recipes[position] = recipeStack.peek().getName();
+            c.stacks[position] = collapsedStack(recipeStack);
+        }
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        try {
+            return work.call();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            long allocated = allocations == null ? 0 : allocatedBytes() - allocatedBefore;
+            c.add(phase, position, elapsed, allocated, sourceFile);
+        }
+    }
+
+    private long allocatedBytes() {
+        if (allocations == null) {
+            return 0;
+        }
+        try {
+            return (long) allocations.invokeExact(Thread.currentThread().getId());
+        } catch (Throwable t) {
+            return 0;
+        }
+    }
+
+    private static String collapsedStack(Stack<Recipe> recipeStack) {
+        StringJoiner stack = new StringJoiner(";");
+        for (Recipe recipe : recipeStack) {
+            // ';' separates frames and ' ' separates the stack from its value in the collapsed format
+            stack.add(recipe.getName().replace(';', '_').replace(' ', '_'));
+        }
+        return stack.toString();
+    }
+
+    /**
+     * @return A summary of each recipe, in the order in which recipes first ran. A recipe that appears
+     * in more than one place in the recipe tree is summarized once.
+     */
+    public List<Profile> getProfiles() {
+        Map<String, Aggregate> byRecipe = new LinkedHashMap<>();
+        for (Counters c : snapshot()) {
+            for (int position = 0; position < c.recipes.length; position++) {
+                if (c.recipes[position] != null) {
+                    byRecipe.computeIfAbsent(c.recipes[position], r -> new Aggregate()).add(c, position);
+                }
+            }
+        }
+
+        List<Profile> profiles = new ArrayList<>(byRecipe.size());
+        for (Map.Entry<String, Aggregate> entry : byRecipe.entrySet()) {
+            Aggregate a = entry.getValue();
+            profiles.add(new Profile(entry.getKey(),
+                    a.count[SCAN], a.totalNanos[SCAN], a.maxNanos[SCAN], a.percentile(SCAN, 0.99),
+                    a.count[EDIT], a.totalNanos[EDIT], a.maxNanos[EDIT], a.percentile(EDIT, 0.99),
+                    a.allocatedBytes, a.slowestSourceFile));
+        }
+        return profiles;
+    }
+
+    /**
+     * Write the time spent in each recipe in the collapsed stack format read by flame graph tools
+     * such as Brendan Gregg's {@code flamegraph.pl}, async-profiler's converter, or speedscope. Each line
+     * is the recipe stack, from the root recipe to the recipe that did the work, followed by the phase
+     * and the nanoseconds spent in it.
+     */
+    public void writeCollapsedStacks(Writer out) {
+        Map<String, Long> nanosByStack = new TreeMap<>();
+        for (Counters c : snapshot()) {
+            for (int position = 0; position < c.stacks.length; position++) {
+                if (c.stacks[position] != null) {
+                    for (int phase = 0; phase < PHASES; phase++) {
+                        long nanos = c.totalNanos[slot(position, phase)];
+                        if (nanos > 0) {
+                            nanosByStack.merge(c.stacks[position] + (phase == SCAN ? ";scan" : ";edit"), nanos, Long::sum);
+                        }
+                    }
+                }
+            }
+        }
+        try {
+            for (Map.Entry<String, Long> entry : nanosByStack.entrySet()) {
+                out.write(entry.getKey());
+                out.write(' ');
+                out.write(Long.toString(entry.getValue()));
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Counters> snapshot() {
+        synchronized (allCounters) {
+            return new ArrayList<>(allCounters);
+        }
+    }
+
+    private static int slot(int position, int phase) {
+        return position * PHASES + phase;
+    }
+
+    @Value
+    public static class Profile {
+        String recipe;
+        long scanCount;
+        long scanTotalNanos;
+        long scanMaxNanos;
+        double scanP99Nanos;
+        long editCount;
+        long editTotalNanos;
+        long editMaxNanos;
+        double editP99Nanos;
+
+        /**
+         * Zero if allocations are not tracked.
+         */
+        long allocatedBytes;
+
+        /**
+         * The source file that took longest to scan or edit.
+         */
+        @Nullable
+        String slowestSourceFile;
+    }
+
+    /**
+     * Counters of a single thread. Only that thread writes to them, and they are read
+     * once the run is complete.
+     */
+    private static class Counters {
+        @Nullable
+        String[] recipes = new String[0];
+
+        @Nullable
+        String[] stacks = new String[0];
+
+        long[] count = new long[0];
+        long[] totalNanos = new long[0];
+        long[] maxNanos = new long[0];
+        long[] allocatedBytes = new long[0];
+        long[] histogram = new long[0];
+
+        /**
+         * The path rather than the source file, so that profiling doesn't retain source files.
+         */
+        @Nullable
+        Path[] slowest = new Path[0];
+
+        void ensureCapacity(int position) {
+            if (position < recipes.length) {
+                return;
+            }
+            int capacity = Math.max(position + 1, recipes.length * 2);
+            recipes = Arrays.copyOf(recipes, capacity);
+            stacks = Arrays.copyOf(stacks, capacity);
+            count = Arrays.copyOf(count, capacity * PHASES);
+            totalNanos = Arrays.copyOf(totalNanos, capacity * PHASES);
+            maxNanos = Arrays.copyOf(maxNanos, capacity * PHASES);
+            allocatedBytes = Arrays.copyOf(allocatedBytes, capacity);
+            histogram = Arrays.copyOf(histogram, capacity * PHASES * BUCKETS);
+            slowest = Arrays.copyOf(slowest, capacity);
+        }
+
+        void add(int phase, int position, long nanos, long allocated, SourceFile sourceFile) {
+            int slot = slot(position, phase);
+            count[slot]++;
+            totalNanos[slot] += nanos;
+            if (nanos > maxNanos[slot]) {
+                maxNanos[slot] = nanos;
+                if (nanos >= maxNanos[slot(position, SCAN)] && nanos >= maxNanos[slot(position, EDIT)]) {
+                    slowest[position] = sourceFile.getSourcePath();
+                }
+            }
+            allocatedBytes[position] += allocated;
+            histogram[slot * BUCKETS + bucket(nanos)]++;
+        }
+
+        private static int bucket(long nanos) {
+            return nanos <= 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+        }
+    }
+
+    private static class Aggregate {
+        final long[] count = new long[PHASES];
+        final long[] totalNanos = new long[PHASES];
+        final long[] maxNanos = new long[PHASES];
+        final long[] histogram = new long[PHASES * BUCKETS];
+        long allocatedBytes;
+        long slowestNanos = -1;
+
+        @Nullable
+        String slowestSourceFile;
+
+        void add(Counters c, int position) {
+            for (int phase = 0; phase < PHASES; phase++) {
+                int slot = slot(position, phase);
+                count[phase] += c.count[slot];
+                totalNanos[phase] += c.totalNanos[slot];
+                maxNanos[phase] = Math.max(maxNanos[phase], c.maxNanos[slot]);
+                for (int b = 0; b < BUCKETS; b++) {
+                    histogram[phase * BUCKETS + b] += c.histogram[slot * BUCKETS + b];
+                }
+            }
+            allocatedBytes += c.allocatedBytes[position];
+
+            long nanos = Math.max(c.maxNanos[slot(position, SCAN)], c.maxNanos[slot(position, EDIT)]);
+            Path slowest = c.slowest[position];
+            if (slowest != null && nanos > slowestNanos) {
+                slowestNanos = nanos;
+                slowestSourceFile = slowest.toString();
+            }
+        }
+
+        /**
+         * @return The upper bound of the histogram bucket containing the given percentile, capped at the maximum.
+         */
+        double percentile(int phase, double percentile) {
+            long rank = (long) Math.ceil(percentile * count[phase]);
+            long seen = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                seen += histogram[phase * BUCKETS + b];
+                if (seen >= rank && seen > 0) {
+                    return Math.min(b >= 62 ? Long.MAX_VALUE : (1L << (b + 1)) - 1, maxNanos[phase]);
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -17,10 +17,12 @@
 
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
+import org.openrewrite.internal.Cancellation;
 import org.openrewrite.internal.ExceptionUtils;
 import org.openrewrite.internal.FindRecipeRunException;
 import org.openrewrite.internal.RecipeRunException;
@@ -32,15 +34,18 @@
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
 import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 import static org.openrewrite.Recipe.PANIC;
 
-@RequiredArgsConstructor
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 public class RecipeRunCycle<LSS extends LargeSourceSet> {
     /**
@@ -62,54 +67,213 @@
     SourcesFileErrors errorsTable;
     BiFunction<LSS, UnaryOperator<SourceFile>, LSS> sourceSetEditor;
 
-    RecipeStack allRecipeStack = new RecipeStack();
+    /**
+     * When not null, independent source files are scanned and edited concurrently on this executor.
+     */
+    @Nullable
+    ExecutorService executor;
+
+    /**
+     * When not null, measures scans and edits in place of {@link #recipeRunStats}.
+     */
+    @Nullable
+    RecipeProfiler profiler;
+
+    /**
+     * Recipe lists are shared by the recipe stacks of every thread working on this cycle, so
+     * that {@link Recipe#getRecipeList()} is only called once per cycle.
+     */
+    Map<Recipe, List<Recipe>> recipeLists = Collections.synchronizedMap(new IdentityHashMap<>());
+    Map<Thread, RecipeStack> allRecipeStacks = new ConcurrentHashMap<>();
     long cycleStartTime = System.nanoTime();
     AtomicBoolean thrownErrorOnTimeout = new AtomicBoolean();
 
+    /**
+     * The time all recipes together may spend on one source file, see {@link ExecutionContext#SOURCE_FILE_TIMEOUT}.
+     */
+    @Nullable
+    Duration sourceFileTimeout;
+
+    /**
+     * The time one recipe may spend on one source file, see {@link ExecutionContext#RECIPE_SOURCE_FILE_TIMEOUT}.
+     */
+    @Nullable
+    Duration recipeSourceFileTimeout;
+
+    @Getter
+    Set<Recipe> madeChangesInThisCycle = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    /**
+     * The ids of source files that were changed in the edit phase of this cycle.
+     */
     @Getter
-    Set<Recipe> madeChangesInThisCycle = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<UUID> changedSourceFiles = ConcurrentHashMap.newKeySet();
+
+    /**
+     * When not null, only source files with these ids are edited in this cycle and the rest
+     * are assumed to be unchanged by the recipes in this cycle.
+     */
+    @Setter
+    @NonFinal
+    @Nullable
+    Set<UUID> sourceFilesToEdit;
+
+    public RecipeRunCycle(Recipe recipe, int cycle, Cursor rootCursor, WatchableExecutionContext ctx,
+                          RecipeRunStats recipeRunStats, SourcesFileResults sourcesFileResults,
+                          SourcesFileErrors errorsTable, BiFunction<LSS, UnaryOperator<SourceFile>, LSS> sourceSetEditor) {
+        this(recipe, cycle, rootCursor, ctx, recipeRunStats, sourcesFileResults, errorsTable, sourceSetEditor, null);
+    }
 
+    public RecipeRunCycle(Recipe recipe, int cycle, Cursor rootCursor, WatchableExecutionContext ctx,
+                          RecipeRunStats recipeRunStats, SourcesFileResults sourcesFileResults,
+                          SourcesFileErrors errorsTable, BiFunction<LSS, UnaryOperator<SourceFile>, LSS> sourceSetEditor,
+                          @Nullable ExecutorService executor) {
+        this.recipe = recipe;
+        this.cycle = cycle;
+        this.rootCursor = rootCursor;
+        this.ctx = ctx;
+        this.recipeRunStats = recipeRunStats;
+        this.sourcesFileResults = sourcesFileResults;
+        this.errorsTable = errorsTable;
+        this.sourceSetEditor = sourceSetEditor;
+        this.executor = executor;
+        this.profiler = ctx.getMessage(RecipeProfiler.RECIPE_PROFILER);
+        this.sourceFileTimeout = ctx.getMessage(ExecutionContext.SOURCE_FILE_TIMEOUT);
+        this.recipeSourceFileTimeout = ctx.getMessage(ExecutionContext.RECIPE_SOURCE_FILE_TIMEOUT);
+    }
+
+    /**
+     * @return The position of the recipe that is currently doing a scan/generate/edit on the calling thread.
+     */
     public int getRecipePosition() {
-        return allRecipeStack.getRecipePosition();
+        RecipeStack allRecipeStack = allRecipeStacks.get(Thread.currentThread());
+        return allRecipeStack == null ? 0 : allRecipeStack.getRecipePosition();
+    }
+
+    private RecipeStack allRecipeStack() {
+        return allRecipeStacks.computeIfAbsent(Thread.currentThread(), t -> new RecipeStack(recipeLists));
     }
 
     public LSS scanSources(LSS sourceSet) {
-        return sourceSetEditor.apply(sourceSet, sourceFile ->
-                allRecipeStack.reduce(sourceSet, recipe, ctx, (source, recipeStack) -> {
-                    Recipe recipe = recipeStack.peek();
-                    if (source == null) {
-                        return null;
-                    }
+        if (executor != null && anyCanMergeAccumulators(recipe)) {
+            // each worker scans into accumulators held by its own root cursor, which are merged
+            // into the accumulators on the shared root cursor once all source files have been scanned
+            Map<Thread, Cursor> scanCursors = new ConcurrentHashMap<>();
+            //noinspection unchecked
+            LSS after = (LSS) sourceSet.edit(sourceFile -> scanSource(sourceSet, sourceFile,
+                    scanCursors.computeIfAbsent(Thread.currentThread(), t -> new Cursor(null, Cursor.ROOT_VALUE)),
+                    ScanningRecipe::canMergeAccumulators), executor);
+            for (Cursor scanCursor : scanCursors.values()) {
+                mergeAccumulators(recipe, scanCursor);
+            }
+            if (!canMergeAccumulators(recipe)) {
+                // recipes that can't merge accumulators fall back to scanning sequentially into the shared root cursor
+                after = sourceSetEditor.apply(after, sourceFile -> scanSource(sourceSet, sourceFile, rootCursor,
+                        scanningRecipe -> !scanningRecipe.canMergeAccumulators()));
+            }
+            return after;
+        }
+        return sourceSetEditor.apply(sourceSet, sourceFile -> scanSource(sourceSet, sourceFile, rootCursor, scanningRecipe -> true));
+    }
 
-                    SourceFile after = source;
+    private boolean canMergeAccumulators(Recipe recipe) {
+        if (recipe instanceof ScanningRecipe && !((ScanningRecipe<?>) recipe).canMergeAccumulators()) {
+            return false;
+        }
+        for (Recipe r : recipeLists.computeIfAbsent(recipe, Recipe::getRecipeList)) {
+            if (!canMergeAccumulators(r)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-                    if (recipe instanceof ScanningRecipe) {
-                        try {
-                            //noinspection unchecked
-                            ScanningRecipe<Object> scanningRecipe = (ScanningRecipe<Object>) recipe;
-                            Object acc = scanningRecipe.getAccumulator(rootCursor, ctx);
-                            recipeRunStats.recordScan(recipe, () -> {
-                                TreeVisitor<?, ExecutionContext> scanner = scanningRecipe.getScanner(acc);
-                                if (scanner.isAcceptable(source, ctx)) {
-                                    scanner.visit(source, ctx, rootCursor);
-                                }
-                                return source;
-                            });
-                        } catch (Throwable t) {
-                            after = handleError(recipe, source, after, t);
-                            // We don't normally consider anything the scanning phase does to be a change
-                            // But this simplifies error reporting so that exceptions can all be handled the same
-                            assert after != null;
-                            after = addRecipesThatMadeChanges(recipeStack, after);
+    private boolean anyCanMergeAccumulators(Recipe recipe) {
+        if (recipe instanceof ScanningRecipe && ((ScanningRecipe<?>) recipe).canMergeAccumulators()) {
+            return true;
+        }
+        for (Recipe r : recipeLists.computeIfAbsent(recipe, Recipe::getRecipeList)) {
+            if (anyCanMergeAccumulators(r)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void mergeAccumulators(Recipe recipe, Cursor scanCursor) {
+        if (recipe instanceof ScanningRecipe && ((ScanningRecipe<?>) recipe).canMergeAccumulators()) {
+            ((ScanningRecipe<?>) recipe).mergeAccumulator(rootCursor, scanCursor, ctx);
+        }
+        for (Recipe r : recipeLists.computeIfAbsent(recipe, Recipe::getRecipeList)) {
+            mergeAccumulators(r, scanCursor);
+        }
+    }
+
+    /**
+     * @param scans Which scanning recipes scan the source file in this pass.
+     */
+    private @Nullable SourceFile scanSource(LSS sourceSet, SourceFile sourceFile, Cursor rootCursor,
+                                            Predicate<ScanningRecipe<?>> scans) {
+        try (Cancellation.Budget sourceFileBudget = Cancellation.start(sourceFileTimeout)) {
+            AtomicBoolean timedOut = new AtomicBoolean();
+            return allRecipeStack().reduce(sourceSet, recipe, ctx, (source, recipeStack) -> {
+                Recipe recipe = recipeStack.peek();
+                if (source == null) {
+                    return null;
+                }
+
+                SourceFile after = source;
+
+                if (recipe instanceof ScanningRecipe && scans.test((ScanningRecipe<?>) recipe)) {
+                    if (isExceeded(sourceFileBudget)) {
+                        if (timedOut.compareAndSet(false, true)) {
+                            recordTimeout(recipe, sourceFile);
                         }
+                        return source;
                     }
-                    return after;
-                }, sourceFile)
-        );
+                    Cancellation.Budget recipeBudget = null;
+                    try {
+                        //noinspection unchecked
+                        ScanningRecipe<Object> scanningRecipe = (ScanningRecipe<Object>) recipe;
+                        Object acc = scanningRecipe.getAccumulator(rootCursor, ctx);
+                        recipeBudget = Cancellation.start(recipeSourceFileTimeout);
+                        recordScan(recipeStack, source, () -> {
+                            TreeVisitor<?, ExecutionContext> scanner = scanningRecipe.getScanner(acc);
+                            if (scanner.isAcceptable(source, ctx)) {
+                                scanner.visit(source, ctx, rootCursor);
+                            }
+                            return source;
+                        });
+                    } catch (Throwable t) {
+                        if (isExceeded(sourceFileBudget)) {
+                            // skip scanning this source file with the remaining recipes
+                            if (timedOut.compareAndSet(false, true)) {
+                                recordTimeout(recipe, sourceFile);
+                            }
+                            return source;
+                        } else if (isExceeded(recipeBudget)) {
+                            // continue scanning this source file with the next recipe
+                            recordTimeout(recipe, sourceFile);
+                            return source;
+                        }
+                        after = handleError(recipe, source, after, t);
+                        // We don't normally consider anything the scanning phase does to be a change
+                        // But this simplifies error reporting so that exceptions can all be handled the same
+                        assert after != null;
+                        after = addRecipesThatMadeChanges(recipeStack, after);
+                    } finally {
+                        if (recipeBudget != null) {
+                            recipeBudget.close();
+                        }
+                    }
+                }
+                return after;
+            }, sourceFile);
+        }
     }
 
     public LSS generateSources(LSS sourceSet) {
-        List<SourceFile> generatedInThisCycle = allRecipeStack.reduce(sourceSet, recipe, ctx, (acc, recipeStack) -> {
+        List<SourceFile> generatedInThisCycle = allRecipeStack().reduce(sourceSet, recipe, ctx, (acc, recipeStack) -> {
             Recipe recipe = recipeStack.peek();
             if (recipe instanceof ScanningRecipe) {
                 //noinspection unchecked
@@ -119,7 +283,7 @@ public LSS generateSources(LSS sourceSet) {
                 if (!acc.isEmpty()) {
                     for (SourceFile source : acc) {
                         try {
-                            recipeRunStats.recordScan(recipe, () -> {
+                            recordScan(recipeStack, source, () -> {
                                 TreeVisitor<?, ExecutionContext> scanner = scanningRecipe.getScanner(scanningRecipe.getAccumulator(rootCursor, ctx));
                                 if (scanner.isAcceptable(source, ctx)) {
                                     scanner.visit(source, ctx, rootCursor);
@@ -151,14 +315,22 @@ public LSS editSources(LSS sourceSet) {
         // skip edits made to generated source files so that they don't show up in a diff
         // that later fails to apply on a freshly cloned repository
         // consider any recipes adding new messages as a changing recipe (which can request another cycle)
-        return sourceSetEditor.apply(sourceSet, sourceFile ->
-                allRecipeStack.reduce(sourceSet, recipe, ctx, (source, recipeStack) -> {
+        return edit(sourceSet, sourceFile -> {
+            if (sourceFilesToEdit != null && !sourceFilesToEdit.contains(sourceFile.getId())) {
+                return sourceFile;
+            }
+            SourceFile edited;
+            try (Cancellation.Budget sourceFileBudget = Cancellation.start(sourceFileTimeout)) {
+                // whether the skipping of this source file has been recorded
+                AtomicBoolean timedOut = new AtomicBoolean();
+                edited = allRecipeStack().reduce(sourceSet, recipe, ctx, (source, recipeStack) -> {
                     Recipe recipe = recipeStack.peek();
                     if (source == null) {
                         return null;
                     }
 
                     SourceFile after = source;
+                    Cancellation.Budget recipeBudget = null;
 
                     try {
                         Duration duration = Duration.ofNanos(System.nanoTime() - cycleStartTime);
@@ -168,6 +340,16 @@ public LSS editSources(LSS sourceSet) {
                                 ctx.getOnError().accept(t);
                                 ctx.getOnTimeout().accept(t, ctx);
                             }
+                            if (timedOut.compareAndSet(false, true)) {
+                                recordTimeoutError(recipe, sourceFile, new RecipeTimeoutException(recipe));
+                            }
+                            return source;
+                        }
+
+                        if (isExceeded(sourceFileBudget)) {
+                            if (timedOut.compareAndSet(false, true)) {
+                                recordTimeout(recipe, sourceFile);
+                            }
                             return source;
                         }
 
@@ -179,7 +361,13 @@ public LSS editSources(LSS sourceSet) {
                         // set root cursor as it is required by the `ScanningRecipe#isAcceptable()`
                         visitor.setCursor(rootCursor);
 
-                        after = recipeRunStats.recordEdit(recipe, () -> {
+                        if (executor != null) {
+                            // other source files are edited at the same time, so only messages added by this
+                            // edit on this thread count towards this recipe having made changes
+                            ctx.resetHasNewMessagesOnThisThread();
+                        }
+                        recipeBudget = Cancellation.start(recipeSourceFileTimeout);
+                        after = recordEdit(recipeStack, source, () -> {
                             if (visitor.isAcceptable(source, ctx)) {
                                 // propagate shared root cursor
                                 //noinspection DataFlowIssue
@@ -197,20 +385,86 @@ public LSS editSources(LSS sourceSet) {
                                 return source;
                             }
                             recipeRunStats.recordSourceFileChanged(source, after);
+                        } else if (executor != null) {
+                            if (ctx.hasNewMessagesOnThisThread()) {
+                                // consider any recipes adding new messages as a changing recipe (which can request another cycle)
+                                madeChangesInThisCycle.add(recipe);
+                            }
                         } else if (ctx.hasNewMessages()) {
                             // consider any recipes adding new messages as a changing recipe (which can request another cycle)
                             madeChangesInThisCycle.add(recipe);
                             ctx.resetHasNewMessages();
                         }
                     } catch (Throwable t) {
+                        if (isExceeded(sourceFileBudget)) {
+                            // leave the source file as it was before this recipe and skip the remaining recipes
+                            if (timedOut.compareAndSet(false, true)) {
+                                recordTimeout(recipe, sourceFile);
+                            }
+                            return source;
+                        } else if (isExceeded(recipeBudget)) {
+                            // leave the source file as it was before this recipe and continue with the next recipe
+                            recordTimeout(recipe, sourceFile);
+                            return source;
+                        }
                         after = handleError(recipe, source, after, t);
+                    } finally {
+                        if (recipeBudget != null) {
+                            recipeBudget.close();
+                        }
                     }
                     if (after != null && after != source) {
                         after = addRecipesThatMadeChanges(recipeStack, after);
                     }
                     return after;
-                }, sourceFile)
-        );
+                }, sourceFile);
+            }
+            if (edited != null && edited != sourceFile) {
+                changedSourceFiles.add(edited.getId());
+            }
+            return edited;
+        });
+    }
+
+    private static boolean isExceeded(Cancellation.@Nullable Budget budget) {
+        return budget != null && budget.isExceeded();
+    }
+
+    /**
+     * Report that a recipe's work on a source file was cancelled because it exceeded its time budget.
+     */
+    private void recordTimeout(Recipe recipe, SourceFile sourceFile) {
+        RecipeTimeoutException t = new RecipeTimeoutException(recipe);
+        ctx.getOnError().accept(t);
+        ctx.getOnTimeout().accept(t, ctx);
+        recordTimeoutError(recipe, sourceFile, t);
+    }
+
+    private void recordTimeoutError(Recipe recipe, SourceFile sourceFile, RecipeTimeoutException t) {
+        errorsTable.insertRow(ctx, new SourcesFileErrors.Row(
+                sourceFile.getSourcePath().toString(),
+                recipe.getName(),
+                ExceptionUtils.sanitizeStackTrace(t, RecipeScheduler.class)
+        ));
+    }
+
+    private void recordScan(Stack<Recipe> recipeStack, SourceFile source, Callable<SourceFile> scan) throws Exception {
+        if (profiler == null) {
+            recipeRunStats.recordScan(recipeStack.peek(), scan);
+        } else {
+            profiler.record(RecipeProfiler.SCAN, allRecipeStack().getRecipePosition(), recipeStack, source, scan);
+        }
+    }
+
+    private @Nullable SourceFile recordEdit(Stack<Recipe> recipeStack, SourceFile source, Callable<SourceFile> edit) throws Exception {
+        return profiler == null ?
+                recipeRunStats.recordEdit(recipeStack.peek(), edit) :
+                profiler.record(RecipeProfiler.EDIT, allRecipeStack().getRecipePosition(), recipeStack, source, edit);
+    }
+
+    private LSS edit(LSS sourceSet, UnaryOperator<SourceFile> map) {
+        //noinspection unchecked
+        return executor == null ? sourceSetEditor.apply(sourceSet, map) : (LSS) sourceSet.edit(map, executor);
     }
 
     private void recordSourceFileResult(@Nullable SourceFile before, @Nullable SourceFile after, Stack<Recipe> recipeStack, ExecutionContext ctx) {
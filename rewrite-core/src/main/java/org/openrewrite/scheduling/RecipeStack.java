@@ -31,7 +31,7 @@
 import static org.openrewrite.Recipe.PANIC;
 
 class RecipeStack {
-    private final Map<Recipe, List<Recipe>> recipeLists = new IdentityHashMap<>();
+    private final Map<Recipe, List<Recipe>> recipeLists;
     private Stack<Stack<Recipe>> allRecipesStack;
 
     /**
@@ -41,6 +41,19 @@ class RecipeStack {
     @Getter
     int recipePosition;
 
+    RecipeStack() {
+        this(new IdentityHashMap<>());
+    }
+
+    /**
+     * @param recipeLists A cache of recipe lists, which may be shared by stacks that are iterating the
+     *                    same recipe concurrently so that {@link Recipe#getRecipeList()} is still only
+     *                    called once per cycle.
+     */
+    RecipeStack(Map<Recipe, List<Recipe>> recipeLists) {
+        this.recipeLists = recipeLists;
+    }
+
     public <T> T reduce(LargeSourceSet sourceSet, Recipe recipe, ExecutionContext ctx,
                         BiFunction<T, Stack<Recipe>, T> consumer, T acc) {
         init(recipe);
@@ -25,7 +25,13 @@
 @RequiredArgsConstructor
 public class WatchableExecutionContext implements ExecutionContext {
     private final ExecutionContext delegate;
-    private boolean hasNewMessages;
+    private volatile boolean hasNewMessages;
+
+    /**
+     * Whether messages were added by the current thread, so that recipes editing source files concurrently
+     * don't observe or reset each other's messages.
+     */
+    private final ThreadLocal<Boolean> hasNewMessagesOnThisThread = ThreadLocal.withInitial(() -> false);
 
     public boolean hasNewMessages() {
         return hasNewMessages;
@@ -35,9 +41,18 @@ public void resetHasNewMessages() {
         this.hasNewMessages = false;
     }
 
+    public boolean hasNewMessagesOnThisThread() {
+        return hasNewMessagesOnThisThread.get();
+    }
+
+    public void resetHasNewMessagesOnThisThread() {
+        hasNewMessagesOnThisThread.set(false);
+    }
+
     @Override
     public void putMessage(String key, @Nullable Object value) {
         hasNewMessages = true;
+        hasNewMessagesOnThisThread.set(true);
         delegate.putMessage(key, value);
     }
 
@@ -21,11 +21,9 @@
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
+import org.openrewrite.scheduling.RecipeProfiler;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,7 +33,7 @@
 
 public class RecipeRunStats extends DataTable<RecipeRunStats.Row> {
     private final MeterRegistry registry = new SimpleMeterRegistry();
-    private final Set<Path> sourceFileChanged = new HashSet<>();
+    private final Set<Path> sourceFileChanged = ConcurrentHashMap.newKeySet();
 
     public RecipeRunStats(Recipe recipe) {
         super(recipe,
@@ -68,6 +66,23 @@ public void recordScan(Recipe recipe, Callable<SourceFile> scan) throws Exceptio
     }
 
     public void flush(ExecutionContext ctx) {
+        RecipeProfiler profiler = ctx.getMessage(RecipeProfiler.RECIPE_PROFILER);
+        if (profiler != null) {
+            for (RecipeProfiler.Profile profile : profiler.getProfiles()) {
+                addRow(ctx, new Row(
+                        profile.getRecipe(),
+                        (int) profile.getEditCount(),
+                        sourceFileChanged.size(),
+                        profile.getScanTotalNanos(),
+                        profile.getScanP99Nanos(),
+                        profile.getScanMaxNanos(),
+                        profile.getEditTotalNanos(),
+                        profile.getEditP99Nanos(),
+                        profile.getEditMaxNanos()));
+            }
+            return;
+        }
+
         for (Timer editor : registry.find("rewrite.recipe.edit").timers()) {
             String recipeName = requireNonNull(editor.getId().getTag("name"));
             Timer scanner = registry.find("rewrite.recipe.scan").tag("name", recipeName).timer();
@@ -81,13 +96,7 @@ public void flush(ExecutionContext ctx) {
                     (long) editor.totalTime(TimeUnit.NANOSECONDS),
                     editor.takeSnapshot().percentileValues()[0].percentile(),
                     (long) editor.max(TimeUnit.NANOSECONDS));
-            //noinspection DuplicatedCode
-            ctx.computeMessage(ExecutionContext.DATA_TABLES, row, ConcurrentHashMap::new, (extract, allDataTables) -> {
-                //noinspection unchecked
-                List<Row> dataTablesOfType = (List<Row>) allDataTables.computeIfAbsent(this, c -> new ArrayList<>());
-                dataTablesOfType.add(row);
-                return allDataTables;
-            });
+            addRow(ctx, row);
         }
     }
 
@@ -16,13 +16,17 @@
 package org.openrewrite;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.openrewrite.test.RewriteTest;
 import org.openrewrite.text.PlainTextParser;
 import org.openrewrite.tree.ParseError;
 import org.openrewrite.tree.ParsingExecutionContextView;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -89,4 +93,32 @@ void printIdempotentDiffPrint() {
         int endIndex = startIndex + expectedDiff.length();
         assertThat(parseExceptionResult.getMessage().substring(startIndex, endIndex)).isEqualTo(expectedDiff);
     }
+
+    @Test
+    void fileInputIsReadOnce(@TempDir Path tempDir) throws IOException {
+        Path path = tempDir.resolve("1.txt");
+        Files.writeString(path, "line 1");
+        ExecutionContext ctx = new InMemoryExecutionContext();
+
+        Parser.Input input = Parser.Input.fromFile(path);
+        assertThat(input.getSource(ctx).readFully()).isEqualTo("line 1");
+
+        Files.writeString(path, "line 2");
+        assertThat(input.getSource(ctx).readFully()).isEqualTo("line 1");
+    }
+
+    @Test
+    void fileInputIsReleasedAfterPrintIdempotenceCheck(@TempDir Path tempDir) throws IOException {
+        Path path = tempDir.resolve("1.txt");
+        Files.writeString(path, "line 1");
+        ExecutionContext ctx = new InMemoryExecutionContext();
+
+        PlainTextParser parser = new PlainTextParser();
+        Parser.Input input = Parser.Input.fromFile(path);
+        SourceFile sourceFile = parser.parseInputs(List.of(input), tempDir, ctx).findFirst().orElseThrow();
+        assertThat(parser.requirePrintEqualsInput(sourceFile, input, tempDir, ctx)).isSameAs(sourceFile);
+
+        Files.writeString(path, "line 2");
+        assertThat(input.getSource(ctx).readFully()).isEqualTo("line 2");
+    }
 }
@@ -20,24 +20,32 @@
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.openrewrite.config.DeclarativeRecipe;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
 import org.openrewrite.marker.Markup;
+import org.openrewrite.scheduling.RecipeProfiler;
 import org.openrewrite.scheduling.WorkingDirectoryExecutionContextView;
+import org.openrewrite.table.SourcesFileErrors;
 import org.openrewrite.test.RewriteTest;
 import org.openrewrite.text.PlainText;
 import org.openrewrite.text.PlainTextVisitor;
 
+import java.io.StringWriter;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.openrewrite.scheduling.WorkingDirectoryExecutionContextView.WORKING_DIRECTORY_ROOT;
@@ -135,6 +143,353 @@ void managedWorkingDirectoryWithMultipleRecipes(@TempDir Path path) {
         );
         assertThat(path).doesNotExist();
     }
+
+    @Test
+    void concurrentScanAndEdit() {
+        List<SourceFile> sources = IntStream.range(0, 200)
+          .mapToObj(i -> PlainText.builder().sourcePath(Paths.get(i + ".txt")).text("hello").build())
+          .collect(toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            RecipeRun run = new RecipeScheduler(executor).scheduleRun(new CountingRecipe(),
+              new InMemoryLargeSourceSet(sources), new InMemoryExecutionContext(), 3, 1);
+
+            List<Result> results = run.getChangeset().getAllResults();
+            assertThat(results).hasSize(200);
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).getAfter()).isNotNull();
+                assertThat(results.get(i).getAfter().getSourcePath()).isEqualTo(Paths.get(i + ".txt"));
+                assertThat(((PlainText) results.get(i).getAfter()).getText()).isEqualTo("hello 200");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void recipesThatCannotMergeAccumulatorsScanSequentially() {
+        List<SourceFile> sources = IntStream.range(0, 200)
+          .mapToObj(i -> PlainText.builder().sourcePath(Paths.get(i + ".txt")).text("hello").build())
+          .collect(toList());
+        DeclarativeRecipe recipe = new DeclarativeRecipe(
+          "root",
+          "Root recipe",
+          "Root recipe.",
+          emptySet(),
+          null,
+          URI.create("dummy:recipe.yml"),
+          false,
+          emptyList()
+        );
+        recipe.addUninitialized(new CountingRecipe());
+        recipe.addUninitialized(new ScanOrderRecipe());
+        recipe.initialize(List.of(), Map.of());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            RecipeRun run = new RecipeScheduler(executor).scheduleRun(recipe,
+              new InMemoryLargeSourceSet(sources), new InMemoryExecutionContext(), 3, 1);
+
+            List<Result> results = run.getChangeset().getAllResults();
+            assertThat(results).hasSize(200);
+            for (Result result : results) {
+                assertThat(((PlainText) result.getAfter()).getText()).isEqualTo("hello 200 in order");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void incrementalCyclesOnlyEditChangedFiles() {
+        List<SourceFile> sources = List.of(
+          PlainText.builder().sourcePath(Paths.get("a.txt")).text("a").build(),
+          PlainText.builder().sourcePath(Paths.get("b.txt")).text("b").build()
+        );
+        Map<String, Integer> visits = new HashMap<>();
+
+        RecipeRun run = new RecipeScheduler(null, true).scheduleRun(new AppendUntilRecipe(visits),
+          new InMemoryLargeSourceSet(sources), new InMemoryExecutionContext(), 5, 1);
+
+        assertThat(run.getChangeset().getAllResults())
+          .extracting(r -> ((PlainText) r.getAfter()).getText())
+          .containsExactly("a!!!");
+        assertThat(visits).containsEntry("a", 4).containsEntry("b", 1);
+    }
+
+    @Test
+    void incrementalCyclesOfRecipeCausingAnotherCycle() {
+        List<SourceFile> sources = List.of(
+          PlainText.builder().sourcePath(Paths.get("a.txt")).text("a").build(),
+          PlainText.builder().sourcePath(Paths.get("b.txt")).text("b").build()
+        );
+        Map<String, Integer> visits = new HashMap<>();
+        Recipe recipe = toRecipe(() -> new PlainTextVisitor<>() {
+            @Override
+            public PlainText visitText(PlainText text, ExecutionContext ctx) {
+                visits.merge(text.getText().substring(0, 1), 1, Integer::sum);
+                return text.getText().equals("a") ? text.withText("a!") : text;
+            }
+        }).withCausesAnotherCycle(true);
+
+        RecipeRun run = new RecipeScheduler(null, true).scheduleRun(recipe,
+          new InMemoryLargeSourceSet(sources), new InMemoryExecutionContext(), 3, 1);
+
+        assertThat(run.getChangeset().getAllResults())
+          .extracting(r -> ((PlainText) r.getAfter()).getText())
+          .containsExactly("a!");
+        // the second cycle only edits the source file changed in the first
+        assertThat(visits).containsEntry("a", 2).containsEntry("b", 1);
+    }
+
+    @Test
+    void profilerMeasuresEachRecipe() {
+        List<SourceFile> sources = IntStream.range(0, 10)
+          .mapToObj(i -> PlainText.builder().sourcePath(Paths.get(i + ".txt")).text("hello").build())
+          .collect(toList());
+        RecipeProfiler profiler = new RecipeProfiler();
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        ctx.putMessage(RecipeProfiler.RECIPE_PROFILER, profiler);
+
+        new RecipeScheduler().scheduleRun(new CountingRecipe(), new InMemoryLargeSourceSet(sources), ctx, 1, 1);
+
+        assertThat(profiler.getProfiles()).singleElement().satisfies(profile -> {
+            assertThat(profile.getRecipe()).isEqualTo(CountingRecipe.class.getName());
+            assertThat(profile.getScanCount()).isEqualTo(10);
+            assertThat(profile.getEditCount()).isEqualTo(10);
+            assertThat(profile.getEditMaxNanos()).isGreaterThan(0);
+            assertThat(profile.getSlowestSourceFile()).isNotNull();
+        });
+
+        StringWriter collapsed = new StringWriter();
+        profiler.writeCollapsedStacks(collapsed);
+        assertThat(collapsed.toString()).contains(CountingRecipe.class.getName() + ";edit ");
+    }
+
+    @Test
+    void recipeTimeoutSkipsOnlyTheSlowSourceFile() {
+        List<SourceFile> sources = List.of(
+          PlainText.builder().sourcePath(Paths.get("slow.txt")).text("slow").build(),
+          PlainText.builder().sourcePath(Paths.get("fast.txt")).text("fast").build()
+        );
+        ExecutionContext ctx = new InMemoryExecutionContext(t -> {
+        });
+        ctx.putMessage(ExecutionContext.RECIPE_SOURCE_FILE_TIMEOUT, Duration.ofMillis(100));
+
+        Recipe recipe = toRecipe(() -> new PlainTextVisitor<>() {
+            @Override
+            public PlainText visitText(PlainText text, ExecutionContext ctx) {
+                if ("slow".equals(text.getText())) {
+                    PlainTextVisitor<ExecutionContext> inner = new PlainTextVisitor<>();
+                    while (!Thread.currentThread().isInterrupted()) {
+                        inner.visit(text, ctx);
+                    }
+                }
+                return text.withText(text.getText() + "!");
+            }
+        });
+        RecipeRun run = recipe.run(new InMemoryLargeSourceSet(sources), ctx);
+
+        assertThat(run.getChangeset().getAllResults())
+          .extracting(r -> ((PlainText) r.getAfter()).getText())
+          .containsExactly("fast!");
+        List<SourcesFileErrors.Row> errors = run.getDataTableRows(SourcesFileErrors.class.getName());
+        assertThat(errors).extracting(SourcesFileErrors.Row::getSourcePath).containsExactly("slow.txt");
+    }
+
+    @Test
+    void recipeTimeoutOfSlowScannerDoesNotSkipLaterScanners() {
+        List<SourceFile> sources = List.of(
+          PlainText.builder().sourcePath(Paths.get("slow.txt")).text("slow").build(),
+          PlainText.builder().sourcePath(Paths.get("hello.txt")).text("hello").build()
+        );
+        ExecutionContext ctx = new InMemoryExecutionContext(t -> {
+        });
+        ctx.putMessage(ExecutionContext.SOURCE_FILE_TIMEOUT, Duration.ofSeconds(30));
+        ctx.putMessage(ExecutionContext.RECIPE_SOURCE_FILE_TIMEOUT, Duration.ofMillis(100));
+        DeclarativeRecipe recipe = new DeclarativeRecipe(
+          "root",
+          "Root recipe",
+          "Root recipe.",
+          emptySet(),
+          null,
+          URI.create("dummy:recipe.yml"),
+          false,
+          emptyList()
+        );
+        recipe.addUninitialized(new SlowScanningRecipe());
+        recipe.addUninitialized(new CountingRecipe());
+        recipe.initialize(List.of(), Map.of());
+
+        RecipeRun run = recipe.run(new InMemoryLargeSourceSet(sources), ctx);
+
+        // the counting recipe still scanned the source file that the slow recipe timed out on
+        assertThat(run.getChangeset().getAllResults())
+          .extracting(r -> ((PlainText) r.getAfter()).getText())
+          .containsExactly("hello 2");
+        List<SourcesFileErrors.Row> errors = run.getDataTableRows(SourcesFileErrors.class.getName());
+        assertThat(errors).extracting(SourcesFileErrors.Row::getSourcePath).containsExactly("slow.txt");
+    }
+}
+
+@AllArgsConstructor
+class AppendUntilRecipe extends Recipe {
+    final Map<String, Integer> visits;
+
+    @Override
+    public String getDisplayName() {
+        return "Append until";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Appends to the text `a` one cycle at a time.";
+    }
+
+    @Override
+    public boolean causesAnotherCycle() {
+        return true;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new PlainTextVisitor<>() {
+            @Override
+            public PlainText visitText(PlainText text, ExecutionContext ctx) {
+                visits.merge(text.getText().substring(0, 1), 1, Integer::sum);
+                return text.getText().startsWith("a") && text.getText().length() < 4 ? text.withText(text.getText() + "!") : text;
+            }
+        };
+    }
+}
+
+class CountingRecipe extends ScanningRecipe<AtomicInteger> {
+
+    @Override
+    public String getDisplayName() {
+        return "Count source files";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Appends the number of scanned source files to each text file.";
+    }
+
+    @Override
+    public AtomicInteger getInitialValue(ExecutionContext ctx) {
+        return new AtomicInteger();
+    }
+
+    @Override
+    public boolean canMergeAccumulators() {
+        return true;
+    }
+
+    @Override
+    public AtomicInteger mergeAccumulators(AtomicInteger acc, AtomicInteger other, ExecutionContext ctx) {
+        acc.addAndGet(other.get());
+        return acc;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(AtomicInteger acc) {
+        return new TreeVisitor<>() {
+            @Override
+            public Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                acc.incrementAndGet();
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(AtomicInteger acc) {
+        return new PlainTextVisitor<>() {
+            @Override
+            public PlainText visitText(PlainText text, ExecutionContext ctx) {
+                return text.getText().equals("hello") ? text.withText("hello " + acc.get()) : text;
+            }
+        };
+    }
+}
+
+class SlowScanningRecipe extends ScanningRecipe<AtomicInteger> {
+
+    @Override
+    public String getDisplayName() {
+        return "Scan slowly";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Scans the text `slow` until the scan is cancelled.";
+    }
+
+    @Override
+    public AtomicInteger getInitialValue(ExecutionContext ctx) {
+        return new AtomicInteger();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(AtomicInteger acc) {
+        return new PlainTextVisitor<>() {
+            @Override
+            public PlainText visitText(PlainText text, ExecutionContext ctx) {
+                if ("slow".equals(text.getText())) {
+                    PlainTextVisitor<ExecutionContext> inner = new PlainTextVisitor<>();
+                    //noinspection InfiniteLoopStatement
+                    while (true) {
+                        inner.visit(text, ctx);
+                    }
+                }
+                return text;
+            }
+        };
+    }
+}
+
+/**
+ * Records the order in which source files are scanned into an accumulator that isn't thread-safe.
+ */
+class ScanOrderRecipe extends ScanningRecipe<List<Path>> {
+
+    @Override
+    public String getDisplayName() {
+        return "Record scan order";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Appends whether source files were scanned in order to each text file.";
+    }
+
+    @Override
+    public List<Path> getInitialValue(ExecutionContext ctx) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(List<Path> acc) {
+        return new TreeVisitor<>() {
+            @Override
+            public Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                acc.add(((SourceFile) requireNonNull(tree)).getSourcePath());
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(List<Path> acc) {
+        return new PlainTextVisitor<>() {
+            @Override
+            public PlainText visitText(PlainText text, ExecutionContext ctx) {
+                boolean inOrder = IntStream.range(0, acc.size()).allMatch(i -> acc.get(i).equals(Paths.get(i + ".txt")));
+                return text.withText(text.getText() + (inOrder ? " in order" : " out of order"));
+            }
+        };
+    }
 }
 
 @AllArgsConstructor
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.quark.Quark;
+import org.openrewrite.text.PlainText;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResultTest {
+
+    @Test
+    void writeAfterMovesAndDeletesFiles(@TempDir Path root) throws IOException {
+        PlainText before = PlainText.builder()
+          .sourcePath(Paths.get("a/1.txt"))
+          .text("one")
+          .build();
+        Files.createDirectories(root.resolve("a"));
+        Files.writeString(root.resolve("a/1.txt"), "one");
+
+        PlainText after = before.withSourcePath(Paths.get("b/1.txt")).withText("two");
+        assertThat(new Result(before, after, emptyList()).writeAfter(root)).isEqualTo(root.resolve("b/1.txt"));
+        assertThat(root.resolve("a/1.txt")).doesNotExist();
+        assertThat(root.resolve("b/1.txt")).hasContent("two");
+
+        assertThat(new Result(after, null, emptyList()).writeAfter(root)).isNull();
+        assertThat(root.resolve("b/1.txt")).doesNotExist();
+    }
+
+    @Test
+    void writeAfterMovesQuarksAsTheyAre(@TempDir Path root) throws IOException {
+        Quark before = new Quark(Tree.randomId(), Paths.get("a/image.png"), Markers.EMPTY, null, null);
+        Files.createDirectories(root.resolve("a"));
+        Files.write(root.resolve("a/image.png"), new byte[]{1, 2, 3});
+
+        Quark after = before.withSourcePath(Paths.get("b/image.png"));
+        assertThat(new Result(before, after, emptyList()).writeAfter(root)).isEqualTo(root.resolve("b/image.png"));
+        assertThat(root.resolve("a/image.png")).doesNotExist();
+        assertThat(root.resolve("b/image.png")).hasBinaryContent(new byte[]{1, 2, 3});
+    }
+
+    @Test
+    void writerPrintOutputCaptureDoesNotCaptureOutput() {
+        StringWriter writer = new StringWriter();
+        PlainText text = PlainText.builder().sourcePath(Paths.get("1.txt")).text("one").build();
+
+        assertThat(text.printAll(new WriterPrintOutputCapture<>(0, writer))).isEmpty();
+        assertThat(writer.toString()).isEqualTo("one");
+    }
+}
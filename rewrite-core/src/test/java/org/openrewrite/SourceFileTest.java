@@ -18,6 +18,7 @@
 import org.junit.jupiter.api.Test;
 import org.openrewrite.text.PlainText;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -62,4 +63,30 @@ void isNotPrintEqualForDifferentCharsets() {
           .isFalse();
     }
 
+    @Test
+    void isNotPrintEqualWhenInputIsLongerOrShorter() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        SourceFile sourceFile = PlainText.builder()
+          .text("hello")
+          .build();
+
+        assertThat(sourceFile.printEqualsInput(Parser.Input.fromString("hello world"), ctx)).isFalse();
+        assertThat(sourceFile.printEqualsInput(Parser.Input.fromString("hell"), ctx)).isFalse();
+        assertThat(sourceFile.printEqualsInput(Parser.Input.fromString("jello"), ctx)).isFalse();
+        assertThat(sourceFile.printEqualsInput(Parser.Input.fromString("hello"), ctx)).isTrue();
+    }
+
+    @Test
+    void printAllToEncodesAsPrinted() {
+        SourceFile sourceFile = PlainText.builder()
+          .text("äö")
+          .charsetName("ISO-8859-1")
+          .build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        sourceFile.printAllTo(out);
+        assertThat(out.toByteArray())
+          .isEqualTo("äö".getBytes(StandardCharsets.ISO_8859_1))
+          .isEqualTo(sourceFile.printAllAsBytes());
+    }
 }
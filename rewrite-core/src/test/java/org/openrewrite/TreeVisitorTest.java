@@ -56,4 +56,29 @@ public Tree preVisit(Tree tree, Integer i) {
         visitor.visit(quark, 0);
         assertThat(visited).hasValue(2);
     }
+
+    @Test
+    void recordsTopLevelVisitsOnlyWhenMetricsAreRegistered() {
+        Quark quark = new Quark(Tree.randomId(), Paths.get("quark"), Markers.EMPTY, null, null);
+        AtomicInteger recorded = new AtomicInteger(0);
+        TreeVisitor<Tree, ExecutionContext> visitor = new TreeVisitor<>() {
+            @Override
+            public Tree preVisit(Tree tree, ExecutionContext ctx) {
+                doAfterVisit(TreeVisitor.noop());
+                return tree;
+            }
+        };
+
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        visitor.visit(quark, ctx);
+
+        ctx.putMessage(TreeVisitorMetrics.TREE_VISITOR_METRICS, (TreeVisitorMetrics) (v, visitCount, visitNanos, cumulativeNanos) -> {
+            assertThat(v).isSameAs(visitor);
+            assertThat(visitCount).isEqualTo(1);
+            assertThat(cumulativeNanos).isGreaterThanOrEqualTo(visitNanos);
+            recorded.incrementAndGet();
+        });
+        visitor.visit(quark, ctx);
+        assertThat(recorded).hasValue(1);
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.*;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.text.PlainTextVisitor;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.test.RewriteTest.toRecipe;
+
+class FileSystemDataTableStoreTest {
+
+    @Test
+    void rowsAreReadBackFromDisk(@TempDir Path dir) {
+        FileSystemDataTableStore store = new FileSystemDataTableStore(dir, 2);
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        ctx.putMessage(DataTableStore.DATA_TABLE_STORE, store);
+
+        Recipe recipe = toRecipe(r -> new PlainTextVisitor<>() {
+            final CharacterTable characters = new CharacterTable(r);
+
+            @Override
+            public PlainText visitText(PlainText text, ExecutionContext ctx) {
+                for (char c : text.getText().toCharArray()) {
+                    characters.insertRow(ctx, new CharacterTable.Row(String.valueOf(c)));
+                }
+                return text;
+            }
+        });
+        RecipeRun run = recipe.run(new InMemoryLargeSourceSet(List.of(
+          PlainText.builder().sourcePath(Paths.get("a.txt")).text("hello").build())), ctx);
+
+        List<CharacterTable.Row> rows = run.getDataTableRows(CharacterTable.class.getName());
+        assertThat(rows).extracting(CharacterTable.Row::getCharacter)
+          .containsExactly("h", "e", "l", "l", "o");
+        assertThat(rows.get(4).getCharacter()).isEqualTo("o");
+        assertThat(rows.get(1).getCharacter()).isEqualTo("e");
+        assertThat(rows.get(2).getCharacter()).isEqualTo("l");
+        assertThat(rows.iterator().next().getCharacter()).isEqualTo("h");
+
+        store.close();
+        assertThat(dir.toFile().list()).isEmpty();
+    }
+
+    static class CharacterTable extends DataTable<CharacterTable.Row> {
+        public CharacterTable(Recipe recipe) {
+            super(recipe, Row.class, CharacterTable.class.getName(),
+              "Characters", "Each character in the text.");
+        }
+
+        static class Row {
+            @Column(displayName = "Character", description = "A character of the text.")
+            private String character;
+
+            public Row() {
+            }
+
+            public Row(String character) {
+                this.character = character;
+            }
+
+            public String getCharacter() {
+                return character;
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.*;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.text.PlainTextParser;
+import org.openrewrite.text.PlainTextVisitor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.test.RewriteTest.toRecipe;
+
+class FileSystemLargeSourceSetTest {
+
+    @Test
+    void changesetMaterializesFromDisk(@TempDir Path dir) {
+        List<SourceFile> parsed = PlainTextParser.builder().build().parse(
+          new InMemoryExecutionContext(),
+          "hello",
+          "goodbye"
+        ).collect(toList());
+        FileSystemLargeSourceSet sourceSet = new FileSystemLargeSourceSet(dir, parsed);
+
+        Recipe recipe = toRecipe(() -> new PlainTextVisitor<>() {
+            @Override
+            public PlainText visitText(PlainText text, ExecutionContext ctx) {
+                return "hello".equals(text.getText()) ? text.withText("hi") : text;
+            }
+        });
+        RecipeRun run = recipe.run(sourceSet, new InMemoryExecutionContext());
+
+        List<Result> results = run.getChangeset().getAllResults();
+        assertThat(results).hasSize(1);
+        assertThat(((PlainText) results.get(0).getBefore()).getText()).isEqualTo("hello");
+        assertThat(((PlainText) results.get(0).getAfter()).getText()).isEqualTo("hi");
+        assertThat(results.get(0).getRecipes()).isNotEmpty();
+
+        assertThat(sourceSet.getBefore(parsed.get(1).getSourcePath())).isNotNull();
+        assertThat(dir.toFile().list()).hasSize(3);
+
+        sourceSet.close();
+        assertThat(dir.toFile().list()).isEmpty();
+    }
+
+    @Test
+    void smileCodecRoundTripsParsedSourceFiles() throws IOException {
+        SourceFile parsed = PlainTextParser.builder().build().parse(
+          new InMemoryExecutionContext(),
+          "hello\nworld\n"
+        ).findFirst().orElseThrow();
+
+        FileSystemLargeSourceSet.SmileCodec codec = new FileSystemLargeSourceSet.SmileCodec();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.write(parsed, out);
+        SourceFile read = codec.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertThat(read).isInstanceOf(PlainText.class);
+        assertThat(read.getId()).isEqualTo(parsed.getId());
+        assertThat(read.getSourcePath()).isEqualTo(parsed.getSourcePath());
+        assertThat(read.getMarkers().getMarkers()).isEqualTo(parsed.getMarkers().getMarkers());
+        assertThat(read.printAll()).isEqualTo(parsed.printAll());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.internal;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.LargeSourceSet;
+import org.openrewrite.Recipe;
+import org.openrewrite.Result;
+import org.openrewrite.SourceFile;
+import org.openrewrite.marker.RecipesThatMadeChanges;
+import org.openrewrite.text.PlainText;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryLargeSourceSetTest {
+
+    @Test
+    void changesetIsInSourceSetOrder() {
+        PlainText a = text("a.txt");
+        PlainText b = text("b.txt");
+        PlainText c = text("c.txt");
+        LargeSourceSet sourceSet = new InMemoryLargeSourceSet(List.of(a, b, c));
+
+        sourceSet = sourceSet.generate(List.of(changed(text("d.txt"))));
+        sourceSet = sourceSet.edit(s -> s == c ? changed(c) : s);
+        sourceSet = sourceSet.edit(s -> s == a ? changed(a) : s);
+        sourceSet = sourceSet.edit(s -> s.getSourcePath().equals(Paths.get("d.txt")) ? changed((PlainText) s) : s);
+
+        List<Result> results = sourceSet.getChangeset().getAllResults();
+        assertThat(results).extracting(r -> r.getAfter().getSourcePath().toString())
+          .containsExactly("a.txt", "c.txt", "d.txt");
+
+        assertThat(sourceSet.getBefore(Paths.get("c.txt"))).isSameAs(c);
+        assertThat(sourceSet.getBefore(Paths.get("d.txt"))).isNull();
+    }
+
+    @Test
+    void revertedSourceFileIsNotAChange() {
+        PlainText a = text("a.txt");
+        LargeSourceSet sourceSet = new InMemoryLargeSourceSet(List.of(a));
+
+        sourceSet = sourceSet.edit(s -> changed(a));
+        sourceSet = sourceSet.edit(s -> a);
+
+        assertThat(sourceSet.getChangeset().size()).isEqualTo(0);
+    }
+
+    private static PlainText text(String path) {
+        return PlainText.builder().sourcePath(Paths.get(path)).text("").build();
+    }
+
+    private static SourceFile changed(PlainText text) {
+        return text
+          .withText(text.getText() + "changed")
+          .withMarkers(text.getMarkers().add(RecipesThatMadeChanges.create(List.of(Recipe.noop()))));
+    }
+}
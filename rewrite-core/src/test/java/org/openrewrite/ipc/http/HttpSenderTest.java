@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.ipc.http;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpSenderTest {
+
+    @Test
+    void okHttpSenderLimitsConcurrentRequestsPerHost() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody("first"));
+            server.enqueue(new MockResponse().setBody("second"));
+            server.start();
+
+            HttpSender sender = new OkHttpSender(new OkHttpClient(), 1);
+            HttpSender.Response first = sender.send(sender.get(server.url("/first").toString()).build());
+            CompletableFuture<byte[]> second = CompletableFuture.supplyAsync(() -> {
+                try (HttpSender.Response response = sender.send(sender.get(server.url("/second").toString()).build())) {
+                    return response.getBodyAsBytes();
+                }
+            });
+
+            assertThat(server.takeRequest().getPath()).isEqualTo("/first");
+            // the second request waits for the permit held by the first response
+            assertThat(server.takeRequest(500, TimeUnit.MILLISECONDS)).isNull();
+            assertThat(second).isNotDone();
+
+            assertThat(new String(first.getBodyAsBytes())).isEqualTo("first");
+            assertThat(new String(second.get(10, TimeUnit.SECONDS))).isEqualTo("second");
+            assertThat(server.takeRequest().getPath()).isEqualTo("/second");
+        }
+    }
+
+    @Test
+    void okHttpSenderPassesHeaders() throws Exception {
+        passesHeaders(new OkHttpSender());
+    }
+
+    @Test
+    void httpUrlConnectionSenderPassesHeaders() throws Exception {
+        passesHeaders(new HttpUrlConnectionSender());
+    }
+
+    @Test
+    void httpUrlConnectionSenderReusesConnections() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody("first"));
+            server.enqueue(new MockResponse().setBody("second"));
+            server.start();
+
+            HttpSender sender = new HttpUrlConnectionSender();
+            for (String path : new String[]{"/first", "/second"}) {
+                try (HttpSender.Response response = sender.send(sender.get(server.url(path).toString()).build())) {
+                    assertThat(response.getBodyAsBytes()).isNotEmpty();
+                }
+            }
+
+            assertThat(server.takeRequest().getSequenceNumber()).isEqualTo(0);
+            // a sequence number counts the requests made over one connection
+            assertThat(server.takeRequest().getSequenceNumber()).isEqualTo(1);
+        }
+    }
+
+    private static void passesHeaders(HttpSender sender) throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse()
+              .setResponseCode(304)
+              .setHeader("ETag", "\"v1\"")
+              .setHeader("Last-Modified", "Wed, 21 Oct 2015 07:28:00 GMT"));
+            server.start();
+
+            try (HttpSender.Response response = sender.send(sender.get(server.url("/metadata").toString())
+              .withHeader("If-None-Match", "\"v0\"")
+              .build())) {
+                assertThat(response.getCode()).isEqualTo(304);
+                assertThat(response.getHeader("etag")).isEqualTo("\"v1\"");
+                assertThat(response.getHeader("Last-Modified")).isEqualTo("Wed, 21 Oct 2015 07:28:00 GMT");
+                assertThat(response.getHeader("X-Missing")).isNull();
+            }
+
+            RecordedRequest request = server.takeRequest();
+            assertThat(request.getHeader("If-None-Match")).isEqualTo("\"v0\"");
+        }
+    }
+}
@@ -56,6 +56,29 @@ void addAcceptsNonDuplicates() {
         assertThat(markers.findAll(TextMarker.class)).hasSize(2);
     }
 
+    @Test
+    void internedMarkerSharesMarkers() {
+        TextMarker interned = Markers.intern(new TextMarker(randomId(), "interned"));
+        assertThat(Markers.intern(new TextMarker(randomId(), "interned"))).isSameAs(interned);
+        assertThat(Markers.EMPTY.add(interned)).isSameAs(Markers.build(Collections.singletonList(interned)));
+        assertThat(Markers.EMPTY.computeByType(interned, (m1, m2) -> m1)).isSameAs(Markers.EMPTY.add(interned));
+    }
+
+    @Test
+    void computeWithoutChangeReturnsSameMarkers() {
+        Markers markers = Markers.EMPTY.add(new TextMarker(randomId(), "thing1"));
+        assertThat(markers.computeByType(new TextMarker(randomId(), "thing2"), (m1, m2) -> m1)).isSameAs(markers);
+    }
+
+    @Test
+    void computeRemovesMarkerRemappedToNull() {
+        Markers markers = Markers.EMPTY
+          .add(new TextMarker(randomId(), "thing1"))
+          .add(new SearchResult(randomId(), null));
+        assertThat(markers.computeByType(new TextMarker(randomId(), "thing2"), (m1, m2) -> null).getMarkers())
+          .containsExactly(new SearchResult(randomId(), null));
+    }
+
     private static class TextMarker implements Marker {
         private final UUID id;
         private final String text;
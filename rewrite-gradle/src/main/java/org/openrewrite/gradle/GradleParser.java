@@ -27,11 +27,10 @@
 import org.openrewrite.java.JavaParser;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 @RequiredArgsConstructor
 public class GradleParser implements Parser {
@@ -76,12 +75,23 @@ public Stream<SourceFile> parseInputs(Iterable<Input> sources, @Nullable Path re
                     .build();
         }
 
-        return StreamSupport.stream(sources.spliterator(), false)
-                .flatMap(source -> {
-                    if (source.getPath().endsWith("settings.gradle")) {
-                        return settingsParser.parseInputs(Collections.singletonList(source), relativeTo, ctx);
+        // consecutive scripts of the same kind are parsed together, so that they may be parsed in parallel
+        List<List<Input>> runs = new ArrayList<>();
+        boolean settings = false;
+        for (Input source : sources) {
+            boolean isSettings = source.getPath().endsWith("settings.gradle");
+            if (runs.isEmpty() || isSettings != settings) {
+                runs.add(new ArrayList<>());
+                settings = isSettings;
+            }
+            runs.get(runs.size() - 1).add(source);
+        }
+        return runs.stream()
+                .flatMap(run -> {
+                    if (run.get(0).getPath().endsWith("settings.gradle")) {
+                        return settingsParser.parseInputs(run, relativeTo, ctx);
                     }
-                    return buildParser.parseInputs(Collections.singletonList(source), relativeTo, ctx);
+                    return buildParser.parseInputs(run, relativeTo, ctx);
                 });
     }
 
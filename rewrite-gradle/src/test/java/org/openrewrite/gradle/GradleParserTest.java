@@ -16,9 +16,14 @@
 package org.openrewrite.gradle;
 
 import org.junit.jupiter.api.Test;
+import org.openrewrite.SourceFile;
+import org.openrewrite.groovy.GroovyParser;
+import org.openrewrite.groovy.tree.G;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.test.RewriteTest;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.gradle.Assertions.buildGradle;
 import static org.openrewrite.gradle.Assertions.settingsGradle;
@@ -188,4 +193,44 @@ void handleImportsThatArentTheFirstStatement() {
           )
         );
     }
+
+    @Test
+    void reuseCompilationInfrastructureAcrossScripts() {
+        GradleParser parser = GradleParser.builder()
+          .groovyParser(GroovyParser.builder().reuseCompilationInfrastructure(true).parallelism(2))
+          .build();
+        List<SourceFile> parsed = parser.parse(
+          """
+            plugins {
+                id 'java-library'
+            }
+            dependencies {
+                implementation "org.openrewrite:rewrite-java:latest.release"
+            }
+            """,
+          """
+            plugins {
+                id 'java'
+            }
+            dependencies {
+                testImplementation "org.junit.jupiter:junit-jupiter:latest.release"
+            }
+            """,
+          """
+            plugins {
+                id 'groovy'
+            }
+            dependencies {
+                implementation "org.codehaus.groovy:groovy:latest.release"
+            }
+            """
+        ).toList();
+
+        assertThat(parsed).hasSize(3).allSatisfy(sourceFile -> {
+            assertThat(sourceFile).isInstanceOf(G.CompilationUnit.class);
+            G.CompilationUnit cu = (G.CompilationUnit) sourceFile;
+            J.MethodInvocation dependencies = (J.MethodInvocation) cu.getStatements().get(1);
+            assertThat(dependencies.getMethodType()).isNotNull();
+        });
+    }
 }
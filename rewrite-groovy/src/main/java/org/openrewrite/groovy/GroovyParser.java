@@ -41,6 +41,7 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -59,6 +60,15 @@ public class GroovyParser implements Parser {
     private final boolean logCompilationWarningsAndErrors;
     private final JavaTypeCache typeCache;
     private final List<Consumer<CompilerConfiguration>> compilerCustomizers;
+    private final boolean reuseCompilationInfrastructure;
+    private final int parallelism;
+
+    /**
+     * Class loaders and class node resolvers that are not in use, when compilation infrastructure is reused.
+     */
+    private final Queue<CompilationInfrastructure> compilers = new ConcurrentLinkedQueue<>();
+
+    private volatile @Nullable CompilerConfiguration configuration;
 
     @Override
     public Stream<SourceFile> parse(@Language("groovy") String... sources) {
@@ -90,7 +100,54 @@ public Stream<SourceFile> parse(@Language("groovy") String... sources) {
 
     @Override
     public Stream<SourceFile> parseInputs(Iterable<Input> sources, @Nullable Path relativeTo, ExecutionContext ctx) {
-        CompilerConfiguration configuration = new CompilerConfiguration();
+        CompilerConfiguration configuration = compilerConfiguration();
+        if (parallelism <= 1) {
+            return StreamSupport.stream(sources.spliterator(), false)
+                    .map(input -> parse(input, configuration, typeCache, relativeTo, ctx));
+        }
+
+        List<Input> inputs = StreamSupport.stream(sources.spliterator(), false).collect(toList());
+        if (inputs.isEmpty()) {
+            return Stream.empty();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, inputs.size()), r -> {
+            Thread thread = new Thread(r, "rewrite-groovy-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // type mappings put a type into the cache before they are done building it, so rather than sharing
+        // the type cache, each thread maps types into a clone of its own that no other thread can see
+        ThreadLocal<JavaTypeCache> typeCaches = ThreadLocal.withInitial(typeCache::clone);
+        List<Future<SourceFile>> parsed = new ArrayList<>(inputs.size());
+        for (Input input : inputs) {
+            parsed.add(executor.submit(() -> parse(input, configuration, typeCaches.get(), relativeTo, ctx)));
+        }
+        executor.shutdown();
+        return parsed.stream().map(future -> {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executor.shutdownNow();
+                throw new IllegalStateException("Interrupted while waiting for source files to be parsed", e);
+            } catch (ExecutionException e) {
+                executor.shutdownNow();
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                } else if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        });
+    }
+
+    private CompilerConfiguration compilerConfiguration() {
+        CompilerConfiguration configuration = this.configuration;
+        if (configuration != null) {
+            return configuration;
+        }
+        configuration = new CompilerConfiguration();
         configuration.setTolerance(Integer.MAX_VALUE);
         configuration.setWarningLevel(WarningMessage.NONE);
         configuration.setClasspathList(classpath == null ? emptyList() : classpath.stream()
@@ -106,69 +163,85 @@ public Stream<SourceFile> parseInputs(Iterable<Input> sources, @Nullable Path re
         for (Consumer<CompilerConfiguration> compilerCustomizer : compilerCustomizers) {
             compilerCustomizer.accept(configuration);
         }
+        if (reuseCompilationInfrastructure) {
+            // class loaders that are reused must all be created from the same configuration
+            this.configuration = configuration;
+        }
+        return configuration;
+    }
 
+    private SourceFile parse(Input input, CompilerConfiguration configuration, JavaTypeCache typeCache,
+                             @Nullable Path relativeTo, ExecutionContext ctx) {
         ParsingExecutionContextView pctx = ParsingExecutionContextView.view(ctx);
-        return StreamSupport.stream(sources.spliterator(), false)
-                .map(input -> {
-                    ParseWarningCollector errorCollector = new ParseWarningCollector(configuration, this);
-                    try (GroovyClassLoader classLoader = new GroovyClassLoader(getClass().getClassLoader(), configuration, true)) {
-                        SourceUnit unit = new SourceUnit(
-                                "doesntmatter",
-                                new InputStreamReaderSource(input.getSource(ctx), configuration),
-                                configuration,
-                                classLoader,
-                                errorCollector
-                        );
-
-                        pctx.getParsingListener().startedParsing(input);
-                        CompilationUnit compUnit = new CompilationUnit(configuration, null, classLoader, classLoader);
-                        compUnit.addSource(unit);
-                        compUnit.compile(Phases.CANONICALIZATION);
-                        ModuleNode ast = unit.getAST();
-
-                        for (ClassNode aClass : ast.getClasses()) {
-                            try {
-                                StaticTypeCheckingVisitor staticTypeCheckingVisitor = new StaticTypeCheckingVisitor(unit, aClass);
-                                staticTypeCheckingVisitor.setCompilationUnit(compUnit);
-                                staticTypeCheckingVisitor.visitClass(aClass);
-                            } catch (NoClassDefFoundError ignored) {
-                            }
-                        }
-
-                        CompiledGroovySource compiled = new CompiledGroovySource(input, unit, ast);
-                        List<ParseWarning> warnings = errorCollector.getWarningMarkers();
-                        GroovyParserVisitor mappingVisitor = new GroovyParserVisitor(
-                                compiled.getInput().getRelativePath(relativeTo),
-                                compiled.getInput().getFileAttributes(),
-                                compiled.getInput().getSource(ctx),
-                                typeCache,
-                                ctx
-                        );
-                        G.CompilationUnit gcu = mappingVisitor.visit(compiled.getSourceUnit(), compiled.getModule());
-                        if (warnings.size() > 0) {
-                            Markers m = gcu.getMarkers();
-                            for (ParseWarning warning : warnings) {
-                                m = m.add(warning);
-                            }
-                            gcu = gcu.withMarkers(m);
-                        }
-                        pctx.getParsingListener().parsed(compiled.getInput(), gcu);
-                        return requirePrintEqualsInput(gcu, input, relativeTo, ctx);
-                    } catch (Throwable t) {
-                        ctx.getOnError().accept(t);
-                        return ParseError.build(this, input, relativeTo, ctx, t);
-                    } finally {
-                        if (logCompilationWarningsAndErrors && (errorCollector.hasErrors() || errorCollector.hasWarnings())) {
-                            try (StringWriter sw = new StringWriter();
-                                 PrintWriter pw = new PrintWriter(sw)) {
-                                errorCollector.write(pw, new Janitor());
-                                org.slf4j.LoggerFactory.getLogger(GroovyParser.class).warn(sw.toString());
-                            } catch (IOException ignored) {
-                                // unreachable
-                            }
-                        }
-                    }
-                });
+        ParseWarningCollector errorCollector = new ParseWarningCollector(configuration, this);
+        CompilationInfrastructure compiler = reuseCompilationInfrastructure ? compilers.poll() : null;
+        if (compiler == null) {
+            compiler = new CompilationInfrastructure(configuration);
+        }
+        try {
+            GroovyClassLoader classLoader = compiler.classLoader;
+            SourceUnit unit = new SourceUnit(
+                    "doesntmatter",
+                    new InputStreamReaderSource(input.getSource(ctx), configuration),
+                    configuration,
+                    classLoader,
+                    errorCollector
+            );
+
+            pctx.getParsingListener().startedParsing(input);
+            CompilationUnit compUnit = new CompilationUnit(configuration, null, classLoader, classLoader);
+            compUnit.setClassNodeResolver(compiler.classNodeResolver);
+            compUnit.addSource(unit);
+            compUnit.compile(Phases.CANONICALIZATION);
+            ModuleNode ast = unit.getAST();
+
+            for (ClassNode aClass : ast.getClasses()) {
+                try {
+                    StaticTypeCheckingVisitor staticTypeCheckingVisitor = new StaticTypeCheckingVisitor(unit, aClass);
+                    staticTypeCheckingVisitor.setCompilationUnit(compUnit);
+                    staticTypeCheckingVisitor.visitClass(aClass);
+                } catch (NoClassDefFoundError ignored) {
+                }
+            }
+
+            CompiledGroovySource compiled = new CompiledGroovySource(input, unit, ast);
+            List<ParseWarning> warnings = errorCollector.getWarningMarkers();
+            GroovyParserVisitor mappingVisitor = new GroovyParserVisitor(
+                    compiled.getInput().getRelativePath(relativeTo),
+                    compiled.getInput().getFileAttributes(),
+                    compiled.getInput().getSource(ctx),
+                    typeCache,
+                    ctx
+            );
+            G.CompilationUnit gcu = mappingVisitor.visit(compiled.getSourceUnit(), compiled.getModule());
+            if (warnings.size() > 0) {
+                Markers m = gcu.getMarkers();
+                for (ParseWarning warning : warnings) {
+                    m = m.add(warning);
+                }
+                gcu = gcu.withMarkers(m);
+            }
+            pctx.getParsingListener().parsed(compiled.getInput(), gcu);
+            return requirePrintEqualsInput(gcu, input, relativeTo, ctx);
+        } catch (Throwable t) {
+            ctx.getOnError().accept(t);
+            return ParseError.build(this, input, relativeTo, ctx, t);
+        } finally {
+            if (reuseCompilationInfrastructure) {
+                compilers.add(compiler);
+            } else {
+                compiler.close();
+            }
+            if (logCompilationWarningsAndErrors && (errorCollector.hasErrors() || errorCollector.hasWarnings())) {
+                try (StringWriter sw = new StringWriter();
+                     PrintWriter pw = new PrintWriter(sw)) {
+                    errorCollector.write(pw, new Janitor());
+                    org.slf4j.LoggerFactory.getLogger(GroovyParser.class).warn(sw.toString());
+                } catch (IOException ignored) {
+                    // unreachable
+                }
+            }
+        }
     }
 
     @Override
@@ -180,6 +253,10 @@ public boolean accept(Path path) {
     @Override
     public GroovyParser reset() {
         typeCache.clear();
+        for (CompilationInfrastructure compiler = compilers.poll(); compiler != null; compiler = compilers.poll()) {
+            compiler.close();
+        }
+        configuration = null;
         return this;
     }
 
@@ -208,6 +285,8 @@ public static class Builder extends Parser.Builder {
         private boolean logCompilationWarningsAndErrors = false;
         private final List<NamedStyles> styles = new ArrayList<>();
         private final List<Consumer<CompilerConfiguration>> compilerCustomizers = new ArrayList<>();
+        private boolean reuseCompilationInfrastructure = false;
+        private int parallelism = 1;
 
         public Builder() {
             super(G.CompilationUnit.class);
@@ -221,6 +300,8 @@ public Builder(Builder base) {
             this.logCompilationWarningsAndErrors = base.logCompilationWarningsAndErrors;
             this.styles.addAll(base.styles);
             this.compilerCustomizers.addAll(base.compilerCustomizers);
+            this.reuseCompilationInfrastructure = base.reuseCompilationInfrastructure;
+            this.parallelism = base.parallelism;
         }
 
         public Builder logCompilationWarningsAndErrors(boolean logCompilationWarningsAndErrors) {
@@ -252,6 +333,33 @@ public Builder typeCache(JavaTypeCache typeCache) {
             return this;
         }
 
+        /**
+         * Reuse the class loader over the classpath and the class nodes resolved from it from one input to the
+         * next, rather than creating them again for every input. Every input of the parser is compiled against
+         * the same classpath and compiler configuration, so this is safe whenever inputs don't load classes
+         * of their own through the class loader.
+         */
+        @Incubating(since = "8.40.0")
+        public Builder reuseCompilationInfrastructure(boolean reuseCompilationInfrastructure) {
+            this.reuseCompilationInfrastructure = reuseCompilationInfrastructure;
+            return this;
+        }
+
+        /**
+         * Parse up to this many inputs at once, each on its own thread. Source files are still returned in the order
+         * of the inputs, but the {@link org.openrewrite.tree.ParsingEventListener} and error handler of the
+         * {@link ExecutionContext} are called from multiple threads. Each thread maps types into a clone of the type
+         * cache of its own, so types found in one parse are not added to the type cache for later parses.
+         */
+        @Incubating(since = "8.40.0")
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
         public Builder styles(Iterable<? extends NamedStyles> styles) {
             for (NamedStyles style : styles) {
                 this.styles.add(style);
@@ -281,7 +389,8 @@ public GroovyParser.Builder compilerCustomizers(Iterable<Consumer<CompilerConfig
 
         @Override
         public GroovyParser build() {
-            return new GroovyParser(resolvedClasspath(), logCompilationWarningsAndErrors, typeCache, compilerCustomizers);
+            return new GroovyParser(resolvedClasspath(), logCompilationWarningsAndErrors, typeCache, compilerCustomizers,
+                    reuseCompilationInfrastructure, parallelism);
         }
 
         @Override
@@ -289,4 +398,24 @@ public String getDslName() {
             return "groovy";
         }
     }
+
+    /**
+     * A class loader over the classpath and a resolver that caches the class nodes it resolves, which are
+     * created once for each input or, when compilation infrastructure is reused, once for each thread parsing.
+     */
+    private static class CompilationInfrastructure {
+        final GroovyClassLoader classLoader;
+        final ClassNodeResolver classNodeResolver = new ClassNodeResolver();
+
+        CompilationInfrastructure(CompilerConfiguration configuration) {
+            this.classLoader = new GroovyClassLoader(GroovyParser.class.getClassLoader(), configuration, true);
+        }
+
+        void close() {
+            try {
+                classLoader.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
 }
@@ -939,7 +939,7 @@ public void visitBlockStatement(BlockStatement block) {
                 Space beforeSemicolon = whitespace();
                 if (cursor < source.length() && source.charAt(cursor) == ';') {
                     stat = stat
-                            .withMarkers(stat.getMarkers().add(new Semicolon(randomId())))
+                            .withMarkers(stat.getMarkers().add(Semicolon.INSTANCE))
                             .withAfter(beforeSemicolon);
                     cursor++;
                 } else {
@@ -2464,7 +2464,7 @@ private <G2 extends J> JRightPadded<G2> maybeSemicolon(G2 g) {
         Space beforeSemi = whitespace();
         Semicolon semicolon = null;
         if (cursor < source.length() && source.charAt(cursor) == ';') {
-            semicolon = new Semicolon(randomId());
+            semicolon = Semicolon.INSTANCE;
             cursor++;
         } else {
             beforeSemi = EMPTY;
@@ -23,8 +23,6 @@
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaSourceFile;
 
-import static org.openrewrite.Tree.randomId;
-
 public class OmitParenthesesForLastArgumentLambdaVisitor<P> extends GroovyIsoVisitor<P> {
     @Nullable
     private final Tree stopAfter;
@@ -41,7 +39,7 @@ public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, P p)
                 J l = last.getPrefix().getWhitespace().isEmpty() ?
                         ((J.Lambda) last).withPrefix(last.getPrefix().withWhitespace(" ")) :
                         last;
-                return l.withMarkers(l.getMarkers().computeByType(new OmitParentheses(randomId()), (s1, s2) -> s1));
+                return l.withMarkers(l.getMarkers().computeByType(OmitParentheses.INSTANCE, (s1, s2) -> s1));
             }
             return last;
         }));
@@ -1026,7 +1026,7 @@ public J visitNewClass(NewClassTree node, Space fmt) {
                             convertAll(node.getArguments(), commaDelim, t -> sourceBefore(")")), Markers.EMPTY);
         } else {
             args = JContainer.empty();
-            args = args.withMarkers(args.getMarkers().add(new OmitParentheses(randomId())));
+            args = args.withMarkers(args.getMarkers().add(OmitParentheses.INSTANCE));
         }
 
         J.Block body = null;
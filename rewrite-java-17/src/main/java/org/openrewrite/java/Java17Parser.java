@@ -25,6 +25,7 @@
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 public class Java17Parser implements JavaParser {
@@ -39,6 +40,12 @@ public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, @Nullable Pat
         return delegate.parseInputs(sourceFiles, relativeTo, ctx);
     }
 
+    @Override
+    public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, Predicate<Input> partition,
+                                          @Nullable Path relativeTo, ExecutionContext ctx) {
+        return delegate.parseInputs(sourceFiles, partition, relativeTo, ctx);
+    }
+
     @Override
     public JavaParser reset() {
         delegate.reset();
@@ -16,12 +16,15 @@
 package org.openrewrite.java.isolated;
 
 import com.sun.tools.javac.comp.Annotate;
+import com.sun.tools.javac.comp.AttrContext;
 import com.sun.tools.javac.comp.Check;
 import com.sun.tools.javac.comp.Enter;
+import com.sun.tools.javac.comp.Env;
 import com.sun.tools.javac.comp.Modules;
 import com.sun.tools.javac.file.JavacFileManager;
 import com.sun.tools.javac.main.JavaCompiler;
 import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeScanner;
 import com.sun.tools.javac.util.Context;
 import com.sun.tools.javac.util.Log;
 import com.sun.tools.javac.util.Options;
@@ -54,6 +57,7 @@
 import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -147,8 +151,14 @@ public static Builder builder() {
 
     @Override
     public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, @Nullable Path relativeTo, ExecutionContext ctx) {
+        return parseInputs(sourceFiles, input -> true, relativeTo, ctx);
+    }
+
+    @Override
+    public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, Predicate<Input> partition,
+                                          @Nullable Path relativeTo, ExecutionContext ctx) {
         ParsingEventListener parsingListener = ParsingExecutionContextView.view(ctx).getParsingListener();
-        LinkedHashMap<Input, JCTree.JCCompilationUnit> cus = parseInputsToCompilerAst(sourceFiles, ctx);
+        LinkedHashMap<Input, JCTree.JCCompilationUnit> cus = parseInputsToCompilerAst(sourceFiles, partition, ctx);
         return cus.entrySet().stream().map(cuByPath -> {
             Input input = cuByPath.getKey();
             parsingListener.startedParsing(input);
@@ -175,6 +185,16 @@ public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, @Nullable Pat
     }
 
     LinkedHashMap<Input, JCTree.JCCompilationUnit> parseInputsToCompilerAst(Iterable<Input> sourceFiles, ExecutionContext ctx) {
+        return parseInputsToCompilerAst(sourceFiles, input -> true, ctx);
+    }
+
+    /**
+     * @return The compilation units of the inputs in the partition, with all inputs entered into the symbol table
+     * but only those in the partition type attributed.
+     */
+    private LinkedHashMap<Input, JCTree.JCCompilationUnit> parseInputsToCompilerAst(Iterable<Input> sourceFiles,
+                                                                                    Predicate<Input> partition,
+                                                                                    ExecutionContext ctx) {
         if (classpath != null) { // override classpath
             if (context.get(JavaFileManager.class) != pfm) {
                 throw new IllegalStateException("JavaFileManager has been forked unexpectedly");
@@ -203,6 +223,15 @@ LinkedHashMap<Input, JCTree.JCCompilationUnit> parseInputsToCompilerAst(Iterable
             }
         });
 
+        Set<JCTree.JCCompilationUnit> attributed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<Input, JCTree.JCCompilationUnit> cu : cus.entrySet()) {
+            if (partition.test(cu.getKey())) {
+                attributed.add(cu.getValue());
+            } else {
+                cu.getValue().accept(new SignaturesOnly());
+            }
+        }
+
         try {
             initModules(cus.values());
             enterAll(cus.values());
@@ -214,16 +243,34 @@ LinkedHashMap<Input, JCTree.JCCompilationUnit> parseInputsToCompilerAst(Iterable
                 annotate.unblockAnnotations(); // also flushes once unblocked
             }
 
-            compiler.attribute(compiler.todo);
+            compiler.attribute(attributed.size() == cus.size() ? compiler.todo : todo(attributed));
         } catch (
                 Throwable t) {
             // when symbol entering fails on problems like missing types, attribution can often times proceed
             // unhindered, but it sometimes cannot (so attribution is always best-effort in the presence of errors)
             ctx.getOnError().accept(new JavaParsingException("Failed symbol entering or attribution", t));
         }
+        if (attributed.size() < cus.size()) {
+            cus.values().removeIf(cu -> !attributed.contains(cu));
+        }
         return cus;
     }
 
+    /**
+     * Take the classes of the given compilation units from the compiler's queue of classes to attribute, dropping
+     * the classes of any other compilation units.
+     */
+    private Queue<Env<AttrContext>> todo(Set<JCTree.JCCompilationUnit> attributed) {
+        Queue<Env<AttrContext>> todo = new ArrayDeque<>();
+        while (!compiler.todo.isEmpty()) {
+            Env<AttrContext> env = compiler.todo.remove();
+            if (attributed.contains(env.toplevel)) {
+                todo.add(env);
+            }
+        }
+        return todo;
+    }
+
     @Override
     public ReloadableJava17Parser reset() {
         typeCache.clear();
@@ -285,6 +332,24 @@ private void enterAll(Collection<JCTree.JCCompilationUnit> cus) {
         enter.main(compilationUnits);
     }
 
+    /**
+     * Drops the statements of method bodies and initializers from a compilation unit that is only entered into the
+     * symbol table, since only attribution needs them.
+     */
+    private static class SignaturesOnly extends TreeScanner {
+        @Override
+        public void visitMethodDef(JCTree.JCMethodDecl tree) {
+            if (tree.body != null) {
+                tree.body.stats = com.sun.tools.javac.util.List.nil();
+            }
+        }
+
+        @Override
+        public void visitBlock(JCTree.JCBlock tree) {
+            tree.stats = com.sun.tools.javac.util.List.nil();
+        }
+    }
+
     private static class ResettableLog extends Log {
         protected ResettableLog(Context context) {
             super(context);
@@ -19,6 +19,7 @@
 import com.sun.tools.javac.file.JavacFileManager;
 import com.sun.tools.javac.main.JavaCompiler;
 import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeScanner;
 import com.sun.tools.javac.util.Context;
 import com.sun.tools.javac.util.Log;
 import com.sun.tools.javac.util.Options;
@@ -49,6 +50,7 @@
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -137,6 +139,12 @@ public void close() {
 
     @Override
     public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, @Nullable Path relativeTo, ExecutionContext ctx) {
+        return parseInputs(sourceFiles, input -> true, relativeTo, ctx);
+    }
+
+    @Override
+    public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, Predicate<Input> partition,
+                                          @Nullable Path relativeTo, ExecutionContext ctx) {
         ParsingEventListener parsingListener = ParsingExecutionContextView.view(ctx).getParsingListener();
         if (classpath != null) { // override classpath
             if (context.get(JavaFileManager.class) != pfm) {
@@ -168,14 +176,26 @@ public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, @Nullable Pat
                         },
                         (e2, e1) -> e1, LinkedHashMap::new));
 
+        Set<JCTree.JCCompilationUnit> attributed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<Input, JCTree.JCCompilationUnit> cu : cus.entrySet()) {
+            if (partition.test(cu.getKey())) {
+                attributed.add(cu.getValue());
+            } else {
+                cu.getValue().accept(new SignaturesOnly());
+            }
+        }
+
         try {
             enterAll(cus.values());
-            compiler.attribute(new TimedTodo(compiler.todo));
+            compiler.attribute(new TimedTodo(attributed.size() == cus.size() ? compiler.todo : todo(attributed)));
         } catch (Throwable t) {
             // when symbol entering fails on problems like missing types, attribution can often times proceed
             // unhindered, but it sometimes cannot (so attribution is always a BEST EFFORT in the presence of errors)
             ctx.getOnError().accept(new JavaParsingException("Failed symbol entering or attribution", t));
         }
+        if (attributed.size() < cus.size()) {
+            cus.values().removeIf(cu -> !attributed.contains(cu));
+        }
 
         return cus.entrySet().stream().map(cuByPath -> {
             Input input = cuByPath.getKey();
@@ -200,6 +220,21 @@ public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, @Nullable Pat
         });
     }
 
+    /**
+     * Take the classes of the given compilation units from the compiler's queue of classes to attribute, dropping
+     * the classes of any other compilation units.
+     */
+    private Queue<Env<AttrContext>> todo(Set<JCTree.JCCompilationUnit> attributed) {
+        Queue<Env<AttrContext>> todo = new ArrayDeque<>();
+        while (!compiler.todo.isEmpty()) {
+            Env<AttrContext> env = compiler.todo.remove();
+            if (attributed.contains(env.toplevel)) {
+                todo.add(env);
+            }
+        }
+        return todo;
+    }
+
     @Override
     public ReloadableJava8Parser reset() {
         typeCache.clear();
@@ -242,6 +277,24 @@ private void enterAll(Collection<JCTree.JCCompilationUnit> cus) {
         enter.main(compilationUnits);
     }
 
+    /**
+     * Drops the statements of method bodies and initializers from a compilation unit that is only entered into the
+     * symbol table, since only attribution needs them.
+     */
+    private static class SignaturesOnly extends TreeScanner {
+        @Override
+        public void visitMethodDef(JCTree.JCMethodDecl tree) {
+            if (tree.body != null) {
+                tree.body.stats = com.sun.tools.javac.util.List.nil();
+            }
+        }
+
+        @Override
+        public void visitBlock(JCTree.JCBlock tree) {
+            tree.stats = com.sun.tools.javac.util.List.nil();
+        }
+    }
+
     private static class ResettableLog extends Log {
         protected ResettableLog(Context context) {
             super(context);
@@ -262,10 +315,10 @@ public void reset(Collection<URI> uris) {
     }
 
     private static class TimedTodo extends Todo {
-        private final Todo todo;
+        private final Queue<Env<AttrContext>> todo;
         private Timer.@Nullable Sample sample;
 
-        private TimedTodo(Todo todo) {
+        private TimedTodo(Queue<Env<AttrContext>> todo) {
             super(new Context());
             this.todo = todo;
         }
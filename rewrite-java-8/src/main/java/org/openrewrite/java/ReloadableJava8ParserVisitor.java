@@ -1025,7 +1025,7 @@ public J visitNewClass(NewClassTree node, Space fmt) {
                             convertAll(node.getArguments(), commaDelim, t -> sourceBefore(")")), Markers.EMPTY);
         } else {
             args = JContainer.<Expression>empty()
-                    .withMarkers(Markers.build(singletonList(new OmitParentheses(randomId()))));
+                    .withMarkers(Markers.build(singletonList(OmitParentheses.INSTANCE)));
         }
 
         J.Block body = null;
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileSystemLargeSourceSetJavaTest {
+
+    @Test
+    void javaSourceFilesRoundTripThroughDisk(@TempDir Path dir) {
+        List<SourceFile> parsed = JavaParser.fromJavaVersion().build().parse(
+          new InMemoryExecutionContext(t -> {
+              throw new AssertionError(t);
+          }),
+          """
+            package a;
+            import java.util.List;
+            class A {
+                List<String> names;
+                String first() {
+                    return names.get(0);
+                }
+            }
+            """
+        ).collect(toList());
+
+        try (FileSystemLargeSourceSet sourceSet = new FileSystemLargeSourceSet(dir, parsed)) {
+            SourceFile read = sourceSet.getBefore(parsed.get(0).getSourcePath());
+
+            assertThat(read).isInstanceOf(J.CompilationUnit.class);
+            assertThat(read.getId()).isEqualTo(parsed.get(0).getId());
+            assertThat(read.printAll()).isEqualTo(parsed.get(0).printAll());
+
+            J.ClassDeclaration a = ((J.CompilationUnit) read).getClasses().get(0);
+            assertThat(TypeUtils.isOfClassType(a.getType(), "a.A")).isTrue();
+            J.VariableDeclarations names = (J.VariableDeclarations) a.getBody().getStatements().get(0);
+            assertThat(TypeUtils.isOfClassType(names.getType(), "java.util.List")).isTrue();
+            assertThat(((JavaType.Parameterized) names.getType()).getTypeParameters())
+              .singleElement()
+              .satisfies(t -> assertThat(TypeUtils.isString(t)).isTrue());
+        }
+    }
+}
@@ -26,6 +26,8 @@
 import org.openrewrite.Issue;
 import org.openrewrite.SourceFile;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
 import org.openrewrite.test.RewriteTest;
 
 import java.io.IOException;
@@ -159,6 +161,33 @@ void shouldResolvePathUsingPublicClasses(@Language("java") String source) {
         );
     }
 
+    @Test
+    void parallelParsingAttributesTypesDeclaredInOtherPartitions() {
+        ParallelJavaParser parser = new ParallelJavaParser(JavaParser.fromJavaVersion(), 2);
+        List<SourceFile> sourceFiles = parser.parse(
+          new InMemoryExecutionContext(t -> {
+              throw new AssertionError(t);
+          }),
+          "package a; public class A { public static B b() { return new B(); } }",
+          "package a; public class B { public String name() { return \"b\"; } }",
+          "package a; class C { String name = A.b().name(); }"
+        ).toList();
+
+        assertThat(sourceFiles)
+          .extracting(s -> s.getSourcePath().toString().replace('\\', '/'))
+          .containsExactlyInAnyOrder("a/A.java", "a/B.java", "a/C.java");
+        J.CompilationUnit c = sourceFiles.stream()
+          .map(J.CompilationUnit.class::cast)
+          .filter(cu -> cu.getSourcePath().endsWith("C.java"))
+          .findFirst()
+          .orElseThrow();
+        J.VariableDeclarations name = (J.VariableDeclarations) c.getClasses().get(0).getBody().getStatements().get(0);
+        JavaType.Method nameType = ((J.MethodInvocation) name.getVariables().get(0).getInitializer()).getMethodType();
+        assertThat(nameType).isNotNull();
+        assertThat(nameType.getDeclaringType().getFullyQualifiedName()).isEqualTo("a.B");
+        assertThat(TypeUtils.isString(nameType.getReturnType())).isTrue();
+    }
+
     @Test
     @Issue("https://github.com/openrewrite/rewrite/issues/1895")
     void moduleInfo(){
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class MethodMatcherIndexTest implements RewriteTest {
+
+    @Test
+    void matchesLikeEachMatcher() {
+        List<MethodMatcher> matchers = List.of(
+          new MethodMatcher("java.util.List add(..)"),
+          new MethodMatcher("java.util.Collection add(..)", true),
+          new MethodMatcher("java.util.Collection add(..)"),
+          new MethodMatcher("java.util.* add*(..)"),
+          new MethodMatcher("java.lang.String substring(int)"),
+          new MethodMatcher("java.lang.String substring(int, int)"),
+          new MethodMatcher("java.lang.Object toString()", true),
+          new MethodMatcher("*..* *(..)")
+        );
+        MethodMatcherIndex index = new MethodMatcherIndex(matchers);
+        AtomicInteger invocations = new AtomicInteger();
+
+        rewriteRun(
+          java(
+            """
+              import java.util.*;
+              class Test {
+                  void test(List<String> l, ArrayList<String> a, String s) {
+                      l.add(s);
+                      a.addAll(l);
+                      s.substring(1);
+                      s.substring(1, 2);
+                      a.toString();
+                      s.toString();
+                  }
+              }
+              """,
+            spec -> spec.afterRecipe(cu -> new JavaIsoVisitor<Integer>() {
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                    invocations.incrementAndGet();
+                    List<MethodMatcher> expected = new ArrayList<>();
+                    for (MethodMatcher matcher : matchers) {
+                        if (matcher.matches(method)) {
+                            expected.add(matcher);
+                        }
+                    }
+                    assertThat(index.matching(method)).containsExactlyElementsOf(expected);
+                    assertThat(index.matching(method)).isSameAs(index.matching(method.getMethodType()));
+                    return method;
+                }
+            }.visit(cu, 0))
+          )
+        );
+
+        assertThat(invocations.get()).isEqualTo(6);
+    }
+}
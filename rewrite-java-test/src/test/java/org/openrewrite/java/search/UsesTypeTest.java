@@ -17,7 +17,12 @@
 
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
 import org.openrewrite.Issue;
+import org.openrewrite.Preconditions;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.marker.SearchResult;
 import org.openrewrite.test.RewriteTest;
 
 import static org.openrewrite.java.Assertions.java;
@@ -303,4 +308,41 @@ class Test {
           )
         );
     }
+
+    @Test
+    void preconditionMatchesSupertypeWithoutVisiting() {
+        rewriteRun(
+          spec -> spec.recipe(RewriteTest.toRecipe(() -> Preconditions.check(
+            new UsesType<>("java.util.Collection", false),
+            new JavaIsoVisitor<>() {
+                @Override
+                public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                    return SearchResult.found(classDecl);
+                }
+            }))),
+          java(
+            """
+              import java.util.ArrayList;
+              
+              class A {
+                  ArrayList<String> l;
+              }
+              """,
+            """
+              import java.util.ArrayList;
+              
+              /*~~>*/class A {
+                  ArrayList<String> l;
+              }
+              """
+          ),
+          java(
+            """
+              class B {
+                  String s;
+              }
+              """
+          )
+        );
+    }
 }
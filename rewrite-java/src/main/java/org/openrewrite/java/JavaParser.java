@@ -41,6 +41,7 @@
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -293,6 +294,32 @@ default boolean accept(Path path) {
      */
     void setClasspath(Collection<Path> classpath);
 
+    /**
+     * Parse only the inputs in a partition of {@code sourceFiles}, as part of parsing all of them. The other inputs
+     * are still entered into the compiler's symbol table, so that types they declare are attributed in the source
+     * files of this partition, but they are not type attributed or mapped to source files. Parsers that each parse a
+     * different partition of the same inputs can therefore run in parallel, as {@link ParallelJavaParser} does.
+     *
+     * @param sourceFiles All the inputs to compile together.
+     * @param partition   Whether an input is to be parsed to a source file by this call.
+     * @param relativeTo  Source paths are made relative to this path.
+     * @param ctx         The execution context.
+     * @return The source files of the inputs in the partition.
+     */
+    @Incubating(since = "8.40.0")
+    default Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, Predicate<Input> partition,
+                                           @Nullable Path relativeTo, ExecutionContext ctx) {
+        // A parser that can't attribute part of a compilation parses all of it and keeps the partition
+        Set<Path> inPartition = new HashSet<>();
+        for (Input input : sourceFiles) {
+            if (partition.test(input)) {
+                inPartition.add(input.getRelativePath(relativeTo));
+            }
+        }
+        return parseInputs(sourceFiles, relativeTo, ctx)
+                .filter(sourceFile -> inPartition.contains(sourceFile.getSourcePath()));
+    }
+
     @SuppressWarnings("unchecked")
     abstract class Builder<P extends JavaParser, B extends Builder<P, B>> extends Parser.Builder {
         protected Collection<Path> classpath = Collections.emptyList();
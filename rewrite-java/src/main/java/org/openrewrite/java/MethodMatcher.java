@@ -22,6 +22,7 @@
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
 import org.openrewrite.internal.StringUtils;
 import org.openrewrite.java.internal.grammar.MethodSignatureLexer;
 import org.openrewrite.java.internal.grammar.MethodSignatureParser;
@@ -29,6 +30,7 @@
 import org.openrewrite.java.tree.*;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -168,6 +170,22 @@ public MethodMatcher(JavaType.Method method) {
         this(methodPattern(method), false);
     }
 
+    /**
+     * @return The method name to match, or null if the method name is a pattern.
+     */
+    @Incubating(since = "8.40.0")
+    public @Nullable String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * @return The fully qualified name of the declaring type to match, or null if the declaring type is a pattern.
+     */
+    @Nullable
+    String getTargetType() {
+        return targetType;
+    }
+
     @Deprecated
     public Pattern getTargetTypePattern() {
         return targetTypePattern != null ? targetTypePattern : Pattern.compile(requireNonNull(targetType));
@@ -197,7 +215,7 @@ boolean matchesTargetType(JavaType.@Nullable FullyQualified type) {
     }
 
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
-    private boolean matchesMethodName(String methodName) {
+    boolean matchesMethodName(String methodName) {
         return this.methodName != null && this.methodName.equals(methodName) ||
                this.methodNamePattern != null && methodNamePattern.matcher(methodName).matches();
     }
@@ -208,7 +226,24 @@ private boolean matchesParameterTypes(List<JavaType> parameterTypes) {
         } else if (argumentPattern == EMPTY_ARGUMENTS_PATTERN) {
             return parameterTypes.isEmpty();
         }
+        return argumentPattern.matcher(parameterSignature(parameterTypes)).matches();
+    }
+
+    /**
+     * @param signature Supplies the {@link #parameterSignature(List) signature} of the parameter types, which is
+     *                  only needed when the argument list isn't empty or "..", so that callers can compute it once
+     *                  for many matchers.
+     */
+    boolean matchesParameterTypes(List<JavaType> parameterTypes, Supplier<String> signature) {
+        if (argumentPattern == ANY_ARGUMENTS_PATTERN) {
+            return true;
+        } else if (argumentPattern == EMPTY_ARGUMENTS_PATTERN) {
+            return parameterTypes.isEmpty();
+        }
+        return argumentPattern.matcher(signature.get()).matches();
+    }
 
+    static String parameterSignature(List<JavaType> parameterTypes) {
         StringJoiner joiner = new StringJoiner(",");
         for (JavaType javaType : parameterTypes) {
             String s = typePattern(javaType);
@@ -216,7 +251,7 @@ private boolean matchesParameterTypes(List<JavaType> parameterTypes) {
                 joiner.add(s);
             }
         }
-        return argumentPattern.matcher(joiner.toString()).matches();
+        return joiner.toString();
     }
 
     public boolean matches(JavaType.@Nullable Method type) {
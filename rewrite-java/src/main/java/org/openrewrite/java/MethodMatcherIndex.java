@@ -0,0 +1,231 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.MethodCall;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static org.openrewrite.java.tree.TypeUtils.toFullyQualifiedName;
+
+/**
+ * Many {@link MethodMatcher method matchers} combined so that all of those that match a method are found in one
+ * lookup, rather than by testing every matcher against every method. Matchers are grouped by method name and, unless
+ * their declaring type is a pattern, by declaring type, so only the matchers with a method name or declaring type
+ * pattern are tested one by one. The parameter signature of a method is computed at most once for all matchers.
+ * <p>
+ * Results are remembered for each {@link JavaType.Method} instance, since the method invocations of a source file
+ * share the method types they refer to. An index is safe to share between threads.
+ */
+@Incubating(since = "8.40.0")
+public class MethodMatcherIndex {
+    private static final int MAX_CACHED_METHODS = 10_000;
+
+    private final List<MethodMatcher> matchers;
+    private final Map<String, Candidates> byMethodName = new HashMap<>();
+    private final Candidates byMethodNamePattern = new Candidates();
+    private final Map<MethodIdentity, List<MethodMatcher>> matchingByMethod = new ConcurrentHashMap<>();
+
+    public MethodMatcherIndex(Collection<MethodMatcher> matchers) {
+        this.matchers = new ArrayList<>(matchers);
+        for (int i = 0; i < this.matchers.size(); i++) {
+            MethodMatcher matcher = this.matchers.get(i);
+            String methodName = matcher.getMethodName();
+            if (methodName == null) {
+                byMethodNamePattern.add(i, matcher);
+            } else {
+                byMethodName.computeIfAbsent(methodName, n -> new Candidates()).add(i, matcher);
+            }
+        }
+    }
+
+    /**
+     * @return The matchers that match the method, in the order they were given to this index.
+     */
+    public List<MethodMatcher> matching(JavaType.@Nullable Method method) {
+        if (method == null) {
+            return emptyList();
+        }
+        MethodIdentity identity = new MethodIdentity(method);
+        List<MethodMatcher> matching = matchingByMethod.get(identity);
+        if (matching == null) {
+            matching = computeMatching(method);
+            if (matchingByMethod.size() >= MAX_CACHED_METHODS) {
+                matchingByMethod.clear();
+            }
+            matchingByMethod.put(identity, matching);
+        }
+        return matching;
+    }
+
+    /**
+     * @return The matchers that match the method called, in the order they were given to this index.
+     */
+    public List<MethodMatcher> matching(@Nullable MethodCall methodCall) {
+        return methodCall == null ? emptyList() : matching(methodCall.getMethodType());
+    }
+
+    public boolean matchesAny(JavaType.@Nullable Method method) {
+        return !matching(method).isEmpty();
+    }
+
+    public boolean matchesAny(@Nullable MethodCall methodCall) {
+        return !matching(methodCall).isEmpty();
+    }
+
+    private List<MethodMatcher> computeMatching(JavaType.Method method) {
+        BitSet matched = new BitSet(matchers.size());
+        ParameterSignature signature = new ParameterSignature(method.getParameterTypes());
+        Candidates named = byMethodName.get(method.getName());
+        if (named != null) {
+            named.test(method, signature, matched, false);
+        }
+        byMethodNamePattern.test(method, signature, matched, true);
+
+        if (matched.isEmpty()) {
+            return emptyList();
+        }
+        List<MethodMatcher> matching = new ArrayList<>(matched.cardinality());
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            matching.add(matchers.get(i));
+        }
+        return unmodifiableList(matching);
+    }
+
+    /**
+     * The positions of matchers that may match a method, by how their declaring type is matched.
+     */
+    private class Candidates {
+        final Map<String, List<Integer>> byDeclaringType = new HashMap<>();
+        final Map<String, List<Integer>> byOverriddenType = new HashMap<>();
+        final List<Integer> byDeclaringTypePattern = new ArrayList<>();
+
+        void add(int position, MethodMatcher matcher) {
+            String targetType = matcher.getTargetType();
+            if (targetType == null) {
+                byDeclaringTypePattern.add(position);
+            } else {
+                (matcher.isMatchOverrides() ? byOverriddenType : byDeclaringType)
+                        .computeIfAbsent(toFullyQualifiedName(targetType), t -> new ArrayList<>())
+                        .add(position);
+            }
+        }
+
+        void test(JavaType.Method method, ParameterSignature signature, BitSet matched, boolean testName) {
+            JavaType.FullyQualified declaringType = method.getDeclaringType();
+            if (declaringType != null && !(declaringType instanceof JavaType.Unknown)) {
+                if (!byDeclaringType.isEmpty()) {
+                    test(byDeclaringType.get(toFullyQualifiedName(declaringType.getFullyQualifiedName())),
+                            method, signature, matched, testName);
+                }
+                if (!byOverriddenType.isEmpty()) {
+                    // Like TypeUtils.isOfTypeWithName, any type is a subtype of Object
+                    test(byOverriddenType.get("java.lang.Object"), method, signature, matched, testName);
+                    testHierarchy(declaringType, new HashSet<>(), method, signature, matched, testName);
+                }
+            }
+
+            for (Integer position : byDeclaringTypePattern) {
+                MethodMatcher matcher = matchers.get(position);
+                if (!matched.get(position) &&
+                    (!testName || matcher.matchesMethodName(method.getName())) &&
+                    matcher.matchesTargetType(declaringType) &&
+                    matcher.matchesParameterTypes(method.getParameterTypes(), signature)) {
+                    matched.set(position);
+                }
+            }
+        }
+
+        private void testHierarchy(JavaType.@Nullable FullyQualified type, Set<String> visited, JavaType.Method method,
+                                   ParameterSignature signature, BitSet matched, boolean testName) {
+            if (type == null || type instanceof JavaType.Unknown) {
+                return;
+            }
+            String fqn = toFullyQualifiedName(type.getFullyQualifiedName());
+            if (!visited.add(fqn)) {
+                return;
+            }
+            test(byOverriddenType.get(fqn), method, signature, matched, testName);
+            testHierarchy(type.getSupertype(), visited, method, signature, matched, testName);
+            for (JavaType.FullyQualified anInterface : type.getInterfaces()) {
+                testHierarchy(anInterface, visited, method, signature, matched, testName);
+            }
+        }
+
+        private void test(@Nullable List<Integer> positions, JavaType.Method method, ParameterSignature signature,
+                          BitSet matched, boolean testName) {
+            if (positions == null) {
+                return;
+            }
+            for (Integer position : positions) {
+                MethodMatcher matcher = matchers.get(position);
+                if (!matched.get(position) &&
+                    (!testName || matcher.matchesMethodName(method.getName())) &&
+                    matcher.matchesParameterTypes(method.getParameterTypes(), signature)) {
+                    matched.set(position);
+                }
+            }
+        }
+    }
+
+    private static class ParameterSignature implements Supplier<String> {
+        private final List<JavaType> parameterTypes;
+
+        @Nullable
+        private String signature;
+
+        ParameterSignature(List<JavaType> parameterTypes) {
+            this.parameterTypes = parameterTypes;
+        }
+
+        @Override
+        public String get() {
+            if (signature == null) {
+                signature = MethodMatcher.parameterSignature(parameterTypes);
+            }
+            return signature;
+        }
+    }
+
+    /**
+     * {@link JavaType.Method} compares its signature in {@link Object#equals(Object)}, but results are
+     * remembered by instance.
+     */
+    private static class MethodIdentity {
+        private final JavaType.Method method;
+
+        MethodIdentity(JavaType.Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof MethodIdentity && ((MethodIdentity) o).method == method;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(method);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Incubating;
+import org.openrewrite.SourceFile;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A Java parser that parses on several threads, each with a parser of its own that is reused from one parse to the
+ * next. The inputs of a parse are partitioned between the parsers, and each parser enters all the inputs into its
+ * compiler's symbol table but only type attributes and maps the inputs of its partition, so source files are
+ * attributed just as if they had been parsed by one parser. Every parser parses each input, so the parsing itself
+ * is repeated while the far more expensive attribution and mapping are split between the parsers.
+ * <p>
+ * Each parser has a type cache of its own, cloned from the cache of the builder. Type mappings put a type into their
+ * cache before they are done building it, so a cache shared between parsers would let one parser see another's
+ * partially built types. Types in source files of different partitions are therefore equal, but not necessarily the
+ * same instances. Source files are streamed in the order they are mapped, rather
+ * than the order of the inputs, and the {@link org.openrewrite.tree.ParsingEventListener} and error handler of the
+ * {@link ExecutionContext} are called from multiple threads. Like other parsers, this parser must not be used by
+ * more than one thread at a time.
+ */
+@Incubating(since = "8.40.0")
+public class ParallelJavaParser implements JavaParser {
+    private static final Object DONE = new Object();
+
+    private final List<JavaParser> parsers;
+
+    /**
+     * @param builder     Builds each of the parsers.
+     * @param parallelism The number of parsers, and so of threads parsing at once.
+     */
+    public ParallelJavaParser(JavaParser.Builder<? extends JavaParser, ?> builder, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.parsers = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            // cloning the builder clones its type cache
+            parsers.add(builder.clone().build());
+        }
+    }
+
+    @Override
+    public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, @Nullable Path relativeTo, ExecutionContext ctx) {
+        List<Input> inputs = acceptedInputs(sourceFiles).collect(toList());
+        if (parsers.size() == 1) {
+            return parsers.get(0).parseInputs(inputs, relativeTo, ctx);
+        }
+
+        // Every parser sees every input, even with fewer inputs than parsers, so that their symbol tables stay
+        // the same for later parses that depend on these inputs
+        List<Set<Input>> partitions = new ArrayList<>(parsers.size());
+        for (int i = 0; i < parsers.size(); i++) {
+            partitions.add(Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        for (int i = 0; i < inputs.size(); i++) {
+            partitions.get(i % parsers.size()).add(inputs.get(i));
+        }
+
+        BlockingQueue<Object> parsed = new LinkedBlockingQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(parsers.size(), r -> {
+            Thread thread = new Thread(r, "rewrite-java-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < parsers.size(); i++) {
+            JavaParser parser = parsers.get(i);
+            Predicate<Input> inPartition = partitions.get(i)::contains;
+            executor.execute(() -> {
+                try {
+                    parser.parseInputs(inputs, inPartition, relativeTo, ctx).forEach(parsed::add);
+                } catch (Throwable t) {
+                    parsed.add(t);
+                } finally {
+                    parsed.add(DONE);
+                }
+            });
+        }
+        executor.shutdown();
+
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<SourceFile>(inputs.size(), Spliterator.NONNULL) {
+            int running = parsers.size();
+
+            @Override
+            public boolean tryAdvance(Consumer<? super SourceFile> action) {
+                while (running > 0) {
+                    Object next;
+                    try {
+                        next = parsed.take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        executor.shutdownNow();
+                        throw new IllegalStateException("Interrupted while waiting for source files to be parsed", e);
+                    }
+                    if (next == DONE) {
+                        running--;
+                    } else if (next instanceof Throwable) {
+                        executor.shutdownNow();
+                        if (next instanceof RuntimeException) {
+                            throw (RuntimeException) next;
+                        } else if (next instanceof Error) {
+                            throw (Error) next;
+                        }
+                        throw new IllegalStateException((Throwable) next);
+                    } else {
+                        action.accept((SourceFile) next);
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }, false);
+    }
+
+    @Override
+    public ParallelJavaParser reset() {
+        for (JavaParser parser : parsers) {
+            parser.reset();
+        }
+        return this;
+    }
+
+    @Override
+    public ParallelJavaParser reset(Collection<URI> uris) {
+        for (JavaParser parser : parsers) {
+            parser.reset(uris);
+        }
+        return this;
+    }
+
+    @Override
+    public void setClasspath(Collection<Path> classpath) {
+        for (JavaParser parser : parsers) {
+            parser.setClasspath(classpath);
+        }
+    }
+}
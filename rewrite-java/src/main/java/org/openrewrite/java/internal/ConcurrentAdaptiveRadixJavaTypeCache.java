@@ -0,0 +1,233 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
+import org.openrewrite.internal.AdaptiveRadixTree;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An {@link AdaptiveRadixJavaTypeCache} that may be shared by parsers running on multiple threads. Entries are
+ * spread over radix trees that are each guarded by a read-write lock, so lookups only contend with insertions
+ * into the same stripe.
+ * <p>
+ * The radix tree doesn't track recency of use, so when a maximum size is set a stripe that grows beyond
+ * its share of that size is cleared, except for the types that were put into it most recently. Type mappings
+ * put a type into the cache before they are done building it, so as with {@link ConcurrentJavaTypeCache},
+ * the last half of the stripe's share of the maximum size of put types are kept to preserve the identity of
+ * types that may still be being built. A small maximum size is spread over fewer stripes, so that each holds
+ * at least {@value ConcurrentJavaTypeCache#MINIMUM_STRIPE_SIZE} types.
+ */
+@Incubating(since = "8.40.0")
+public class ConcurrentAdaptiveRadixJavaTypeCache extends AdaptiveRadixJavaTypeCache {
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final int maximumSize;
+    private Stripe[] stripes;
+
+    private LongAdder hits = new LongAdder();
+    private LongAdder misses = new LongAdder();
+    private LongAdder evictions = new LongAdder();
+
+    /**
+     * Create a cache without a maximum size.
+     */
+    public ConcurrentAdaptiveRadixJavaTypeCache() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maximumSize The maximum number of types to hold.
+     */
+    public ConcurrentAdaptiveRadixJavaTypeCache(int maximumSize) {
+        this(maximumSize, DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param maximumSize The maximum number of types to hold.
+     * @param stripes     The number of independently locked stripes, rounded up to a power of two, and reduced
+     *                    when needed so that each stripe holds at least {@value ConcurrentJavaTypeCache#MINIMUM_STRIPE_SIZE} types.
+     */
+    public ConcurrentAdaptiveRadixJavaTypeCache(int maximumSize, int stripes) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.maximumSize = maximumSize;
+        int n = ConcurrentJavaTypeCache.stripes(maximumSize, stripes);
+        int maximumPerStripe = maximumSize == Integer.MAX_VALUE ? Integer.MAX_VALUE : maximumSize / n;
+        this.stripes = new Stripe[n];
+        for (int i = 0; i < n; i++) {
+            this.stripes[i] = new Stripe(new AdaptiveRadixTree<>(), maximumPerStripe);
+        }
+    }
+
+    @Override
+    public <T> @Nullable T get(String signature) {
+        Stripe stripe = stripe(signature);
+        Object value;
+        stripe.lock.readLock().lock();
+        try {
+            value = stripe.tree.search(signature);
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        //noinspection unchecked
+        return (T) value;
+    }
+
+    @Override
+    public void put(String signature, Object o) {
+        Stripe stripe = stripe(signature);
+        stripe.lock.writeLock().lock();
+        try {
+            if (stripe.tree.search(signature) == null) {
+                if (stripe.size >= stripe.maximumSize) {
+                    stripe.evict();
+                }
+                stripe.size++;
+            }
+            stripe.tree.insert(signature, o);
+            stripe.putRecent(signature, o);
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.writeLock().lock();
+            try {
+                stripe.tree.clear();
+                stripe.recent.clear();
+                stripe.size = 0;
+            } finally {
+                stripe.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.readLock().lock();
+            try {
+                size += stripe.size;
+            } finally {
+                stripe.lock.readLock().unlock();
+            }
+        }
+        return size;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private Stripe stripe(String signature) {
+        int h = signature.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    @Override
+    public ConcurrentAdaptiveRadixJavaTypeCache clone() {
+        ConcurrentAdaptiveRadixJavaTypeCache clone = (ConcurrentAdaptiveRadixJavaTypeCache) super.clone();
+        clone.hits = new LongAdder();
+        clone.misses = new LongAdder();
+        clone.evictions = new LongAdder();
+        clone.stripes = new Stripe[stripes.length];
+        for (int i = 0; i < stripes.length; i++) {
+            Stripe stripe = stripes[i];
+            stripe.lock.readLock().lock();
+            try {
+                clone.stripes[i] = clone.new Stripe(stripe.tree.copy(), stripe.maximumSize);
+                clone.stripes[i].recent.putAll(stripe.recent);
+                clone.stripes[i].size = stripe.size;
+            } finally {
+                stripe.lock.readLock().unlock();
+            }
+        }
+        return clone;
+    }
+
+    private class Stripe {
+        final ReadWriteLock lock = new ReentrantReadWriteLock();
+        final AdaptiveRadixTree<Object> tree;
+        final int maximumSize;
+        int size;
+
+        /**
+         * The types that were put into this stripe most recently, which may still be being built.
+         */
+        final LinkedHashMap<String, Object> recent = new LinkedHashMap<>();
+
+        Stripe(AdaptiveRadixTree<Object> tree, int maximumSize) {
+            this.tree = tree;
+            this.maximumSize = maximumSize;
+        }
+
+        void putRecent(String signature, Object o) {
+            if (maximumSize == Integer.MAX_VALUE) {
+                // nothing is ever evicted
+                return;
+            }
+            recent.remove(signature);
+            recent.put(signature, o);
+            if (recent.size() > maximumSize / 2) {
+                Iterator<String> eldest = recent.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+        }
+
+        /**
+         * Clear the tree, except for the types that were put into it most recently.
+         */
+        void evict() {
+            evictions.add(size - recent.size());
+            tree.clear();
+            for (Map.Entry<String, Object> entry : recent.entrySet()) {
+                tree.insert(entry.getKey(), entry.getValue());
+            }
+            size = recent.size();
+        }
+    }
+}
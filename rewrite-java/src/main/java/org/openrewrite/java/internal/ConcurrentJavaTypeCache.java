@@ -0,0 +1,238 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link JavaTypeCache} that may be shared by parsers running on multiple threads. Entries are
+ * spread over independently locked stripes, and when a maximum size is set each stripe evicts its
+ * least recently used entries to stay within its share of that size.
+ * <p>
+ * Type mappings put a type into the cache before they are done building it, so that recursive references
+ * resolve to the same instance. To keep the identity of such types, an entry is not evicted until at least
+ * half as many other entries have been put into its stripe as the stripe holds, and stripes hold at least
+ * {@value #MINIMUM_STRIPE_SIZE} entries, so a small maximum size is spread over fewer stripes.
+ */
+@Incubating(since = "8.40.0")
+public class ConcurrentJavaTypeCache extends JavaTypeCache {
+    private static final int DEFAULT_STRIPES = 64;
+    static final int MINIMUM_STRIPE_SIZE = 256;
+
+    private final int maximumSize;
+    private Stripe[] stripes;
+
+    private LongAdder hits = new LongAdder();
+    private LongAdder misses = new LongAdder();
+    private LongAdder evictions = new LongAdder();
+
+    /**
+     * Create a cache without a maximum size.
+     */
+    public ConcurrentJavaTypeCache() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maximumSize The maximum number of types to hold, after which the least recently used types are evicted.
+     */
+    public ConcurrentJavaTypeCache(int maximumSize) {
+        this(maximumSize, DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param maximumSize The maximum number of types to hold, after which the least recently used types are evicted.
+     * @param stripes     The number of independently locked stripes, rounded up to a power of two, and reduced
+     *                    when needed so that each stripe holds at least {@value #MINIMUM_STRIPE_SIZE} types.
+     */
+    public ConcurrentJavaTypeCache(int maximumSize, int stripes) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.maximumSize = maximumSize;
+        int n = stripes(maximumSize, stripes);
+        int maximumPerStripe = maximumSize == Integer.MAX_VALUE ? Integer.MAX_VALUE : maximumSize / n;
+        this.stripes = new Stripe[n];
+        for (int i = 0; i < n; i++) {
+            this.stripes[i] = new Stripe(maximumPerStripe);
+        }
+    }
+
+    /**
+     * @return The number of stripes rounded up to a power of two, halved until each stripe holds at least
+     * {@link #MINIMUM_STRIPE_SIZE} entries of the maximum size or a single stripe is left.
+     */
+    static int stripes(int maximumSize, int stripes) {
+        int n = 1;
+        while (n < stripes) {
+            n <<= 1;
+        }
+        while (n > 1 && maximumSize / n < MINIMUM_STRIPE_SIZE) {
+            n >>>= 1;
+        }
+        return n;
+    }
+
+    @Override
+    public <T> @Nullable T get(String signature) {
+        Stripe stripe = stripe(signature);
+        Object key = key(signature);
+        Object value;
+        synchronized (stripe) {
+            value = stripe.get(key);
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        //noinspection unchecked
+        return (T) value;
+    }
+
+    @Override
+    public void put(String signature, Object o) {
+        Stripe stripe = stripe(signature);
+        Object key = key(signature);
+        synchronized (stripe) {
+            stripe.put(key, o);
+            stripe.evict();
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private Stripe stripe(String signature) {
+        int h = signature.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    @Override
+    public ConcurrentJavaTypeCache clone() {
+        ConcurrentJavaTypeCache clone = (ConcurrentJavaTypeCache) super.clone();
+        clone.hits = new LongAdder();
+        clone.misses = new LongAdder();
+        clone.evictions = new LongAdder();
+        clone.stripes = new Stripe[stripes.length];
+        for (int i = 0; i < stripes.length; i++) {
+            synchronized (stripes[i]) {
+                clone.stripes[i] = clone.new Stripe(stripes[i].maximumSize);
+                clone.stripes[i].putAll(stripes[i]);
+                clone.stripes[i].puts = stripes[i].puts;
+            }
+        }
+        return clone;
+    }
+
+    private class Stripe {
+        private final int maximumSize;
+        private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        /**
+         * The number of entries that have been put into this stripe.
+         */
+        private long puts;
+
+        Stripe(int maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        @Nullable Object get(Object key) {
+            Entry entry = entries.get(key);
+            return entry == null ? null : entry.value;
+        }
+
+        void put(Object key, Object value) {
+            entries.put(key, new Entry(value, puts++));
+        }
+
+        void putAll(Stripe stripe) {
+            entries.putAll(stripe.entries);
+        }
+
+        /**
+         * Evict the least recently used entries beyond the maximum size, skipping entries that were put so
+         * recently that their types may still be being built. At most half of the maximum size are that
+         * recent, so this always brings the stripe back to its maximum size.
+         */
+        void evict() {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (entries.size() > maximumSize && iterator.hasNext()) {
+                if (puts - iterator.next().put > maximumSize / 2) {
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+        }
+
+        void clear() {
+            entries.clear();
+        }
+
+        int size() {
+            return entries.size();
+        }
+    }
+
+    private static class Entry {
+        final Object value;
+        final long put;
+
+        Entry(Object value, long put) {
+            this.value = value;
+            this.put = put;
+        }
+    }
+}
@@ -51,7 +51,7 @@ public void put(String signature, Object o) {
     @Nullable
     private static boolean snappyUsable = true;
 
-    private Object key(String signature) {
+    Object key(String signature) {
         if (signature.length() > COMPRESSION_THRESHOLD && snappyUsable) {
             try {
                 return new BytesKey(Snappy.compress(signature.getBytes(StandardCharsets.UTF_8)));
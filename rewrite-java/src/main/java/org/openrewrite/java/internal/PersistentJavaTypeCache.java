@@ -0,0 +1,284 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+/**
+ * A {@link JavaTypeCache} that can be saved to and loaded from a local directory, so that types from the JDK
+ * and classpath don't have to be built again when the same classpath is parsed in a later run. Saved types
+ * are keyed by a fingerprint of the Java runtime version and the contents of each classpath entry, so any change
+ * to the classpath starts from an empty cache. For jars, the contents are the names and CRCs of their entries
+ * as recorded in the jar's central directory, and for directories the names and bytes of the files they contain.
+ * <p>
+ * The saved types are loaded on first use. Types declared by the parsed source files are never saved, since
+ * those source files may be different the next time they are parsed.
+ * <p>
+ * Like {@link JavaTypeCache}, this cache is not thread-safe.
+ */
+@Incubating(since = "8.40.0")
+public class PersistentJavaTypeCache extends JavaTypeCache {
+    private static final String FORMAT_VERSION = "1";
+
+    private static final ObjectMapper mapper;
+
+    static {
+        SmileFactory f = new SmileFactory();
+        f.configure(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES, true);
+        ObjectMapper m = JsonMapper.builder(f)
+                .build()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        mapper = m.setVisibility(m.getSerializationConfig().getDefaultVisibilityChecker()
+                .withFieldVisibility(JsonAutoDetect.Visibility.ANY)
+                .withGetterVisibility(JsonAutoDetect.Visibility.NONE)
+                .withIsGetterVisibility(JsonAutoDetect.Visibility.NONE)
+                .withSetterVisibility(JsonAutoDetect.Visibility.NONE)
+                .withCreatorVisibility(JsonAutoDetect.Visibility.ANY));
+    }
+
+    private final Path snapshot;
+
+    private boolean loaded;
+    private int loadedSize;
+
+    private PersistentJavaTypeCache(Path snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * @param cacheDirectory The directory in which saved types are kept, which is created if it doesn't exist.
+     * @param classpath      The classpath that the parser using this cache is configured with.
+     * @return A cache that loads types previously saved for the same classpath.
+     */
+    public static PersistentJavaTypeCache forClasspath(Path cacheDirectory, Collection<Path> classpath) {
+        return new PersistentJavaTypeCache(cacheDirectory.resolve(fingerprint(classpath) + ".types"));
+    }
+
+    /**
+     * Types are kept by their uncompressed signature, so that they can be saved with a readable key.
+     */
+    @Override
+    Object key(String signature) {
+        return signature;
+    }
+
+    @Override
+    public <T> @Nullable T get(String signature) {
+        load();
+        return super.get(signature);
+    }
+
+    @Override
+    public void put(String signature, Object o) {
+        load();
+        super.put(signature, o);
+    }
+
+    @Override
+    public void clear() {
+        loaded = true;
+        super.clear();
+    }
+
+    @Override
+    public int size() {
+        load();
+        return super.size();
+    }
+
+    /**
+     * @return The number of types that were loaded from a previous run, which is zero when the cache is cold.
+     */
+    public int getLoadedSize() {
+        load();
+        return loadedSize;
+    }
+
+    /**
+     * Save all types in this cache, except for those declared by {@code parsed}, for use by later runs
+     * with the same classpath.
+     *
+     * @param parsed The source files that were parsed using this cache.
+     */
+    public void save(Iterable<? extends SourceFile> parsed) {
+        load();
+
+        Set<String> declared = new HashSet<>();
+        JavaIsoVisitor<Set<String>> declaredTypes = new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Set<String> declared) {
+                if (classDecl.getType() != null) {
+                    declared.add(classDecl.getType().getFullyQualifiedName());
+                }
+                return super.visitClassDeclaration(classDecl, declared);
+            }
+        };
+        for (SourceFile sourceFile : parsed) {
+            if (sourceFile instanceof JavaSourceFile) {
+                declaredTypes.visit(sourceFile, declared);
+            }
+        }
+
+        Map<String, JavaType> types = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : typeCache.entrySet()) {
+            String signature = (String) entry.getKey();
+            if (entry.getValue() instanceof JavaType && !referencesAny(signature, declared)) {
+                types.put(signature, (JavaType) entry.getValue());
+            }
+        }
+
+        try {
+            Files.createDirectories(snapshot.getParent());
+            Path tmp = Files.createTempFile(snapshot.getParent(), snapshot.getFileName().toString(), ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                mapper.writeValue(out, types);
+            }
+            Files.move(tmp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!Files.exists(snapshot)) {
+            return;
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(snapshot))) {
+            Map<String, JavaType> types = mapper.readValue(in, new TypeReference<Map<String, JavaType>>() {
+            });
+            typeCache.putAll(types);
+            loadedSize = types.size();
+        } catch (IOException e) {
+            // an unreadable snapshot is treated as a cold cache, and is replaced on the next save
+            typeCache.clear();
+            loadedSize = 0;
+        }
+    }
+
+    /**
+     * @return true if any fully qualified name that appears in the signature is in {@code fqns}.
+     */
+    private static boolean referencesAny(String signature, Set<String> fqns) {
+        if (fqns.isEmpty()) {
+            return false;
+        }
+        int start = -1;
+        for (int i = 0; i <= signature.length(); i++) {
+            char c = i < signature.length() ? signature.charAt(i) : ' ';
+            if (Character.isJavaIdentifierPart(c) || c == '.') {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                if (fqns.contains(signature.substring(start, i))) {
+                    return true;
+                }
+                start = -1;
+            }
+        }
+        return false;
+    }
+
+    private static String fingerprint(Collection<Path> classpath) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(FORMAT_VERSION.getBytes(StandardCharsets.UTF_8));
+            digest.update(System.getProperty("java.version", "").getBytes(StandardCharsets.UTF_8));
+            for (Path entry : classpath) {
+                digest.update(entry.toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8));
+                try {
+                    fingerprint(digest, entry);
+                } catch (IOException ignored) {
+                    // a missing or unreadable classpath entry contributes only its path
+                }
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void fingerprint(MessageDigest digest, Path entry) throws IOException {
+        if (Files.isDirectory(entry)) {
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(entry)) {
+                files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                digest.update(entry.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                digest.update(Files.readAllBytes(file));
+            }
+            return;
+        }
+        try (ZipFile jar = new ZipFile(entry.toFile())) {
+            // the central directory holds a CRC of each entry, so the entries themselves don't have to be read
+            Enumeration<? extends ZipEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry zipEntry = entries.nextElement();
+                digest.update(zipEntry.getName().getBytes(StandardCharsets.UTF_8));
+                digest.update(Long.toString(zipEntry.getCrc()).getBytes(StandardCharsets.UTF_8));
+                digest.update(Long.toString(zipEntry.getSize()).getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (ZipException e) {
+            digest.update(Files.readAllBytes(entry));
+        }
+    }
+
+    @Override
+    public PersistentJavaTypeCache clone() {
+        load();
+        return (PersistentJavaTypeCache) super.clone();
+    }
+}
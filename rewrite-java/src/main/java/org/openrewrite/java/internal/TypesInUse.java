@@ -20,15 +20,17 @@
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
+import org.openrewrite.Incubating;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaSourceFile;
 import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
 
-import java.util.IdentityHashMap;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Predicate;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.newSetFromMap;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -40,6 +42,15 @@ public class TypesInUse {
     private final Set<JavaType.Method> usedMethods;
     private final Set<JavaType.Variable> variables;
 
+    @Getter(AccessLevel.NONE)
+    private volatile @Nullable AssignableTypes explicitTypes;
+
+    @Getter(AccessLevel.NONE)
+    private volatile @Nullable AssignableTypes implicitTypes;
+
+    @Getter(AccessLevel.NONE)
+    private volatile @Nullable Map<String, List<JavaType.Method>> usedMethodsByName;
+
     public static TypesInUse build(JavaSourceFile cu) {
         FindTypesInUse findTypesInUse = new FindTypesInUse();
         findTypesInUse.visit(cu, 0);
@@ -50,6 +61,178 @@ public static TypesInUse build(JavaSourceFile cu) {
                 findTypesInUse.getVariables());
     }
 
+    /**
+     * @return The types that are referenced in this source file or imported by it, together
+     * with all of their supertypes, built once and reused by every subsequent check.
+     */
+    @Incubating(since = "8.40.0")
+    public AssignableTypes getExplicitTypes() {
+        AssignableTypes types = explicitTypes;
+        if (types == null) {
+            types = new AssignableTypes();
+            for (JavaType type : typesInUse) {
+                types.add(type instanceof JavaType.Primitive ? type : TypeUtils.asFullyQualified(type));
+            }
+            for (J.Import anImport : cu.getImports()) {
+                types.add(TypeUtils.asFullyQualified(anImport.isStatic() ?
+                        anImport.getQualid().getTarget().getType() :
+                        anImport.getQualid().getType()));
+            }
+            explicitTypes = types;
+        }
+        return types;
+    }
+
+    /**
+     * @return The declaring, return, and parameter types of methods used in this source file,
+     * together with all of their supertypes.
+     */
+    @Incubating(since = "8.40.0")
+    public AssignableTypes getImplicitTypes() {
+        AssignableTypes types = implicitTypes;
+        if (types == null) {
+            types = new AssignableTypes();
+            for (JavaType.Method method : usedMethods) {
+                types.add(method.getDeclaringType());
+                types.add(method.getReturnType());
+                for (JavaType parameterType : method.getParameterTypes()) {
+                    types.add(parameterType);
+                }
+            }
+            implicitTypes = types;
+        }
+        return types;
+    }
+
+    /**
+     * @param name A method name.
+     * @return The methods used in this source file that have the given name.
+     */
+    @Incubating(since = "8.40.0")
+    public List<JavaType.Method> getUsedMethods(String name) {
+        Map<String, List<JavaType.Method>> byName = usedMethodsByName;
+        if (byName == null) {
+            byName = new HashMap<>();
+            for (JavaType.Method method : usedMethods) {
+                byName.computeIfAbsent(method.getName(), n -> new ArrayList<>(1)).add(method);
+            }
+            usedMethodsByName = byName;
+        }
+        return byName.getOrDefault(name, emptyList());
+    }
+
+    /**
+     * An index of a set of types and everything they are assignable to, which answers
+     * {@link TypeUtils#isAssignableTo(String, JavaType)} for the whole set with a hash lookup
+     * rather than walking the type hierarchy of each type in the set.
+     */
+    @Incubating(since = "8.40.0")
+    public static class AssignableTypes {
+        /**
+         * Fully qualified names of all types and supertypes, with '$' replaced by '.'.
+         */
+        private final Set<String> fullyQualifiedNames = new HashSet<>();
+
+        private final Set<String> parameterizedNames = new HashSet<>();
+
+        /**
+         * The distinct types that {@link TypeUtils#isAssignableTo(Predicate, JavaType)} tests.
+         */
+        private final Set<JavaType> predicateTypes = newSetFromMap(new IdentityHashMap<>());
+
+        private final Set<JavaType> visited = newSetFromMap(new IdentityHashMap<>());
+        private final List<JavaType.Primitive> primitives = new ArrayList<>(0);
+
+        void add(@Nullable JavaType type) {
+            addAssignable(type);
+            addPredicateTypes(type);
+        }
+
+        public boolean isAssignableTo(String fullyQualifiedName) {
+            if (!primitives.isEmpty()) {
+                JavaType.Primitive to = JavaType.Primitive.fromKeyword(fullyQualifiedName);
+                if (to == null && "java.lang.String".equals(fullyQualifiedName)) {
+                    to = JavaType.Primitive.String;
+                }
+                if (to != null) {
+                    for (JavaType.Primitive primitive : primitives) {
+                        if (TypeUtils.isAssignableTo(to, primitive)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return fullyQualifiedNames.contains(TypeUtils.toFullyQualifiedName(fullyQualifiedName)) ||
+                   parameterizedNames.contains(fullyQualifiedName);
+        }
+
+        public boolean isAssignableTo(Predicate<JavaType> predicate) {
+            for (JavaType type : predicateTypes) {
+                if (predicate.test(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void addAssignable(@Nullable JavaType from) {
+            if (from == null || !visited.add(from)) {
+                return;
+            }
+            if (from instanceof JavaType.FullyQualified) {
+                JavaType.FullyQualified classFrom = (JavaType.FullyQualified) from;
+                if (from instanceof JavaType.Parameterized) {
+                    parameterizedNames.add(from.toString());
+                }
+                fullyQualifiedNames.add(TypeUtils.toFullyQualifiedName(classFrom.getFullyQualifiedName()));
+                addAssignable(classFrom.getSupertype());
+                for (JavaType.FullyQualified i : classFrom.getInterfaces()) {
+                    addAssignable(i);
+                }
+            } else if (from instanceof JavaType.GenericTypeVariable) {
+                for (JavaType bound : ((JavaType.GenericTypeVariable) from).getBounds()) {
+                    addAssignable(bound);
+                }
+            } else if (from instanceof JavaType.Primitive) {
+                primitives.add((JavaType.Primitive) from);
+            } else if (from instanceof JavaType.Variable) {
+                addAssignable(((JavaType.Variable) from).getType());
+            } else if (from instanceof JavaType.Method) {
+                addAssignable(((JavaType.Method) from).getReturnType());
+            } else if (from instanceof JavaType.Intersection) {
+                for (JavaType bound : ((JavaType.Intersection) from).getBounds()) {
+                    addAssignable(bound);
+                }
+            }
+        }
+
+        /**
+         * Mirrors {@link TypeUtils#isAssignableTo(Predicate, JavaType)}, which unlike its
+         * fully qualified name counterpart does not look into intersection types.
+         */
+        private void addPredicateTypes(@Nullable JavaType from) {
+            if (from instanceof JavaType.FullyQualified) {
+                if (predicateTypes.add(from)) {
+                    JavaType.FullyQualified classFrom = (JavaType.FullyQualified) from;
+                    addPredicateTypes(classFrom.getSupertype());
+                    for (JavaType.FullyQualified anInterface : classFrom.getInterfaces()) {
+                        addPredicateTypes(anInterface);
+                    }
+                }
+            } else if (from instanceof JavaType.GenericTypeVariable) {
+                for (JavaType bound : ((JavaType.GenericTypeVariable) from).getBounds()) {
+                    addPredicateTypes(bound);
+                }
+            } else if (from instanceof JavaType.Variable) {
+                addPredicateTypes(((JavaType.Variable) from).getType());
+            } else if (from instanceof JavaType.Method) {
+                addPredicateTypes(((JavaType.Method) from).getReturnType());
+            } else if (from instanceof JavaType.Primitive) {
+                predicateTypes.add(from);
+            }
+        }
+    }
+
     @Getter
     public static class FindTypesInUse extends JavaIsoVisitor<Integer> {
         private final Set<JavaType> types = newSetFromMap(new IdentityHashMap<>());
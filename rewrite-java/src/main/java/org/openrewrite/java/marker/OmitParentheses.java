@@ -17,12 +17,21 @@
 
 import lombok.Value;
 import lombok.With;
+import org.openrewrite.Incubating;
+import org.openrewrite.Tree;
 import org.openrewrite.marker.Marker;
+import org.openrewrite.marker.Markers;
 
 import java.util.UUID;
 
 @Value
 @With
 public class OmitParentheses implements Marker {
+    /**
+     * An instance shared by all trees, as the marker carries no state.
+     */
+    @Incubating(since = "8.40.0")
+    public static final OmitParentheses INSTANCE = Markers.intern(new OmitParentheses(Tree.randomId()));
+
     UUID id;
 }
@@ -17,7 +17,10 @@
 
 import lombok.Value;
 import lombok.With;
+import org.openrewrite.Incubating;
+import org.openrewrite.Tree;
 import org.openrewrite.marker.Marker;
+import org.openrewrite.marker.Markers;
 
 import java.util.UUID;
 
@@ -27,5 +30,11 @@
 @Value
 @With
 public class Semicolon implements Marker {
+    /**
+     * An instance shared by all trees, as the marker carries no state.
+     */
+    @Incubating(since = "8.40.0")
+    public static final Semicolon INSTANCE = Markers.intern(new Semicolon(Tree.randomId()));
+
     UUID id;
 }
@@ -20,6 +20,9 @@
 import lombok.Value;
 import lombok.With;
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.SourceFile;
 import org.openrewrite.Tree;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
@@ -29,11 +32,12 @@
 import org.openrewrite.marker.Marker;
 import org.openrewrite.marker.SearchResult;
 
+import java.util.Collection;
 import java.util.UUID;
 
 import static org.openrewrite.Tree.randomId;
 
-public class UsesMethod<P> extends JavaIsoVisitor<P> {
+public class UsesMethod<P> extends JavaIsoVisitor<P> implements Preconditions.SourceFileMatcher {
     private final String methodPattern;
 
     @Getter
@@ -64,16 +68,29 @@ private UsesMethod(MethodMatcher methodMatcher, String methodPattern) {
     public J visit(@Nullable Tree tree, P p) {
         if (tree instanceof JavaSourceFile) {
             JavaSourceFile cu = (JavaSourceFile) tree;
-            for (JavaType.Method type : cu.getTypesInUse().getUsedMethods()) {
-                if (methodMatcher.matches(type)) {
-                    return found(cu);
-                }
-            }
-            return (J) tree;
+            return matches(cu) ? found(cu) : cu;
         }
         return super.visit(tree, p);
     }
 
+    @Override
+    public boolean matches(SourceFile sourceFile, ExecutionContext ctx) {
+        return sourceFile instanceof JavaSourceFile && matches((JavaSourceFile) sourceFile);
+    }
+
+    private boolean matches(JavaSourceFile cu) {
+        String methodName = methodMatcher.getMethodName();
+        Collection<JavaType.Method> candidates = methodName == null ?
+                cu.getTypesInUse().getUsedMethods() :
+                cu.getTypesInUse().getUsedMethods(methodName);
+        for (JavaType.Method type : candidates) {
+            if (methodMatcher.matches(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private <J2 extends J> J2 found(J2 j) {
         // also adding a `SearchResult` marker to get a visible diff
         return SearchResult.found(j.withMarkers(j.getMarkers()
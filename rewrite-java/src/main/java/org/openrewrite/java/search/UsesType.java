@@ -17,13 +17,16 @@
 
 import lombok.Getter;
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.SourceFile;
 import org.openrewrite.Tree;
 import org.openrewrite.internal.StringUtils;
 import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.internal.TypesInUse;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaSourceFile;
 import org.openrewrite.java.tree.JavaType;
-import org.openrewrite.java.tree.TypeUtils;
 import org.openrewrite.marker.SearchResult;
 
 import java.util.function.Predicate;
@@ -31,7 +34,7 @@
 
 import static java.util.Objects.requireNonNull;
 
-public class UsesType<P> extends JavaIsoVisitor<P> {
+public class UsesType<P> extends JavaIsoVisitor<P> implements Preconditions.SourceFileMatcher {
 
     @Nullable
     @Getter
@@ -70,56 +73,27 @@ public UsesType(String fullyQualifiedType, @Nullable Boolean includeImplicit) {
     public J visit(@Nullable Tree tree, P p) {
         if (tree instanceof JavaSourceFile) {
             JavaSourceFile cu = (JavaSourceFile) requireNonNull(tree);
-            JavaSourceFile c = cu;
-
-            for (JavaType type : c.getTypesInUse().getTypesInUse()) {
-                JavaType checkType = type instanceof JavaType.Primitive ? type : TypeUtils.asFullyQualified(type);
-                if ((c = maybeMark(c, checkType)) != cu) {
-                    return c;
-                }
-            }
-
-            for (J.Import anImport : c.getImports()) {
-                if (anImport.isStatic()) {
-                    if ((c = maybeMark(c, TypeUtils.asFullyQualified(anImport.getQualid().getTarget().getType()))) != cu) {
-                        return c;
-                    }
-                } else if ((c = maybeMark(c, TypeUtils.asFullyQualified(anImport.getQualid().getType()))) != cu) {
-                    return c;
-                }
-            }
-
-            if (Boolean.TRUE.equals(includeImplicit)) {
-                for (JavaType.Method method : c.getTypesInUse().getUsedMethods()) {
-                    if ((c = maybeMark(c, method.getDeclaringType())) != cu) {
-                        return c;
-                    }
-                    if ((c = maybeMark(c, method.getReturnType())) != cu) {
-                        return c;
-                    }
-
-                    for (JavaType parameterType : method.getParameterTypes()) {
-                        if ((c = maybeMark(c, parameterType)) != cu) {
-                            return c;
-                        }
-                    }
-                }
+            if (matches(cu)) {
+                return SearchResult.found(cu);
             }
         }
         return (J) tree;
     }
 
-    private JavaSourceFile maybeMark(JavaSourceFile c, @Nullable JavaType type) {
-        if (type == null) {
-            return c;
-        }
+    @Override
+    public boolean matches(SourceFile sourceFile, ExecutionContext ctx) {
+        return sourceFile instanceof JavaSourceFile && matches((JavaSourceFile) sourceFile);
+    }
 
-        if (typePattern != null && TypeUtils.isAssignableTo(typePattern, type) ||
-            fullyQualifiedType != null && TypeUtils.isAssignableTo(fullyQualifiedType, type)) {
-            return SearchResult.found(c);
-        }
+    private boolean matches(JavaSourceFile cu) {
+        TypesInUse typesInUse = cu.getTypesInUse();
+        return matches(typesInUse.getExplicitTypes()) ||
+               Boolean.TRUE.equals(includeImplicit) && matches(typesInUse.getImplicitTypes());
+    }
 
-        return c;
+    private boolean matches(TypesInUse.AssignableTypes types) {
+        return typePattern != null && types.isAssignableTo(typePattern) ||
+               fullyQualifiedType != null && types.isAssignableTo(fullyQualifiedType);
     }
 
     private static Predicate<JavaType> genericPattern(Pattern pattern) {
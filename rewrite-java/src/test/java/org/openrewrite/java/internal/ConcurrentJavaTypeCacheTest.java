@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentJavaTypeCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        ConcurrentJavaTypeCache cache = new ConcurrentJavaTypeCache(2, 1);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        assertThat(cache.<String>get("a")).isEqualTo("A");
+        cache.put("c", "C");
+
+        assertThat(cache.<String>get("b")).isNull();
+        assertThat(cache.<String>get("a")).isEqualTo("A");
+        assertThat(cache.<String>get("c")).isEqualTo("C");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isEqualTo(3);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void recentlyPutTypesAreNotEvicted() {
+        ConcurrentJavaTypeCache cache = new ConcurrentJavaTypeCache(4, 1);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.put("c", "C");
+        cache.put("d", "D");
+        cache.get("a");
+        cache.get("b");
+        cache.get("c");
+
+        // "d" is the least recently used, but may still be being built
+        cache.put("e", "E");
+        assertThat(cache.size()).isEqualTo(4);
+        assertThat(cache.<String>get("a")).isNull();
+        assertThat(cache.<String>get("d")).isEqualTo("D");
+    }
+
+    @Test
+    void smallMaximumSizesUseFewerStripes() {
+        assertThat(ConcurrentJavaTypeCache.stripes(Integer.MAX_VALUE, 64)).isEqualTo(64);
+        assertThat(ConcurrentJavaTypeCache.stripes(100_000, 64)).isEqualTo(64);
+        assertThat(ConcurrentJavaTypeCache.stripes(1_000, 64)).isEqualTo(2);
+        assertThat(ConcurrentJavaTypeCache.stripes(10, 64)).isEqualTo(1);
+        assertThat(ConcurrentJavaTypeCache.stripes(1_000, 3)).isEqualTo(2);
+    }
+
+    @Test
+    void radixStripeKeepsRecentlyPutTypesWhenFull() {
+        ConcurrentAdaptiveRadixJavaTypeCache cache = new ConcurrentAdaptiveRadixJavaTypeCache(4, 1);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.put("c", "C");
+        cache.put("d", "D");
+        cache.put("d", "D");
+        assertThat(cache.size()).isEqualTo(4);
+
+        // "c" and "d" may still be being built
+        cache.put("e", "E");
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.<String>get("a")).isNull();
+        assertThat(cache.<String>get("b")).isNull();
+        assertThat(cache.<String>get("c")).isEqualTo("C");
+        assertThat(cache.<String>get("d")).isEqualTo("D");
+        assertThat(cache.<String>get("e")).isEqualTo("E");
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void radixCacheKeepsTypesBeingBuilt() {
+        ConcurrentAdaptiveRadixJavaTypeCache cache = new ConcurrentAdaptiveRadixJavaTypeCache(512, 1);
+        for (int i = 0; i < 10_000; i++) {
+            Object type = new Object();
+            cache.put("java.lang.Type" + i, type);
+            // a type mapping puts a few nested types while it fills in the type it put first
+            for (int j = 0; j < 8; j++) {
+                cache.put("java.lang.Type" + i + "$" + j, new Object());
+            }
+            assertThat(cache.<Object>get("java.lang.Type" + i)).isSameAs(type);
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(512);
+    }
+
+    @Test
+    void sharedBetweenThreads() throws InterruptedException {
+        ConcurrentJavaTypeCache cache = new ConcurrentJavaTypeCache();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    String signature = "java.lang.Type" + i;
+                    if (cache.get(signature) == null) {
+                        cache.put(signature, signature);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(cache.size()).isEqualTo(10_000);
+    }
+}
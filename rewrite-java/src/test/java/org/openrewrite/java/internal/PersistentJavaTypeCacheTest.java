@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.JavaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistentJavaTypeCacheTest {
+
+    @Test
+    void warmCacheExcludesDeclaredTypes(@TempDir Path dir) {
+        PersistentJavaTypeCache cold = PersistentJavaTypeCache.forClasspath(dir, emptyList());
+        assertThat(cold.getLoadedSize()).isEqualTo(0);
+
+        List<SourceFile> parsed = JavaParser.fromJavaVersion().typeCache(cold).build()
+          .parse(new InMemoryExecutionContext(), "class Test { java.util.List<String> l; }")
+          .collect(Collectors.toList());
+        cold.save(parsed);
+
+        PersistentJavaTypeCache warm = PersistentJavaTypeCache.forClasspath(dir, emptyList());
+        assertThat(warm.getLoadedSize()).isGreaterThan(0);
+        assertThat(warm.<JavaType.FullyQualified>get("java.lang.String")).isNotNull();
+        assertThat(warm.<Object>get("Test")).isNull();
+    }
+
+    @Test
+    void differentClasspathStartsCold(@TempDir Path dir) {
+        PersistentJavaTypeCache cache = PersistentJavaTypeCache.forClasspath(dir, emptyList());
+        cache.put("java.lang.String", JavaType.ShallowClass.build("java.lang.String"));
+        cache.save(emptyList());
+
+        assertThat(PersistentJavaTypeCache.forClasspath(dir, emptyList()).getLoadedSize()).isEqualTo(1);
+        assertThat(PersistentJavaTypeCache.forClasspath(dir, List.of(dir.resolve("a.jar"))).getLoadedSize()).isEqualTo(0);
+    }
+
+    @Test
+    void changedJarContentsStartCold(@TempDir Path dir) throws IOException {
+        Path jar = dir.resolve("a.jar");
+        writeJar(jar, "a");
+        FileTime modified = Files.getLastModifiedTime(jar);
+
+        PersistentJavaTypeCache cache = PersistentJavaTypeCache.forClasspath(dir, List.of(jar));
+        cache.put("java.lang.String", JavaType.ShallowClass.build("java.lang.String"));
+        cache.save(emptyList());
+        assertThat(PersistentJavaTypeCache.forClasspath(dir, List.of(jar)).getLoadedSize()).isEqualTo(1);
+
+        // same size and modification time, but different contents
+        writeJar(jar, "b");
+        Files.setLastModifiedTime(jar, modified);
+        assertThat(PersistentJavaTypeCache.forClasspath(dir, List.of(jar)).getLoadedSize()).isEqualTo(0);
+    }
+
+    private static void writeJar(Path jar, String contents) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+            ZipEntry entry = new ZipEntry("a.txt");
+            entry.setTime(0);
+            out.putNextEntry(entry);
+            out.write(contents.getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+    }
+}
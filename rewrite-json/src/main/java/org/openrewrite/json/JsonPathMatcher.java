@@ -36,8 +36,6 @@
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import static java.util.Collections.disjoint;
-
 /**
  * Provides methods for matching the given cursor location to a specific JsonPath expression.
  *
@@ -49,27 +47,30 @@ public class JsonPathMatcher {
 
     private final String jsonPath;
 
+    /**
+     * The parsed expression, which is only read while matching, so it is parsed on first use and shared by every
+     * match after that.
+     */
+    @EqualsAndHashCode.Exclude
+    private volatile JsonPathParser.@Nullable JsonPathContext parsed;
+
     public JsonPathMatcher(String jsonPath) {
         this.jsonPath = jsonPath;
     }
 
     public <T> Optional<T> find(Cursor cursor) {
-        LinkedList<Tree> cursorPath = cursor.getPathAsStream()
-                .filter(o -> o instanceof Tree)
-                .map(Tree.class::cast)
-                .collect(Collectors.toCollection(LinkedList::new));
+        List<Tree> cursorPath = cursorPath(cursor);
         if (cursorPath.isEmpty()) {
             return Optional.empty();
         }
-        Collections.reverse(cursorPath);
 
         Tree start;
         if (jsonPath.startsWith(".") && !jsonPath.startsWith("..")) {
             start = cursor.getValue();
         } else {
-            start = cursorPath.peekFirst();
+            start = cursorPath.get(0);
         }
-        JsonPathParser.JsonPathContext ctx = jsonPath().jsonPath();
+        JsonPathParser.JsonPathContext ctx = jsonPath();
         // The stop may be optimized by interpreting the ExpressionContext and pre-determining the last visit.
         JsonPathParser.ExpressionContext stop = (JsonPathParser.ExpressionContext) ctx.children.get(ctx.children.size() - 1);
         @SuppressWarnings("ConstantConditions") JsonPathParserVisitor<Object> v = new JsonPathMatcher.JsonPathParserJsonVisitor(cursorPath, start, stop, false);
@@ -80,20 +81,48 @@ public <T> Optional<T> find(Cursor cursor) {
     }
 
     public boolean matches(Cursor cursor) {
-        List<Object> cursorPath = cursor.getPathAsStream().collect(Collectors.toList());
         return find(cursor).map(o -> {
             if (o instanceof List) {
                 //noinspection unchecked
                 List<Object> l = (List<Object>) o;
-                return !disjoint(l, cursorPath) && l.contains(cursor.getValue());
+                return containsAnyOnCursorPath(l, cursor) && l.contains(cursor.getValue());
             } else {
                 return Objects.equals(o, cursor.getValue());
             }
         }).orElse(false);
     }
 
-    private JsonPathParser jsonPath() {
-        return new JsonPathParser(new CommonTokenStream(new JsonPathLexer(CharStreams.fromString(this.jsonPath))));
+    private JsonPathParser.JsonPathContext jsonPath() {
+        JsonPathParser.JsonPathContext ctx = parsed;
+        if (ctx == null) {
+            ctx = new JsonPathParser(new CommonTokenStream(new JsonPathLexer(CharStreams.fromString(this.jsonPath)))).jsonPath();
+            parsed = ctx;
+        }
+        return ctx;
+    }
+
+    /**
+     * @return The trees in the cursor path, from the root down to the cursor's value.
+     */
+    private static List<Tree> cursorPath(Cursor cursor) {
+        List<Tree> cursorPath = new ArrayList<>();
+        for (Cursor c = cursor; c != null; c = c.getParent()) {
+            Object value = c.getValue();
+            if (value instanceof Tree) {
+                cursorPath.add((Tree) value);
+            }
+        }
+        Collections.reverse(cursorPath);
+        return cursorPath;
+    }
+
+    private static boolean containsAnyOnCursorPath(List<Object> l, Cursor cursor) {
+        for (Cursor c = cursor; c != null; c = c.getParent()) {
+            if (l.contains(c.getValue())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @SuppressWarnings({"ConstantConditions", "unchecked"})
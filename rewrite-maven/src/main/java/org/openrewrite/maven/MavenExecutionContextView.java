@@ -18,6 +18,7 @@
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.DelegatingExecutionContext;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Incubating;
 import org.openrewrite.maven.cache.InMemoryMavenPomCache;
 import org.openrewrite.maven.cache.MavenPomCache;
 import org.openrewrite.maven.internal.MavenParsingException;
@@ -47,6 +48,7 @@ public class MavenExecutionContextView extends DelegatingExecutionContext {
     private static final String MAVEN_POM_CACHE = "org.openrewrite.maven.pomCache";
     private static final String MAVEN_RESOLUTION_LISTENER = "org.openrewrite.maven.resolutionListener";
     private static final String MAVEN_RESOLUTION_TIME = "org.openrewrite.maven.resolutionTime";
+    private static final String MAVEN_RESOLUTION_PARALLELISM = "org.openrewrite.maven.resolutionParallelism";
 
     public MavenExecutionContextView(ExecutionContext delegate) {
         super(delegate);
@@ -77,6 +79,27 @@ public ResolutionEventListener getResolutionListener() {
         return getMessage(MAVEN_RESOLUTION_LISTENER, ResolutionEventListener.NOOP);
     }
 
+    /**
+     * Download the POMs at each depth of the dependency graph concurrently when resolving dependencies,
+     * making at most this many concurrent requests to any one repository host, and have {@link MavenParser}
+     * resolve up to this many modules of a multi-module project at once. The default of 1 resolves modules
+     * one after another and downloads POMs one at a time as they are encountered.
+     * <p>
+     * The {@link MavenPomCache} and {@link ResolutionEventListener} must be thread-safe when this is greater than 1.
+     *
+     * @param parallelism The maximum number of concurrent requests to each repository host and modules to resolve at once.
+     */
+    @Incubating(since = "8.40.0")
+    public MavenExecutionContextView setResolutionParallelism(int parallelism) {
+        putMessage(MAVEN_RESOLUTION_PARALLELISM, parallelism);
+        return this;
+    }
+
+    @Incubating(since = "8.40.0")
+    public int getResolutionParallelism() {
+        return getMessage(MAVEN_RESOLUTION_PARALLELISM, 1);
+    }
+
     public MavenExecutionContextView setMirrors(@Nullable Collection<MavenRepositoryMirror> mirrors) {
         putMessage(MAVEN_MIRRORS, mirrors);
         return this;
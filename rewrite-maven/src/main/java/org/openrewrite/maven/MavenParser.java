@@ -34,6 +34,11 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -108,33 +113,12 @@ public Stream<SourceFile> parseInputs(Iterable<Input> sources, @Nullable Path re
         MavenSettings sanitizedSettings = mavenCtx.getSettings() == null ? null : mavenCtx.getSettings()
                 .withServers(null);
 
-        for (Map.Entry<Xml.Document, Pom> docToPom : projectPoms.entrySet()) {
-            try {
-                ResolvedPom resolvedPom = docToPom.getValue().resolve(activeProfiles, downloader, ctx);
-                MavenResolutionResult model = new MavenResolutionResult(randomId(), null, resolvedPom, emptyList(), null, emptyMap(), sanitizedSettings, mavenCtx.getActiveProfiles());
-                if (!skipDependencyResolution) {
-                    model = model.resolveDependencies(downloader, ctx);
-                }
-                parsed.add(docToPom.getKey().withMarkers(docToPom.getKey().getMarkers().compute(model, (old, n) -> n)));
-            } catch (MavenDownloadingExceptions e) {
-                if (e.getExceptions().size() == 1) {
-                    // If there is only a single MavenDownloadingException, report just that as no additional debugging value is gleaned from its wrapper
-                    MavenDownloadingException e2 = e.getExceptions().get(0);
-                    String message = e2.warn(docToPom.getKey()).printAll(); // Shows any underlying MavenDownloadingException
-                    parsed.add(docToPom.getKey().withMarkers(docToPom.getKey().getMarkers().add(ParseExceptionResult.build(this, e2, message))));
-                    ctx.getOnError().accept(e2);
-                } else {
-                    String message = e.warn(docToPom.getKey()).printAll(); // Shows any underlying MavenDownloadingException
-                    parsed.add(docToPom.getKey().withMarkers(docToPom.getKey().getMarkers().add(ParseExceptionResult.build(this, e, message))));
-                    ctx.getOnError().accept(e);
-                }
-            } catch (MavenDownloadingException e) {
-                String message = e.warn(docToPom.getKey()).printAll(); // Shows any underlying MavenDownloadingException
-                parsed.add(docToPom.getKey().withMarkers(docToPom.getKey().getMarkers().add(ParseExceptionResult.build(this, e, message))));
-                ctx.getOnError().accept(e);
-            } catch (UncheckedIOException e) {
-                parsed.add(docToPom.getKey().withMarkers(docToPom.getKey().getMarkers().add(ParseExceptionResult.build(this, e))));
-                ctx.getOnError().accept(e);
+        int parallelism = Math.min(mavenCtx.getResolutionParallelism(), projectPoms.size());
+        if (parallelism > 1) {
+            parsed.addAll(resolveConcurrently(projectPoms, parallelism, downloader, sanitizedSettings, ctx));
+        } else {
+            for (Map.Entry<Xml.Document, Pom> docToPom : projectPoms.entrySet()) {
+                parsed.add(resolve(docToPom.getKey(), docToPom.getValue(), downloader, sanitizedSettings, ctx.getOnError(), ctx));
             }
         }
 
@@ -173,6 +157,87 @@ public Stream<SourceFile> parseInputs(Iterable<Input> sources, @Nullable Path re
         return parsed.stream();
     }
 
+    /**
+     * Resolve each project POM on its own thread. Modules share the downloader, and so the POM cache and the
+     * BOMs it has resolved, so ancestry and BOMs that modules have in common are downloaded and resolved once.
+     * Errors are reported to the execution context on the calling thread, in the order of the project POMs.
+     */
+    private List<SourceFile> resolveConcurrently(Map<Xml.Document, Pom> projectPoms, int parallelism,
+                                                 MavenPomDownloader downloader, @Nullable MavenSettings sanitizedSettings,
+                                                 ExecutionContext ctx) {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "rewrite-maven-resolve");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<SourceFile>> resolved = new ArrayList<>(projectPoms.size());
+            List<List<Throwable>> errors = new ArrayList<>(projectPoms.size());
+            for (Map.Entry<Xml.Document, Pom> docToPom : projectPoms.entrySet()) {
+                List<Throwable> moduleErrors = new ArrayList<>(0);
+                errors.add(moduleErrors);
+                resolved.add(executor.submit(() -> resolve(docToPom.getKey(), docToPom.getValue(), downloader,
+                        sanitizedSettings, moduleErrors::add, ctx)));
+            }
+
+            List<SourceFile> sourceFiles = new ArrayList<>(projectPoms.size());
+            for (int i = 0; i < resolved.size(); i++) {
+                try {
+                    sourceFiles.add(resolved.get(i).get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    } else if (e.getCause() instanceof Error) {
+                        throw (Error) e.getCause();
+                    }
+                    throw new IllegalStateException(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+                for (Throwable t : errors.get(i)) {
+                    ctx.getOnError().accept(t);
+                }
+            }
+            return sourceFiles;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SourceFile resolve(Xml.Document document, Pom pom, MavenPomDownloader downloader,
+                               @Nullable MavenSettings sanitizedSettings, Consumer<Throwable> onError,
+                               ExecutionContext ctx) {
+        MavenExecutionContextView mavenCtx = MavenExecutionContextView.view(ctx);
+        try {
+            ResolvedPom resolvedPom = pom.resolve(activeProfiles, downloader, ctx);
+            MavenResolutionResult model = new MavenResolutionResult(randomId(), null, resolvedPom, emptyList(), null, emptyMap(), sanitizedSettings, mavenCtx.getActiveProfiles());
+            if (!skipDependencyResolution) {
+                model = model.resolveDependencies(downloader, ctx);
+            }
+            return document.withMarkers(document.getMarkers().compute(model, (old, n) -> n));
+        } catch (MavenDownloadingExceptions e) {
+            if (e.getExceptions().size() == 1) {
+                // If there is only a single MavenDownloadingException, report just that as no additional debugging value is gleaned from its wrapper
+                MavenDownloadingException e2 = e.getExceptions().get(0);
+                String message = e2.warn(document).printAll(); // Shows any underlying MavenDownloadingException
+                onError.accept(e2);
+                return document.withMarkers(document.getMarkers().add(ParseExceptionResult.build(this, e2, message)));
+            } else {
+                String message = e.warn(document).printAll(); // Shows any underlying MavenDownloadingException
+                onError.accept(e);
+                return document.withMarkers(document.getMarkers().add(ParseExceptionResult.build(this, e, message)));
+            }
+        } catch (MavenDownloadingException e) {
+            String message = e.warn(document).printAll(); // Shows any underlying MavenDownloadingException
+            onError.accept(e);
+            return document.withMarkers(document.getMarkers().add(ParseExceptionResult.build(this, e, message)));
+        } catch (UncheckedIOException e) {
+            onError.accept(e);
+            return document.withMarkers(document.getMarkers().add(ParseExceptionResult.build(this, e)));
+        }
+    }
+
     @Override
     public boolean accept(Path path) {
         return "pom.xml".equals(path.toString()) || path.toString().endsWith(".pom");
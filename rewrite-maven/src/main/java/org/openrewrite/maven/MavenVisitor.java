@@ -304,10 +304,8 @@ private boolean isTag(String name) {
     }
 
     private @Nullable ResolvedManagedDependency findManagedDependency(String groupId, String artifactId, @Nullable String classifier, @Nullable String type) {
-        for (ResolvedManagedDependency d : getResolutionResult().getPom().getDependencyManagement()) {
-            if (groupId.equals(d.getGroupId()) &&
-                artifactId.equals(d.getArtifactId()) &&
-                (classifier == null || classifier.equals(d.getClassifier())) &&
+        for (ResolvedManagedDependency d : getResolutionResult().getPom().findManagedDependencies(groupId, artifactId)) {
+            if ((classifier == null || classifier.equals(d.getClassifier())) &&
                 (type == null || type.equals(d.getType()))) {
                 return d;
             }
@@ -258,8 +258,7 @@ private boolean matchesVersion(ResolvedManagedDependency d, ExecutionContext ctx
                     MavenPomDownloader mpd = new MavenPomDownloader(mrr.getProjectPoms(), ctx, mrr.getMavenSettings(), mrr.getActiveProfiles());
                     ResolvedPom parentPom = mpd.download(parentGav, null, mrr.getPom(), mrr.getPom().getRepositories())
                             .resolve(Collections.emptyList(), mpd, ctx);
-                    ResolvedManagedDependency parentManagedVersion = parentPom.getDependencyManagement().stream()
-                            .filter(dep -> dep.getGroupId().equals(d.getGroupId()) && dep.getArtifactId().equals(d.getArtifactId()))
+                    ResolvedManagedDependency parentManagedVersion = parentPom.findManagedDependencies(d.getGroupId(), d.getArtifactId()).stream()
                             .findFirst()
                             .orElse(null);
                     if (parentManagedVersion == null) {
@@ -104,4 +104,23 @@ public void putNormalizedRepository(MavenRepository repository, MavenRepository
         l1.putNormalizedRepository(repository, normalized);
         l2.putNormalizedRepository(repository, normalized);
     }
+
+    @Override
+    public @Nullable RevalidatableMavenMetadata getRevalidatableMavenMetadata(URI uri) {
+        RevalidatableMavenMetadata l1m = l1.getRevalidatableMavenMetadata(uri);
+        if (l1m != null) {
+            return l1m;
+        }
+        RevalidatableMavenMetadata l2m = l2.getRevalidatableMavenMetadata(uri);
+        if (l2m != null) {
+            l1.putRevalidatableMavenMetadata(uri, l2m);
+        }
+        return l2m;
+    }
+
+    @Override
+    public void putRevalidatableMavenMetadata(URI uri, @Nullable RevalidatableMavenMetadata metadata) {
+        l1.putRevalidatableMavenMetadata(uri, metadata);
+        l2.putRevalidatableMavenMetadata(uri, metadata);
+    }
 }
@@ -17,26 +17,83 @@
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Builder;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
 import org.openrewrite.maven.tree.*;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 public class InMemoryMavenPomCache implements MavenPomCache {
+    private static final long DEFAULT_MAXIMUM_REVALIDATABLE_METADATA_BYTES = 16_000_000;
+
     @Value
     public static class MetadataKey {
         URI repository;
         GroupArtifactVersion gav;
     }
 
+    /**
+     * Limits on the heap used by each region of a {@link InMemoryMavenPomCache}, for caches that live as long as
+     * a service that parses many unrelated projects. Each region evicts the entries least likely to be used again
+     * once its weight is exceeded, and the weight of an entry is the approximate number of elements it holds, such as
+     * dependencies, managed dependencies, properties, plugins and versions, so that large POMs count for more
+     * than small ones.
+     */
+    @Incubating(since = "8.40.0")
+    @Value
+    @Builder
+    public static class Limits {
+        @Builder.Default
+        long maximumPomWeight = 5_000_000;
+
+        @Builder.Default
+        long maximumMetadataWeight = 5_000_000;
+
+        @Builder.Default
+        long maximumRepositories = 10_000;
+
+        @Builder.Default
+        long maximumResolvedDependencyPomWeight = 5_000_000;
+
+        /**
+         * The number of bytes of downloaded maven-metadata.xml documents to keep after their parsed metadata
+         * has expired, so that they can be revalidated with the repository rather than downloaded again.
+         */
+        @Builder.Default
+        long maximumRevalidatableMetadataBytes = DEFAULT_MAXIMUM_REVALIDATABLE_METADATA_BYTES;
+
+        /**
+         * How long the metadata of a SNAPSHOT version is kept, as new snapshots may be published at any time,
+         * or null to keep it until it is evicted.
+         */
+        @Builder.Default
+        @Nullable
+        Duration snapshotMetadataTtl = Duration.ofHours(1);
+
+        /**
+         * How long the metadata listing the versions of an artifact is kept, like the daily update policy of
+         * Maven, or null to keep it until it is evicted.
+         */
+        @Builder.Default
+        @Nullable
+        Duration metadataTtl = Duration.ofDays(1);
+    }
+
     private final Cache<ResolvedGroupArtifactVersion, Optional<Pom>> pomCache;
     private final Cache<MetadataKey, Optional<MavenMetadata>> mavenMetadataCache;
     private final Cache<MavenRepository, Optional<MavenRepository>> repositoryCache;
     private final Cache<ResolvedGroupArtifactVersion, ResolvedPom> dependencyCache;
+    private final Cache<URI, RevalidatableMavenMetadata> revalidatableMetadataCache;
 
     public InMemoryMavenPomCache() {
         this(
@@ -64,11 +121,76 @@ public InMemoryMavenPomCache(String cacheNickname,
                                  Cache<MetadataKey, Optional<MavenMetadata>> mavenMetadataCache,
                                  Cache<MavenRepository, Optional<MavenRepository>> repositoryCache,
                                  Cache<ResolvedGroupArtifactVersion, ResolvedPom> dependencyCache) {
+        this(cacheNickname, pomCache, mavenMetadataCache, repositoryCache, dependencyCache,
+                revalidatableMetadataCache(DEFAULT_MAXIMUM_REVALIDATABLE_METADATA_BYTES, ForkJoinPool.commonPool()));
+    }
+
+    private InMemoryMavenPomCache(String cacheNickname,
+                                  Cache<ResolvedGroupArtifactVersion, Optional<Pom>> pomCache,
+                                  Cache<MetadataKey, Optional<MavenMetadata>> mavenMetadataCache,
+                                  Cache<MavenRepository, Optional<MavenRepository>> repositoryCache,
+                                  Cache<ResolvedGroupArtifactVersion, ResolvedPom> dependencyCache,
+                                  Cache<URI, RevalidatableMavenMetadata> revalidatableMetadataCache) {
 
         this.pomCache = CaffeineCacheMetrics.monitor(Metrics.globalRegistry, pomCache, "Maven POMs - " + cacheNickname);
         this.mavenMetadataCache = CaffeineCacheMetrics.monitor(Metrics.globalRegistry, mavenMetadataCache, "Maven metadata - " + cacheNickname);
         this.repositoryCache = CaffeineCacheMetrics.monitor(Metrics.globalRegistry, repositoryCache, "Maven repositories - " + cacheNickname);
         this.dependencyCache = CaffeineCacheMetrics.monitor(Metrics.globalRegistry, dependencyCache, "Resolved dependency POMs - " + cacheNickname);
+        this.revalidatableMetadataCache = CaffeineCacheMetrics.monitor(Metrics.globalRegistry, revalidatableMetadataCache, "Revalidatable Maven metadata - " + cacheNickname);
+    }
+
+    /**
+     * A cache whose regions are bounded by weight rather than by number of entries, and whose Maven metadata expires.
+     * Hit rates, evictions and evicted weight of each region are reported to the global Micrometer registry.
+     */
+    @Incubating(since = "8.40.0")
+    public InMemoryMavenPomCache(String cacheNickname, Limits limits) {
+        this(cacheNickname, limits, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param ticker   The time source of metadata expiry.
+     * @param executor Runs the maintenance of each region, such as evicting entries.
+     */
+    InMemoryMavenPomCache(String cacheNickname, Limits limits, Ticker ticker, Executor executor) {
+        this(
+                cacheNickname,
+                Caffeine.newBuilder()
+                        .executor(executor)
+                        .recordStats()
+                        .maximumWeight(limits.getMaximumPomWeight())
+                        .weigher((ResolvedGroupArtifactVersion gav, Optional<Pom> pom) -> pom.map(InMemoryMavenPomCache::weigh).orElse(1))
+                        .build(),
+                Caffeine.newBuilder()
+                        .executor(executor)
+                        .ticker(ticker)
+                        .recordStats()
+                        .maximumWeight(limits.getMaximumMetadataWeight())
+                        .weigher((MetadataKey key, Optional<MavenMetadata> metadata) -> metadata.map(InMemoryMavenPomCache::weigh).orElse(1))
+                        .expireAfter(new MetadataExpiry(limits.getSnapshotMetadataTtl(), limits.getMetadataTtl()))
+                        .build(),
+                Caffeine.newBuilder()
+                        .executor(executor)
+                        .recordStats()
+                        .maximumSize(limits.getMaximumRepositories())
+                        .build(),
+                Caffeine.newBuilder()
+                        .executor(executor)
+                        .recordStats()
+                        .maximumWeight(limits.getMaximumResolvedDependencyPomWeight())
+                        .weigher((ResolvedGroupArtifactVersion gav, ResolvedPom resolved) -> weigh(resolved))
+                        .build(),
+                revalidatableMetadataCache(limits.getMaximumRevalidatableMetadataBytes(), executor)
+        );
+    }
+
+    private static Cache<URI, RevalidatableMavenMetadata> revalidatableMetadataCache(long maximumBytes, Executor executor) {
+        return Caffeine.newBuilder()
+                .executor(executor)
+                .recordStats()
+                .maximumWeight(maximumBytes)
+                .weigher((URI uri, RevalidatableMavenMetadata metadata) -> metadata.getBody().length)
+                .build();
     }
 
     public InMemoryMavenPomCache(Cache<ResolvedGroupArtifactVersion, Optional<Pom>> pomCache,
@@ -117,4 +239,74 @@ public void putPom(ResolvedGroupArtifactVersion gav, @Nullable Pom pom) {
     public void putNormalizedRepository(MavenRepository repository, MavenRepository normalized) {
         repositoryCache.put(repository, Optional.ofNullable(normalized));
     }
+
+    @Override
+    public @Nullable RevalidatableMavenMetadata getRevalidatableMavenMetadata(URI uri) {
+        return revalidatableMetadataCache.getIfPresent(uri);
+    }
+
+    @Override
+    public void putRevalidatableMavenMetadata(URI uri, @Nullable RevalidatableMavenMetadata metadata) {
+        if (metadata == null) {
+            revalidatableMetadataCache.invalidate(uri);
+        } else {
+            revalidatableMetadataCache.put(uri, metadata);
+        }
+    }
+
+    private static int weigh(Pom pom) {
+        return saturatedSum(1, pom.getProperties().size(), pom.getDependencyManagement().size(),
+                pom.getDependencies().size(), pom.getRepositories().size(), pom.getLicenses().size(),
+                pom.getProfiles().size(), pom.getPlugins().size(), pom.getPluginManagement().size());
+    }
+
+    private static int weigh(ResolvedPom resolved) {
+        return saturatedSum(weigh(resolved.getRequested()), resolved.getProperties().size(),
+                resolved.getDependencyManagement().size(), resolved.getRepositories().size(),
+                resolved.getRequestedDependencies().size(), resolved.getPlugins().size(),
+                resolved.getPluginManagement().size());
+    }
+
+    private static int weigh(MavenMetadata metadata) {
+        MavenMetadata.Versioning versioning = metadata.getVersioning();
+        if (versioning == null) {
+            return 1;
+        }
+        return saturatedSum(1, versioning.getVersions().size(),
+                versioning.getSnapshotVersions() == null ? 0 : versioning.getSnapshotVersions().size());
+    }
+
+    private static int saturatedSum(int... weights) {
+        long sum = 0;
+        for (int weight : weights) {
+            sum += weight;
+        }
+        return (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    private static class MetadataExpiry implements Expiry<MetadataKey, Optional<MavenMetadata>> {
+        private final long snapshotTtlNanos;
+        private final long ttlNanos;
+
+        MetadataExpiry(@Nullable Duration snapshotTtl, @Nullable Duration ttl) {
+            this.snapshotTtlNanos = snapshotTtl == null ? Long.MAX_VALUE : snapshotTtl.toNanos();
+            this.ttlNanos = ttl == null ? Long.MAX_VALUE : ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(MetadataKey key, Optional<MavenMetadata> metadata, long currentTime) {
+            String version = key.getGav().getVersion();
+            return version != null && version.endsWith("-SNAPSHOT") ? snapshotTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(MetadataKey key, Optional<MavenMetadata> metadata, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, metadata, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(MetadataKey key, Optional<MavenMetadata> metadata, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
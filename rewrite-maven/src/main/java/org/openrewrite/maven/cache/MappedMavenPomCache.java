@@ -0,0 +1,396 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.maven.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.ConstructorDetector;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
+import org.openrewrite.maven.tree.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * A persistent {@link MavenPomCache} kept in a single memory-mapped file, which needs no native library. Things to
+ * know about this cache implementation:
+ * <p>
+ * <li> The file starts with an open-addressing hash index, followed by an append-only region of entries. Both are
+ * read through the mapping, so the index lives off-heap and a lookup deserializes only the entry it finds.</li>
+ * <li> Lookups take no locks. Writes are serialized by a lock on the file, so that worker processes on the same host
+ * can share one cache file. An entry becomes visible once it is fully written, and every entry carries its key and a
+ * checksum of its value, so a lookup that races a write or finds a damaged entry is a cache miss.</li>
+ * <li> POMs and resolved dependency POMs are stored in Jackson's binary Smile format with shared names and string
+ * values. Hits are deserialized on every lookup, so put an {@link InMemoryMavenPomCache} in front of this cache with a
+ * {@link CompositeMavenPomCache}.</li>
+ * <li> The file has a fixed size, which is sparse on file systems that support it. Once it is full, further entries
+ * are not stored. Maven metadata and repositories are not stored, as they change over time.</li>
+ * <li> The cache is emptied when it was written with a different {@link Pom#getModelVersion() model version}.</li>
+ */
+@Incubating(since = "8.40.0")
+public class MappedMavenPomCache implements MavenPomCache, AutoCloseable {
+    public static final int DEFAULT_SIZE_BYTES = 512 * 1024 * 1024;
+    public static final int DEFAULT_INDEX_SLOTS = 1 << 18;
+
+    private static final int MAGIC = 0x52574d50;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int FORMAT_VERSION_OFFSET = 4;
+    private static final int MODEL_VERSION_OFFSET = 8;
+    private static final int INDEX_SLOTS_OFFSET = 12;
+    private static final int APPEND_POSITION_OFFSET = 16;
+    private static final int HEADER_SIZE = 64;
+
+    /**
+     * A slot is the hash of a key, zero when the slot is empty, followed by the position of its entry.
+     */
+    private static final int SLOT_SIZE = 16;
+
+    /**
+     * An entry is the length of its key, the length of its value, and the checksum of its value,
+     * followed by the key and the value.
+     */
+    private static final int ENTRY_HEADER_SIZE = 12;
+
+    private static final int MAX_PROBES = 64;
+
+    private static final ObjectMapper mapper;
+
+    /**
+     * A JVM may only hold one lock on a file at a time, so instances that share a file in the same JVM
+     * take turns through these monitors before locking the file.
+     */
+    private static final Map<Path, Object> writeMonitors = new ConcurrentHashMap<>();
+
+    static {
+        SmileFactory f = new SmileFactory();
+        f.configure(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES, true);
+        ObjectMapper m = JsonMapper.builder(f)
+                .constructorDetector(ConstructorDetector.USE_PROPERTIES_BASED)
+                .build()
+                .registerModule(new ParameterNamesModule())
+                .registerModule(new Jdk8Module())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        mapper = m.setVisibility(m.getSerializationConfig().getDefaultVisibilityChecker()
+                .withFieldVisibility(JsonAutoDetect.Visibility.ANY)
+                .withGetterVisibility(JsonAutoDetect.Visibility.NONE)
+                .withSetterVisibility(JsonAutoDetect.Visibility.NONE)
+                .withCreatorVisibility(JsonAutoDetect.Visibility.PUBLIC_ONLY));
+    }
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final Object writeMonitor;
+    private final int modelVersion;
+    private final int indexSlots;
+    private final int dataStart;
+    private final int capacity;
+
+    /**
+     * Open or create the cache file {@code .rewrite-pom-cache} in the workspace directory with
+     * the default size and number of index slots.
+     */
+    public MappedMavenPomCache(Path workspace) {
+        this(workspace, DEFAULT_SIZE_BYTES, DEFAULT_INDEX_SLOTS);
+    }
+
+    /**
+     * @param workspace  The directory of the cache file, which will be created if it doesn't exist.
+     * @param sizeBytes  The size of a newly created cache file. An existing file keeps its size.
+     * @param indexSlots The number of entries a newly created cache file can index, rounded up to a power of two.
+     */
+    public MappedMavenPomCache(Path workspace, int sizeBytes, int indexSlots) {
+        this(workspace, sizeBytes, indexSlots, Pom.getModelVersion());
+    }
+
+    MappedMavenPomCache(Path workspace, int sizeBytes, int indexSlots, int modelVersion) {
+        this.modelVersion = modelVersion;
+        Path file = workspace.resolve(".rewrite-pom-cache").toAbsolutePath().normalize();
+        this.writeMonitor = writeMonitors.computeIfAbsent(file, f -> new Object());
+
+        int slots = 1;
+        while (slots < indexSlots) {
+            slots <<= 1;
+        }
+        if ((long) HEADER_SIZE + (long) slots * SLOT_SIZE >= sizeBytes) {
+            throw new IllegalArgumentException("A cache of " + sizeBytes + " bytes is too small for " + slots + " index slots");
+        }
+
+        try {
+            Files.createDirectories(workspace);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            synchronized (writeMonitor) {
+                try (FileLock ignored = channel.lock()) {
+                    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                    channel.read(header, 0);
+                    boolean reuse = channel.size() <= Integer.MAX_VALUE &&
+                                    header.getInt(MAGIC_OFFSET) == MAGIC &&
+                                    header.getInt(FORMAT_VERSION_OFFSET) == FORMAT_VERSION &&
+                                    header.getInt(MODEL_VERSION_OFFSET) == modelVersion &&
+                                    header.getInt(INDEX_SLOTS_OFFSET) > 0 &&
+                                    HEADER_SIZE + (long) header.getInt(INDEX_SLOTS_OFFSET) * SLOT_SIZE < channel.size();
+                    if (reuse) {
+                        slots = header.getInt(INDEX_SLOTS_OFFSET);
+                    } else if (channel.size() < sizeBytes) {
+                        // Only ever grow the file, as other processes may have mapped it
+                        channel.write(ByteBuffer.wrap(new byte[1]), sizeBytes - 1);
+                    }
+
+                    this.indexSlots = slots;
+                    this.dataStart = HEADER_SIZE + slots * SLOT_SIZE;
+                    this.capacity = (int) Math.min(channel.size(), Integer.MAX_VALUE);
+                    this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+
+                    if (!reuse) {
+                        for (int position = HEADER_SIZE; position < dataStart; position += 8) {
+                            buffer.putLong(position, 0);
+                        }
+                        buffer.putLong(APPEND_POSITION_OFFSET, dataStart);
+                        buffer.putInt(INDEX_SLOTS_OFFSET, slots);
+                        buffer.putInt(MODEL_VERSION_OFFSET, modelVersion);
+                        buffer.putInt(FORMAT_VERSION_OFFSET, FORMAT_VERSION);
+                        buffer.putInt(MAGIC_OFFSET, MAGIC);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public @Nullable ResolvedPom getResolvedDependencyPom(ResolvedGroupArtifactVersion dependency) {
+        byte[] value = get(key("resolved:", dependency));
+        return value == null ? null : deserialize(value, ResolvedPom.class);
+    }
+
+    @Override
+    public void putResolvedDependencyPom(ResolvedGroupArtifactVersion dependency, ResolvedPom resolved) {
+        put(key("resolved:", dependency), serialize(resolved));
+    }
+
+    @Override
+    public @Nullable Optional<MavenMetadata> getMavenMetadata(URI repo, GroupArtifactVersion gav) {
+        //The Maven metadata is not something that should be stored long term, as it will change over time.
+        return null;
+    }
+
+    @Override
+    public void putMavenMetadata(URI repo, GroupArtifactVersion gav, @Nullable MavenMetadata metadata) {
+        //The Maven metadata is not something that should be stored long term, as it will change over time.
+    }
+
+    @SuppressWarnings("OptionalAssignedToNull")
+    @Override
+    public @Nullable Optional<Pom> getPom(ResolvedGroupArtifactVersion gav) {
+        byte[] value = get(key("pom:", gav));
+        if (value == null) {
+            return null;
+        }
+        Pom pom = deserialize(value, Pom.class);
+        return pom == null ? null : Optional.of(pom);
+    }
+
+    @Override
+    public void putPom(ResolvedGroupArtifactVersion gav, @Nullable Pom pom) {
+        if (pom != null) {
+            put(key("pom:", gav), serialize(pom));
+        }
+    }
+
+    @Override
+    public @Nullable Optional<MavenRepository> getNormalizedRepository(MavenRepository repository) {
+        return null;
+    }
+
+    @Override
+    public void putNormalizedRepository(MavenRepository repository, MavenRepository normalized) {
+    }
+
+    /**
+     * Close the file. The mapping is released once it is garbage collected, and entries
+     * put after the cache is closed are not stored.
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private byte @Nullable [] get(byte[] key) {
+        long hash = hash(key);
+        int mask = indexSlots - 1;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int slot = HEADER_SIZE + (int) ((hash + probe) & mask) * SLOT_SIZE;
+            long slotHash = buffer.getLong(slot);
+            if (slotHash == 0) {
+                return null;
+            } else if (slotHash == hash) {
+                byte[] value = read(buffer.getLong(slot + 8), key);
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void put(byte[] key, byte[] value) {
+        long hash = hash(key);
+        int mask = indexSlots - 1;
+        synchronized (writeMonitor) {
+            if (!channel.isOpen()) {
+                return;
+            }
+            try (FileLock ignored = channel.lock()) {
+                if (buffer.getInt(MAGIC_OFFSET) != MAGIC ||
+                    buffer.getInt(FORMAT_VERSION_OFFSET) != FORMAT_VERSION ||
+                    buffer.getInt(MODEL_VERSION_OFFSET) != modelVersion ||
+                    buffer.getInt(INDEX_SLOTS_OFFSET) != indexSlots) {
+                    // Another process has since emptied the cache for a different model version
+                    return;
+                }
+
+                for (int probe = 0; probe < MAX_PROBES; probe++) {
+                    int slot = HEADER_SIZE + (int) ((hash + probe) & mask) * SLOT_SIZE;
+                    long slotHash = buffer.getLong(slot);
+                    if (slotHash == hash && read(buffer.getLong(slot + 8), key) != null) {
+                        return;
+                    } else if (slotHash == 0) {
+                        long position = buffer.getLong(APPEND_POSITION_OFFSET);
+                        long end = position + ENTRY_HEADER_SIZE + key.length + value.length;
+                        if (position < dataStart || end > capacity) {
+                            return;
+                        }
+
+                        ByteBuffer entry = buffer.duplicate();
+                        entry.position((int) position);
+                        entry.putInt(key.length);
+                        entry.putInt(value.length);
+                        entry.putInt(checksum(value));
+                        entry.put(key);
+                        entry.put(value);
+
+                        // Publish the entry only once it is complete
+                        buffer.putLong(slot + 8, position);
+                        buffer.putLong(slot, hash);
+                        buffer.putLong(APPEND_POSITION_OFFSET, end);
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * @return The value of the entry at the given position, or null if the position doesn't hold
+     * a complete entry for the key.
+     */
+    private byte @Nullable [] read(long position, byte[] key) {
+        if (position < dataStart || position > capacity - ENTRY_HEADER_SIZE) {
+            return null;
+        }
+        int keyLength = buffer.getInt((int) position);
+        int valueLength = buffer.getInt((int) position + 4);
+        int checksum = buffer.getInt((int) position + 8);
+        if (keyLength != key.length || valueLength < 0 ||
+            position + ENTRY_HEADER_SIZE + keyLength + valueLength > capacity) {
+            return null;
+        }
+
+        ByteBuffer entry = buffer.duplicate();
+        entry.position((int) position + ENTRY_HEADER_SIZE);
+        for (byte b : key) {
+            if (entry.get() != b) {
+                return null;
+            }
+        }
+        byte[] value = new byte[valueLength];
+        entry.get(value);
+        return checksum(value) == checksum ? value : null;
+    }
+
+    private static byte[] key(String kind, ResolvedGroupArtifactVersion gav) {
+        return (kind + gav).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 64-bit FNV-1a, never zero so that zero can mark an empty slot.
+     */
+    private static long hash(byte[] key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    private static int checksum(byte[] value) {
+        CRC32 crc = new CRC32();
+        crc.update(value, 0, value.length);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] serialize(Object object) {
+        try {
+            return mapper.writeValueAsBytes(object);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to serialize object to byte array.", e);
+        }
+    }
+
+    /**
+     * @return The deserialized value, or null if it can no longer be read, which is treated as a cache miss.
+     */
+    private static <T> @Nullable T deserialize(byte[] value, Class<T> type) {
+        try {
+            return mapper.readValue(value, type);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
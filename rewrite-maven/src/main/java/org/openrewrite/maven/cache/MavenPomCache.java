@@ -16,6 +16,7 @@
 package org.openrewrite.maven.cache;
 
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
 import org.openrewrite.maven.MavenDownloadingException;
 import org.openrewrite.maven.tree.*;
 
@@ -43,4 +44,21 @@ public interface MavenPomCache {
     Optional<MavenRepository> getNormalizedRepository(MavenRepository repository);
 
     void putNormalizedRepository(MavenRepository repository, MavenRepository normalized);
+
+    /**
+     * @param uri The URI of a maven-metadata.xml document.
+     * @return The document as it was last downloaded, with its validators, or null if it isn't known.
+     */
+    @Incubating(since = "8.40.0")
+    default @Nullable RevalidatableMavenMetadata getRevalidatableMavenMetadata(URI uri) {
+        return null;
+    }
+
+    /**
+     * @param uri      The URI of a maven-metadata.xml document.
+     * @param metadata The document as it was downloaded, with its validators, or null to forget it.
+     */
+    @Incubating(since = "8.40.0")
+    default void putRevalidatableMavenMetadata(URI uri, @Nullable RevalidatableMavenMetadata metadata) {
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.maven.cache;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
+
+/**
+ * A maven-metadata.xml document as it was downloaded, along with the validators the repository sent with it, so
+ * that once the parsed metadata has expired from a {@link MavenPomCache} it can be revalidated with a conditional
+ * request that is answered with 304 Not Modified rather than downloaded again.
+ */
+@Incubating(since = "8.40.0")
+@Value
+public class RevalidatableMavenMetadata {
+    @Nullable
+    String etag;
+
+    @Nullable
+    String lastModified;
+
+    byte[] body;
+}
@@ -26,6 +26,7 @@
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.HttpSenderExecutionContextView;
+import org.openrewrite.Incubating;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.internal.StringUtils;
 import org.openrewrite.ipc.http.HttpSender;
@@ -33,11 +34,13 @@
 import org.openrewrite.maven.MavenExecutionContextView;
 import org.openrewrite.maven.MavenSettings;
 import org.openrewrite.maven.cache.MavenPomCache;
+import org.openrewrite.maven.cache.RevalidatableMavenMetadata;
 import org.openrewrite.maven.tree.*;
 
 import java.io.*;
 import java.net.SocketTimeoutException;
 import java.net.URI;
+import java.net.URL;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -45,7 +48,9 @@
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -69,6 +74,7 @@ public class MavenPomDownloader {
 
     private static final String SNAPSHOT = "SNAPSHOT";
 
+    private static final String PREFETCHER = "org.openrewrite.maven.prefetcher";
 
     private final MavenPomCache mavenCache;
     private final Map<Path, Pom> projectPoms;
@@ -87,6 +93,11 @@ public class MavenPomDownloader {
     private boolean addCentralRepository;
     private boolean addLocalRepository;
 
+    @Nullable
+    private MavenPomDownloader quiet;
+
+    private final Map<ResolvedBomKey, ResolvedPom> resolvedBoms = new ConcurrentHashMap<>();
+
     /**
      * @param projectPoms    Other POMs in this project.
      * @param ctx            The execution context, which potentially contain Maven settings customization
@@ -147,6 +158,19 @@ public MavenPomDownloader(Map<Path, Pom> projectPoms, HttpSender httpSender, Exe
     }
 
     byte[] sendRequest(HttpSender.Request request) throws IOException, HttpSenderResponseException {
+        return sendRequest(request, null);
+    }
+
+    /**
+     * @param onSuccess Receives the response when it is successful, to read its headers.
+     */
+    private byte[] sendRequest(HttpSender.Request request, @Nullable Consumer<HttpSender.Response> onSuccess)
+            throws IOException, HttpSenderResponseException {
+        Prefetcher prefetcher = prefetcher();
+        Semaphore permits = prefetcher == null ? null : prefetcher.permits(request.getUrl());
+        if (permits != null) {
+            permits.acquireUninterruptibly();
+        }
         long start = System.nanoTime();
         try {
             return Failsafe.with(retryPolicy).get(() -> {
@@ -155,7 +179,11 @@ byte[] sendRequest(HttpSender.Request request) throws IOException, HttpSenderRes
                         throw new HttpSenderResponseException(null, response.getCode(),
                                 new String(response.getBodyAsBytes()));
                     }
-                    return response.getBodyAsBytes();
+                    byte[] body = response.getBodyAsBytes();
+                    if (onSuccess != null) {
+                        onSuccess.accept(response);
+                    }
+                    return body;
                 }
             });
         } catch (FailsafeException failsafeException) {
@@ -167,6 +195,156 @@ byte[] sendRequest(HttpSender.Request request) throws IOException, HttpSenderRes
             throw e.getCause();
         } finally {
             this.ctx.recordResolutionTime(Duration.ofNanos(System.nanoTime() - start));
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Run tasks that warm the {@link MavenPomCache} concurrently when {@link MavenExecutionContextView#getResolutionParallelism()}
+     * is greater than one, and wait for them to complete. Each task is run at most once per execution context, so
+     * this also waits for tasks with the same coordinates that other resolutions sharing the execution context started.
+     * Resolutions sharing the execution context run their tasks on one pool of that many threads, which is shut down
+     * once none of them is prefetching.
+     * <p>
+     * Tasks only do work ahead of the serial resolution that follows them, which reports progress and failures.
+     * So tasks receive a downloader and execution context that don't notify the resolution listener, and their
+     * failures are ignored.
+     *
+     * @param tasks Tasks keyed by the coordinates of the POM they download.
+     */
+    @Incubating(since = "8.40.0")
+    public void prefetch(Map<GroupArtifactVersion, PrefetchTask> tasks) {
+        Prefetcher prefetcher = prefetcher();
+        if (prefetcher == null || tasks.isEmpty()) {
+            return;
+        }
+
+        MavenPomDownloader quiet = quiet();
+        List<CompletableFuture<Void>> pending = new ArrayList<>(tasks.size());
+        ExecutorService executor = prefetcher.acquireExecutor();
+        try {
+            for (Map.Entry<GroupArtifactVersion, PrefetchTask> entry : tasks.entrySet()) {
+                CompletableFuture<Void> done = new CompletableFuture<>();
+                CompletableFuture<Void> existing = prefetcher.started.putIfAbsent(entry.getKey(), done);
+                if (existing != null) {
+                    pending.add(existing);
+                    continue;
+                }
+                pending.add(done);
+                PrefetchTask task = entry.getValue();
+                executor.execute(() -> {
+                    try {
+                        task.run(quiet, quiet.ctx);
+                    } catch (Exception ignored) {
+                        // the serial resolution that follows will encounter and report the same failure
+                    } finally {
+                        done.complete(null);
+                    }
+                });
+            }
+            for (CompletableFuture<Void> done : pending) {
+                done.join();
+            }
+        } finally {
+            prefetcher.releaseExecutor();
+        }
+    }
+
+    private @Nullable Prefetcher prefetcher() {
+        int parallelism = ctx.getResolutionParallelism();
+        if (parallelism <= 1) {
+            return null;
+        }
+        Prefetcher prefetcher = ctx.getMessage(PREFETCHER);
+        if (prefetcher == null) {
+            synchronized (MavenPomDownloader.class) {
+                prefetcher = ctx.getMessage(PREFETCHER);
+                if (prefetcher == null) {
+                    prefetcher = new Prefetcher(parallelism);
+                    ctx.putMessage(PREFETCHER, prefetcher);
+                }
+            }
+        }
+        return prefetcher;
+    }
+
+    /**
+     * @return A copy of this downloader that doesn't notify the resolution listener.
+     */
+    private synchronized MavenPomDownloader quiet() {
+        if (quiet == null) {
+            MavenExecutionContextView quietCtx = new MavenExecutionContextView(ctx) {
+                @Override
+                public ResolutionEventListener getResolutionListener() {
+                    return ResolutionEventListener.NOOP;
+                }
+            };
+            MavenPomDownloader q = new MavenPomDownloader(projectPoms, httpSender, quietCtx);
+            q.mavenSettings = mavenSettings;
+            q.mirrors = mirrors;
+            q.activeProfiles = activeProfiles;
+            q.addCentralRepository = addCentralRepository;
+            q.addLocalRepository = addLocalRepository;
+            quiet = q;
+        }
+        return quiet;
+    }
+
+    /**
+     * Work that warms the {@link MavenPomCache}, such as downloading a POM and resolving its parents.
+     */
+    @Incubating(since = "8.40.0")
+    @FunctionalInterface
+    public interface PrefetchTask {
+        void run(MavenPomDownloader downloader, ExecutionContext ctx) throws MavenDownloadingException;
+    }
+
+    /**
+     * Shared by every downloader of an execution context, so that concurrent resolutions don't
+     * download the same POM twice, together exceed the limit of concurrent requests to a repository,
+     * or together run more than that many prefetch tasks at once.
+     */
+    private static class Prefetcher {
+        final int parallelism;
+        final Map<String, Semaphore> permitsByHost = new ConcurrentHashMap<>();
+        final Map<GroupArtifactVersion, CompletableFuture<Void>> started = new ConcurrentHashMap<>();
+
+        /**
+         * The number of prefetches using the executor, which is shut down when the last of them completes.
+         */
+        private int users;
+
+        @Nullable
+        private ExecutorService executor;
+
+        Prefetcher(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        Semaphore permits(URL url) {
+            return permitsByHost.computeIfAbsent(url.getProtocol() + "://" + url.getAuthority(),
+                    host -> new Semaphore(parallelism));
+        }
+
+        synchronized ExecutorService acquireExecutor() {
+            users++;
+            if (executor == null) {
+                executor = Executors.newFixedThreadPool(parallelism, r -> {
+                    Thread t = new Thread(r, "rewrite-maven-prefetch");
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+            return executor;
+        }
+
+        synchronized void releaseExecutor() {
+            if (--users == 0 && executor != null) {
+                executor.shutdown();
+                executor = null;
+            }
         }
     }
 
@@ -273,7 +451,7 @@ public MavenMetadata downloadMetadata(GroupArtifactVersion gav, @Nullable Resolv
                             }
                         }
                     } else {
-                        byte[] responseBody = requestAsAuthenticatedOrAnonymous(repo, baseUri + "maven-metadata.xml");
+                        byte[] responseBody = requestMetadata(repo, baseUri + "maven-metadata.xml");
                         MavenMetadata parsed = MavenMetadata.parse(responseBody);
                         if (parsed != null) {
                             result = Optional.of(parsed);
@@ -643,6 +821,53 @@ public Pom download(GroupArtifactVersion gav,
                 .setRepositoryResponses(repositoryResponses);
     }
 
+    /**
+     * Download and resolve a BOM imported in the dependency management of a POM. The result is reused for every
+     * POM resolved by this downloader that imports the same BOM from the same repositories with the same active
+     * profiles, such as the modules of a multi-module project that all import a BOM from their common parent.
+     * Repositories are compared after the properties of the containing POM have been substituted into them and
+     * mirrors applied, so that POMs whose properties point the same repository elsewhere don't share a BOM.
+     *
+     * @param gav           The coordinates of the BOM.
+     * @param containingPom The POM that imports the BOM.
+     * @param repositories  The repositories to download the BOM from.
+     * @param ctx           The execution context.
+     * @return The resolved BOM, which should not be modified.
+     */
+    @Incubating(since = "8.40.0")
+    public ResolvedPom resolveBom(GroupArtifactVersion gav, ResolvedPom containingPom,
+                                  List<MavenRepository> repositories, ExecutionContext ctx) throws MavenDownloadingException {
+        List<String> activeProfiles = new ArrayList<>();
+        containingPom.getActiveProfiles().forEach(activeProfiles::add);
+        List<MavenRepository> initialRepositories = containingPom.getInitialRepositories();
+        ResolvedBomKey key = new ResolvedBomKey(gav, activeProfiles,
+                new ArrayList<>(distinctNormalizedRepositories(repositories, containingPom, gav.getVersion())),
+                initialRepositories == null ? emptyList() : new ArrayList<>(initialRepositories));
+
+        ResolvedPom bom = resolvedBoms.get(key);
+        if (bom == null) {
+            bom = download(gav, null, containingPom, repositories)
+                    .resolve(activeProfiles, this, initialRepositories, ctx);
+            ResolvedPom existing = resolvedBoms.putIfAbsent(key, bom);
+            if (existing != null) {
+                bom = existing;
+            }
+        }
+        return bom;
+    }
+
+    @Value
+    private static class ResolvedBomKey {
+        GroupArtifactVersion gav;
+        List<String> activeProfiles;
+
+        /**
+         * Normalized with the properties of the containing POM.
+         */
+        List<MavenRepository> repositories;
+        List<MavenRepository> initialRepositories;
+    }
+
     /**
      * Gets the base version from snapshot timestamp version.
      */
@@ -861,21 +1086,70 @@ private ReachabilityResult reachable(HttpSender.Request.Builder request) {
      * Replicates Apache Maven's behavior to attempt anonymous download if repository credentials prove invalid
      */
     private byte[] requestAsAuthenticatedOrAnonymous(MavenRepository repo, String uriString) throws HttpSenderResponseException, IOException {
+        return requestAsAuthenticatedOrAnonymous(repo, uriString, emptyMap(), null);
+    }
+
+    private byte[] requestAsAuthenticatedOrAnonymous(MavenRepository repo, String uriString, Map<String, String> headers,
+                                                     @Nullable Consumer<HttpSender.Response> onSuccess) throws HttpSenderResponseException, IOException {
         try {
             HttpSender.Request.Builder request = httpSender.get(uriString);
-            return sendRequest(applyAuthenticationAndTimeoutToRequest(repo, request).build());
+            headers.forEach(request::withHeader);
+            return sendRequest(applyAuthenticationAndTimeoutToRequest(repo, request).build(), onSuccess);
         } catch (HttpSenderResponseException e) {
             if (hasCredentials(repo) && e.isClientSideException()) {
-                return retryRequestAnonymously(uriString, e);
+                return retryRequestAnonymously(uriString, headers, onSuccess, e);
             } else {
                 throw e;
             }
         }
     }
 
-    private byte[] retryRequestAnonymously(String uriString, HttpSenderResponseException originalException) throws HttpSenderResponseException, IOException {
+    /**
+     * Download maven-metadata.xml, revalidating a copy previously downloaded into the {@link MavenPomCache}
+     * with the repository when there is one rather than downloading it again.
+     */
+    private byte[] requestMetadata(MavenRepository repo, String uriString) throws HttpSenderResponseException, IOException {
+        URI uri = URI.create(uriString);
+        RevalidatableMavenMetadata previous = mavenCache.getRevalidatableMavenMetadata(uri);
+        Map<String, String> conditions = emptyMap();
+        if (previous != null) {
+            conditions = new HashMap<>(2);
+            if (previous.getEtag() != null) {
+                conditions.put("If-None-Match", previous.getEtag());
+            }
+            if (previous.getLastModified() != null) {
+                conditions.put("If-Modified-Since", previous.getLastModified());
+            }
+        }
+
+        AtomicReference<HttpSender.@Nullable Response> response = new AtomicReference<>();
+        byte[] body;
         try {
-            return sendRequest(httpSender.get(uriString).build());
+            body = requestAsAuthenticatedOrAnonymous(repo, uriString, conditions, response::set);
+        } catch (HttpSenderResponseException e) {
+            if (previous != null && e.getResponseCode() != null && e.getResponseCode() == 304) {
+                return previous.getBody();
+            }
+            throw e;
+        }
+
+        String etag = response.get() == null ? null : response.get().getHeader("ETag");
+        String lastModified = response.get() == null ? null : response.get().getHeader("Last-Modified");
+        if (etag != null || lastModified != null) {
+            mavenCache.putRevalidatableMavenMetadata(uri, new RevalidatableMavenMetadata(etag, lastModified, body));
+        } else if (previous != null) {
+            mavenCache.putRevalidatableMavenMetadata(uri, null);
+        }
+        return body;
+    }
+
+    private byte[] retryRequestAnonymously(String uriString, Map<String, String> headers,
+                                           @Nullable Consumer<HttpSender.Response> onSuccess,
+                                           HttpSenderResponseException originalException) throws HttpSenderResponseException, IOException {
+        try {
+            HttpSender.Request.Builder request = httpSender.get(uriString);
+            headers.forEach(request::withHeader);
+            return sendRequest(request.build(), onSuccess);
         } catch (HttpSenderResponseException retryException) {
             if (retryException.isAccessDenied()) {
                 throw originalException;
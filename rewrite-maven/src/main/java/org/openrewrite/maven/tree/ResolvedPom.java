@@ -29,6 +29,7 @@
 import lombok.experimental.NonFinal;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Incubating;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.internal.PropertyPlaceholderHelper;
 import org.openrewrite.maven.MavenDownloadingException;
@@ -77,7 +78,7 @@ public ResolvedPom(Pom requested, Iterable<String> activeProfiles) {
         this.requested = requested;
         this.activeProfiles = activeProfiles;
         this.properties = properties;
-        this.dependencyManagement = dependencyManagement;
+        this.dependencyManagement = IndexedDependencyManagement.of(dependencyManagement);
         this.initialRepositories = initialRepositories;
         this.repositories = repositories;
         this.requestedDependencies = requestedDependencies;
@@ -131,6 +132,7 @@ public ResolvedPom deduplicate() {
         List<Dependency> dedupD = ListUtils.map(requestedDependencies, d -> uniqueManagedDependencies.add(new UniqueDependencyKey(d.getGav(), d.getType(), d.getClassifier(), d.getScope())) ?
                 d : null);
         requestedDependencies = dedupD;
+        dependencyManagement = IndexedDependencyManagement.of(dependencyManagement);
         return this;
     }
 
@@ -311,31 +313,109 @@ public String getPackaging() {
     }
 
     public @Nullable String getManagedVersion(@Nullable String groupId, String artifactId, @Nullable String type, @Nullable String classifier) {
-        for (ResolvedManagedDependency dm : dependencyManagement) {
+        ResolvedManagedDependency dm = findManagedDependency(groupId, artifactId, type, classifier);
+        return dm == null ? null : getValue(dm.getVersion());
+    }
+
+    public List<GroupArtifact> getManagedExclusions(String groupId, String artifactId, @Nullable String type, @Nullable String classifier) {
+        ResolvedManagedDependency dm = findManagedDependency(groupId, artifactId, type, classifier);
+        return dm == null || dm.getExclusions() == null ? emptyList() : dm.getExclusions();
+    }
+
+    public @Nullable Scope getManagedScope(String groupId, String artifactId, @Nullable String type, @Nullable String classifier) {
+        ResolvedManagedDependency dm = findManagedDependency(groupId, artifactId, type, classifier);
+        return dm == null ? null : dm.getScope();
+    }
+
+    /**
+     * @return The dependency management entry that applies to a dependency, which is the first one matching its
+     * coordinates when the same dependency is managed more than once.
+     */
+    @Incubating(since = "8.40.0")
+    public @Nullable ResolvedManagedDependency findManagedDependency(@Nullable String groupId, String artifactId,
+                                                                   @Nullable String type, @Nullable String classifier) {
+        for (ResolvedManagedDependency dm : findManagedDependencies(groupId, artifactId)) {
             if (dm.matches(groupId, artifactId, type, classifier)) {
-                return getValue(dm.getVersion());
+                return dm;
             }
         }
-
         return null;
     }
 
-    public List<GroupArtifact> getManagedExclusions(String groupId, String artifactId, @Nullable String type, @Nullable String classifier) {
+    /**
+     * @return The dependency management entries of any type and classifier for a group and artifact,
+     * in the order in which they appear in dependency management.
+     */
+    @Incubating(since = "8.40.0")
+    public List<ResolvedManagedDependency> findManagedDependencies(@Nullable String groupId, String artifactId) {
+        if (dependencyManagement instanceof IndexedDependencyManagement) {
+            return ((IndexedDependencyManagement) dependencyManagement).get(groupId, artifactId);
+        }
+        List<ResolvedManagedDependency> found = emptyList();
         for (ResolvedManagedDependency dm : dependencyManagement) {
-            if (dm.matches(groupId, artifactId, type, classifier)) {
-                return dm.getExclusions() == null ? emptyList() : dm.getExclusions();
+            if (Objects.equals(groupId, dm.getGav().getGroupId()) && artifactId.equals(dm.getArtifactId())) {
+                if (found.isEmpty()) {
+                    found = new ArrayList<>(1);
+                }
+                found.add(dm);
             }
         }
-        return emptyList();
+        return found;
     }
 
-    public @Nullable Scope getManagedScope(String groupId, String artifactId, @Nullable String type, @Nullable String classifier) {
-        for (ResolvedManagedDependency dm : dependencyManagement) {
-            if (dm.matches(groupId, artifactId, type, classifier)) {
-                return dm.getScope();
+    /**
+     * Dependency management indexed by group and artifact, which replaces the list that is built up during resolution
+     * once resolution is complete. Dependency resolution looks up the managed version, scope, and exclusions of every
+     * dependency at every depth, and imported BOMs often manage more than a thousand dependencies.
+     */
+    private static class IndexedDependencyManagement extends AbstractList<ResolvedManagedDependency> implements RandomAccess {
+        private final List<ResolvedManagedDependency> entries;
+        private final Map<GroupArtifactKey, List<ResolvedManagedDependency>> byGroupArtifact;
+
+        private IndexedDependencyManagement(List<ResolvedManagedDependency> entries) {
+            this.entries = entries;
+            this.byGroupArtifact = new HashMap<>((int) (entries.size() / 0.75f) + 1);
+            for (ResolvedManagedDependency dm : entries) {
+                byGroupArtifact.merge(new GroupArtifactKey(dm.getGav().getGroupId(), dm.getArtifactId()),
+                        singletonList(dm), (existing, added) -> {
+                            List<ResolvedManagedDependency> merged = new ArrayList<>(existing.size() + 1);
+                            merged.addAll(existing);
+                            merged.addAll(added);
+                            return merged;
+                        });
             }
         }
-        return null;
+
+        static List<ResolvedManagedDependency> of(List<ResolvedManagedDependency> dependencyManagement) {
+            //noinspection ConstantValue
+            if (dependencyManagement == null || dependencyManagement.isEmpty() ||
+                dependencyManagement instanceof IndexedDependencyManagement) {
+                return dependencyManagement;
+            }
+            return new IndexedDependencyManagement(new ArrayList<>(dependencyManagement));
+        }
+
+        List<ResolvedManagedDependency> get(@Nullable String groupId, String artifactId) {
+            return byGroupArtifact.getOrDefault(new GroupArtifactKey(groupId, artifactId), emptyList());
+        }
+
+        @Override
+        public ResolvedManagedDependency get(int index) {
+            return entries.get(index);
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+    }
+
+    @Value
+    private static class GroupArtifactKey {
+        @Nullable
+        String groupId;
+
+        String artifactId;
     }
 
     public GroupArtifactVersion getValues(GroupArtifactVersion gav) {
@@ -386,6 +466,7 @@ void resolveParentsRecursively(Pom requested) throws MavenDownloadingException {
 
             resolveParentDependenciesRecursively(new ArrayList<>(pomAncestry));
             resolveParentPluginsRecursively(new ArrayList<>(pomAncestry));
+            dependencyManagement = IndexedDependencyManagement.of(dependencyManagement);
         }
 
         private void resolveParentPropertiesAndRepositoriesRecursively(List<Pom> pomAncestry) throws MavenDownloadingException {
@@ -792,6 +873,8 @@ private void mergeDependencyManagement(List<ManagedDependency> incomingDependenc
             if (!incomingDependencyManagement.isEmpty()) {
                 if (dependencyManagement == null || dependencyManagement.isEmpty()) {
                     dependencyManagement = new ArrayList<>();
+                } else if (dependencyManagement instanceof IndexedDependencyManagement) {
+                    dependencyManagement = new ArrayList<>(dependencyManagement);
                 }
                 for (ManagedDependency d : incomingDependencyManagement) {
                     if (d instanceof Imported) {
@@ -799,8 +882,7 @@ private void mergeDependencyManagement(List<ManagedDependency> incomingDependenc
                         if (isAlreadyResolved(groupArtifactVersion, pomAncestry)) {
                             continue;
                         }
-                        ResolvedPom bom = downloader.download(groupArtifactVersion, null, ResolvedPom.this, repositories)
-                                .resolve(activeProfiles, downloader, initialRepositories, ctx);
+                        ResolvedPom bom = downloader.resolveBom(groupArtifactVersion, ResolvedPom.this, repositories, ctx);
                         MavenExecutionContextView.view(ctx)
                                 .getResolutionListener()
                                 .bomImport(bom.getGav(), pom);
@@ -860,8 +942,12 @@ public List<ResolvedDependency> resolveDependencies(Scope scope, Map<GroupArtifa
 
         MavenDownloadingExceptions exceptions = null;
         int depth = 0;
+        boolean prefetch = MavenExecutionContextView.view(ctx).getResolutionParallelism() > 1;
         while (!dependenciesAtDepth.isEmpty()) {
             List<DependencyAndDependent> dependenciesAtNextDepth = new ArrayList<>();
+            if (prefetch) {
+                prefetch(dependenciesAtDepth, depth, requirements, downloader);
+            }
 
             for (DependencyAndDependent dd : dependenciesAtDepth) {
                 // First get the dependency (relative to the pom it was defined in)
@@ -922,14 +1008,7 @@ public List<ResolvedDependency> resolveDependencies(Scope scope, Map<GroupArtifa
 
                     Pom dPom = downloader.download(d.getGav(), null, dd.definedIn, getRepositories());
 
-                    MavenPomCache cache = MavenExecutionContextView.view(ctx).getPomCache();
-                    ResolvedPom resolvedPom = cache.getResolvedDependencyPom(dPom.getGav());
-                    if (resolvedPom == null) {
-                        resolvedPom = new ResolvedPom(dPom, getActiveProfiles(), emptyMap(),
-                                emptyList(), initialRepositories, emptyList(), emptyList(), emptyList(), emptyList());
-                        resolvedPom.resolver(ctx, downloader).resolveParentsRecursively(dPom);
-                        cache.putResolvedDependencyPom(dPom.getGav(), resolvedPom);
-                    }
+                    ResolvedPom resolvedPom = resolveDependencyPom(dPom, downloader, ctx);
 
                     ResolvedDependency resolved = new ResolvedDependency(dPom.getRepository(),
                             resolvedPom.getGav(), dd.getDependency(), emptyList(),
@@ -1007,6 +1086,47 @@ public List<ResolvedDependency> resolveDependencies(Scope scope, Map<GroupArtifa
         return dependencies;
     }
 
+    private ResolvedPom resolveDependencyPom(Pom dPom, MavenPomDownloader downloader, ExecutionContext ctx) throws MavenDownloadingException {
+        MavenPomCache cache = MavenExecutionContextView.view(ctx).getPomCache();
+        ResolvedPom resolvedPom = cache.getResolvedDependencyPom(dPom.getGav());
+        if (resolvedPom == null) {
+            resolvedPom = new ResolvedPom(dPom, getActiveProfiles(), emptyMap(),
+                    emptyList(), initialRepositories, emptyList(), emptyList(), emptyList(), emptyList());
+            resolvedPom.resolver(ctx, downloader).resolveParentsRecursively(dPom);
+            cache.putResolvedDependencyPom(dPom.getGav(), resolvedPom);
+        }
+        return resolvedPom;
+    }
+
+    /**
+     * Download and resolve the parents of the POMs of the dependencies at the next depth concurrently, so that
+     * the serial walk over them finds them in the {@link MavenPomCache}. Dependencies whose version will be
+     * decided by a requirement that has already been seen, or that depend on version ranges, are left to the walk.
+     */
+    private void prefetch(List<DependencyAndDependent> dependenciesAtDepth, int depth,
+                          Map<GroupArtifact, VersionRequirement> requirements, MavenPomDownloader downloader) {
+        Map<GroupArtifactVersion, MavenPomDownloader.PrefetchTask> tasks = new LinkedHashMap<>();
+        for (DependencyAndDependent dd : dependenciesAtDepth) {
+            Dependency d = getValues(dd.getDefinedIn().getValues(dd.getDependency(), 0), depth);
+            GroupArtifactVersion gav = d.getGav();
+            if (gav.getGroupId() == null || gav.getVersion() == null ||
+                (d.getType() != null && !"jar".equals(d.getType()) && !"pom".equals(d.getType())) ||
+                requirements.containsKey(new GroupArtifact(gav.getGroupId(), gav.getArtifactId())) ||
+                !isExactVersion(gav.getVersion()) || gav.getGroupId().contains("${") || gav.getArtifactId().contains("${")) {
+                continue;
+            }
+            ResolvedPom definedIn = dd.getDefinedIn();
+            tasks.putIfAbsent(gav, (quietDownloader, quietCtx) -> resolveDependencyPom(
+                    quietDownloader.download(gav, null, definedIn, getRepositories()), quietDownloader, quietCtx));
+        }
+        downloader.prefetch(tasks);
+    }
+
+    private static boolean isExactVersion(String version) {
+        return !version.contains("${") && version.indexOf('[') < 0 && version.indexOf('(') < 0 &&
+               !"LATEST".equals(version) && !"RELEASE".equals(version);
+    }
+
     private boolean contains(List<ResolvedDependency> dependencies, GroupArtifact ga, @Nullable String classifier) {
         for (ResolvedDependency it : dependencies) {
             if (it.getGroupId().equals(ga.getGroupId()) && it.getArtifactId().equals(ga.getArtifactId()) &&
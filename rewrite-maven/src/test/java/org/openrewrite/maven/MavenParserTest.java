@@ -31,7 +31,9 @@
 import org.openrewrite.Issue;
 import org.openrewrite.ParseExceptionResult;
 import org.openrewrite.Parser;
+import org.openrewrite.SourceFile;
 import org.openrewrite.ipc.http.OkHttpSender;
+import org.openrewrite.maven.cache.InMemoryMavenPomCache;
 import org.openrewrite.maven.internal.MavenParsingException;
 import org.openrewrite.maven.tree.*;
 import org.openrewrite.test.RewriteTest;
@@ -41,6 +43,7 @@
 import java.io.IOException;
 import java.net.InetAddress;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
@@ -52,6 +55,118 @@
 
 class MavenParserTest implements RewriteTest {
 
+    @Test
+    void resolveModulesConcurrently() throws IOException {
+        try (MockWebServer repo = new MockWebServer()) {
+            repo.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    String path = Objects.requireNonNull(request.getPath());
+                    if (path.endsWith("bom-1.0.0.pom")) {
+                        //language=xml
+                        return new MockResponse().setResponseCode(200).setBody("""
+                          <project>
+                            <groupId>com.foo</groupId>
+                            <artifactId>bom</artifactId>
+                            <version>1.0.0</version>
+                            <packaging>pom</packaging>
+                            <dependencyManagement>
+                              <dependencies>
+                                <dependency>
+                                  <groupId>com.foo</groupId>
+                                  <artifactId>bar</artifactId>
+                                  <version>1.0.0</version>
+                                </dependency>
+                              </dependencies>
+                            </dependencyManagement>
+                          </project>
+                          """);
+                    } else if (path.endsWith("bar-1.0.0.pom")) {
+                        //language=xml
+                        return new MockResponse().setResponseCode(200).setBody("""
+                          <project>
+                            <groupId>com.foo</groupId>
+                            <artifactId>bar</artifactId>
+                            <version>1.0.0</version>
+                          </project>
+                          """);
+                    }
+                    return new MockResponse().setResponseCode(path.endsWith(".pom") ? 404 : 200);
+                }
+            });
+            repo.start();
+
+            var ctx = MavenExecutionContextView.view(new InMemoryExecutionContext(t -> {
+                  throw new AssertionError(t);
+              }))
+              .setPomCache(new InMemoryMavenPomCache())
+              .setAddLocalRepository(false)
+              .setAddCentralRepository(false)
+              .setResolutionParallelism(4);
+
+            List<Parser.Input> inputs = new ArrayList<>();
+            //language=xml
+            inputs.add(Parser.Input.fromString(Paths.get("pom.xml"), """
+              <project>
+                <groupId>org.example</groupId>
+                <artifactId>parent</artifactId>
+                <version>1</version>
+                <packaging>pom</packaging>
+                <repositories>
+                  <repository>
+                    <id>stub</id>
+                    <url>%s</url>
+                  </repository>
+                </repositories>
+                <dependencyManagement>
+                  <dependencies>
+                    <dependency>
+                      <groupId>com.foo</groupId>
+                      <artifactId>bom</artifactId>
+                      <version>1.0.0</version>
+                      <type>pom</type>
+                      <scope>import</scope>
+                    </dependency>
+                  </dependencies>
+                </dependencyManagement>
+              </project>
+              """.formatted(repo.url("/maven/"))));
+            for (String module : List.of("a", "b", "c", "d")) {
+                //language=xml
+                inputs.add(Parser.Input.fromString(Paths.get(module, "pom.xml"), """
+                  <project>
+                    <parent>
+                      <groupId>org.example</groupId>
+                      <artifactId>parent</artifactId>
+                      <version>1</version>
+                    </parent>
+                    <artifactId>%s</artifactId>
+                    <dependencies>
+                      <dependency>
+                        <groupId>com.foo</groupId>
+                        <artifactId>bar</artifactId>
+                      </dependency>
+                    </dependencies>
+                  </project>
+                  """.formatted(module)));
+            }
+
+            List<SourceFile> parsed = MavenParser.builder().build().parseInputs(inputs, null, ctx).toList();
+
+            assertThat(parsed).extracting(sourceFile -> sourceFile.getSourcePath().toString())
+              .containsExactly("pom.xml", Paths.get("a", "pom.xml").toString(), Paths.get("b", "pom.xml").toString(),
+                Paths.get("c", "pom.xml").toString(), Paths.get("d", "pom.xml").toString());
+            MavenResolutionResult parent = parsed.get(0).getMarkers().findFirst(MavenResolutionResult.class).orElseThrow();
+            assertThat(parent.getModules()).hasSize(4);
+            for (SourceFile module : parsed.subList(1, parsed.size())) {
+                assertThat(module.getMarkers().findFirst(MavenResolutionResult.class).orElseThrow()
+                  .getDependencies().get(Scope.Compile))
+                  .singleElement()
+                  .matches(dep -> "bar".equals(dep.getArtifactId()) && "1.0.0".equals(dep.getVersion()));
+            }
+        }
+    }
+
     @Test
     void rangeVersion() {
         rewriteRun(
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.maven.cache;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.maven.internal.RawPom;
+import org.openrewrite.maven.tree.GroupArtifactVersion;
+import org.openrewrite.maven.tree.MavenMetadata;
+import org.openrewrite.maven.tree.Pom;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryMavenPomCacheTest {
+    private static final URI REPOSITORY = URI.create("https://repo.example.com/maven2");
+    private static final GroupArtifactVersion RELEASE_METADATA = new GroupArtifactVersion("com.foo", "test", null);
+    private static final GroupArtifactVersion SNAPSHOT_METADATA = new GroupArtifactVersion("com.foo", "test", "1.0-SNAPSHOT");
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void pomsAreEvictedByWeight() {
+        InMemoryMavenPomCache cache = cache(InMemoryMavenPomCache.Limits.builder()
+          .maximumPomWeight(10)
+          .build());
+        for (int i = 0; i < 100; i++) {
+            Pom pom = parsePomXml("1.0." + i);
+            cache.putPom(pom.getGav(), pom);
+        }
+
+        int cached = 0;
+        for (int i = 0; i < 100; i++) {
+            if (cache.getPom(parsePomXml("1.0." + i).getGav()) != null) {
+                cached++;
+            }
+        }
+        // each of these POMs weighs 2, for itself and its one property
+        assertThat(cached).isBetween(1, 5);
+    }
+
+    @Test
+    void revalidatableMetadataIsEvictedByBytes() {
+        InMemoryMavenPomCache cache = cache(InMemoryMavenPomCache.Limits.builder()
+          .maximumRevalidatableMetadataBytes(10)
+          .build());
+        for (int i = 0; i < 10; i++) {
+            cache.putRevalidatableMavenMetadata(URI.create(REPOSITORY + "/" + i + "/maven-metadata.xml"),
+              new RevalidatableMavenMetadata("\"v" + i + "\"", null, new byte[8]));
+        }
+
+        int cached = 0;
+        for (int i = 0; i < 10; i++) {
+            if (cache.getRevalidatableMavenMetadata(URI.create(REPOSITORY + "/" + i + "/maven-metadata.xml")) != null) {
+                cached++;
+            }
+        }
+        assertThat(cached).isEqualTo(1);
+    }
+
+    @Test
+    void snapshotMetadataExpiresBeforeReleaseMetadata() {
+        InMemoryMavenPomCache cache = cache(InMemoryMavenPomCache.Limits.builder()
+          .snapshotMetadataTtl(Duration.ofHours(1))
+          .metadataTtl(Duration.ofDays(1))
+          .build());
+        cache.putMavenMetadata(REPOSITORY, RELEASE_METADATA, MavenMetadata.EMPTY);
+        cache.putMavenMetadata(REPOSITORY, SNAPSHOT_METADATA, MavenMetadata.EMPTY);
+
+        advance(Duration.ofMinutes(59));
+        assertThat(cache.getMavenMetadata(REPOSITORY, SNAPSHOT_METADATA)).isPresent();
+        assertThat(cache.getMavenMetadata(REPOSITORY, RELEASE_METADATA)).isPresent();
+
+        advance(Duration.ofMinutes(2));
+        assertThat(cache.getMavenMetadata(REPOSITORY, SNAPSHOT_METADATA)).isNull();
+        assertThat(cache.getMavenMetadata(REPOSITORY, RELEASE_METADATA)).isPresent();
+
+        advance(Duration.ofDays(1));
+        assertThat(cache.getMavenMetadata(REPOSITORY, RELEASE_METADATA)).isNull();
+    }
+
+    @Test
+    void metadataWithoutTtlDoesNotExpire() {
+        InMemoryMavenPomCache cache = cache(InMemoryMavenPomCache.Limits.builder()
+          .snapshotMetadataTtl(null)
+          .metadataTtl(null)
+          .build());
+        cache.putMavenMetadata(REPOSITORY, RELEASE_METADATA, MavenMetadata.EMPTY);
+        cache.putMavenMetadata(REPOSITORY, SNAPSHOT_METADATA, MavenMetadata.EMPTY);
+
+        advance(Duration.ofDays(365));
+        assertThat(cache.getMavenMetadata(REPOSITORY, SNAPSHOT_METADATA)).isPresent();
+        assertThat(cache.getMavenMetadata(REPOSITORY, RELEASE_METADATA)).isPresent();
+    }
+
+    private InMemoryMavenPomCache cache(InMemoryMavenPomCache.Limits limits) {
+        return new InMemoryMavenPomCache("test", limits, nanos::get, Runnable::run);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private Pom parsePomXml(String version) {
+        //language=xml
+        String pom = """
+          <project>
+              <modelVersion>4.0.0</modelVersion>
+              <groupId>com.foo</groupId>
+              <artifactId>test</artifactId>
+              <version>%s</version>
+              <name>test</name>
+              <properties>
+                  <foo>bar</foo>
+              </properties>
+          </project>
+          """.formatted(version);
+        return RawPom.parse(new ByteArrayInputStream(pom.getBytes()), null).toPom(null, null);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.maven.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.maven.internal.RawPom;
+import org.openrewrite.maven.tree.Pom;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedMavenPomCacheTest {
+
+    @Test
+    void entryPersistedInExistingFile(@TempDir Path tempDir) {
+        Pom pom = parsePomXml("1.0.0");
+        try (MappedMavenPomCache mavenCache = new MappedMavenPomCache(tempDir, 1 << 20, 64)) {
+            mavenCache.putPom(pom.getGav(), pom);
+        }
+
+        try (MappedMavenPomCache mavenCache = new MappedMavenPomCache(tempDir, 1 << 20, 64)) {
+            Optional<Pom> cached = mavenCache.getPom(pom.getGav());
+            assertThat(cached).isPresent();
+            assertThat(cached.get().getGav()).isEqualTo(pom.getGav());
+            assertThat(mavenCache.getPom(parsePomXml("1.0.1").getGav())).isNull();
+        }
+    }
+
+    @Test
+    void entriesSharedBetweenOpenCaches(@TempDir Path tempDir) {
+        try (MappedMavenPomCache writer = new MappedMavenPomCache(tempDir, 1 << 20, 64);
+             MappedMavenPomCache reader = new MappedMavenPomCache(tempDir, 1 << 20, 64)) {
+            for (int i = 0; i < 100; i++) {
+                Pom pom = parsePomXml("1.0." + i);
+                writer.putPom(pom.getGav(), pom);
+            }
+            for (int i = 0; i < 100; i++) {
+                Pom pom = parsePomXml("1.0." + i);
+                Optional<Pom> cached = reader.getPom(pom.getGav());
+                if (cached != null) {
+                    assertThat(cached.get().getGav()).isEqualTo(pom.getGav());
+                }
+            }
+            // 64 slots can hold at most 64 of the 100 POMs
+            Pom first = parsePomXml("1.0.0");
+            assertThat(reader.getPom(first.getGav())).isPresent();
+        }
+    }
+
+    @Test
+    void invalidateCacheOnModelChange(@TempDir Path tempDir) {
+        Pom pom = parsePomXml("1.0.0");
+        try (MappedMavenPomCache mavenCache = new MappedMavenPomCache(tempDir, 1 << 20, 64, 0)) {
+            mavenCache.putPom(pom.getGav(), pom);
+            assertThat(mavenCache.getPom(pom.getGav())).isPresent();
+        }
+
+        try (MappedMavenPomCache mavenCache = new MappedMavenPomCache(tempDir, 1 << 20, 64)) {
+            assertThat(mavenCache.getPom(pom.getGav())).isNull();
+        }
+    }
+
+    private Pom parsePomXml(String version) {
+        //language=xml
+        String pom = """
+          <project>
+              <modelVersion>4.0.0</modelVersion>
+              <groupId>com.foo</groupId>
+              <artifactId>test</artifactId>
+              <version>%s</version>
+              <name>test</name>
+          </project>
+          """.formatted(version);
+        return RawPom.parse(new ByteArrayInputStream(pom.getBytes()), null).toPom(null, null);
+    }
+}
@@ -38,11 +38,14 @@
 import org.openrewrite.maven.MavenExecutionContextView;
 import org.openrewrite.maven.MavenParser;
 import org.openrewrite.maven.MavenSettings;
+import org.openrewrite.maven.cache.InMemoryMavenPomCache;
+import org.openrewrite.maven.cache.MavenPomCache;
 import org.openrewrite.maven.tree.*;
 
 import javax.net.ssl.SSLSocketFactory;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.URI;
 import java.net.UnknownHostException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -93,6 +96,112 @@ void normalizeRepository(String originalUrl, String expectedUrl) throws Throwabl
         assertThat(normalized.getUri()).isEqualTo(expectedUrl);
     }
 
+    @Test
+    void prefetchDownloadsConcurrentlyAndOnlyOnce() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        try (MockWebServer repo = new MockWebServer()) {
+            repo.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.sleep(100);
+                    inFlight.decrementAndGet();
+                    String artifactId = request.getRequestUrl().pathSegments().get(2);
+                    //language=xml
+                    return new MockResponse().setResponseCode(200).setBody("""
+                      <project>
+                        <groupId>org.example</groupId>
+                        <artifactId>%s</artifactId>
+                        <version>1.0</version>
+                      </project>
+                      """.formatted(artifactId));
+                }
+            });
+            repo.start();
+
+            MavenExecutionContextView ctx = MavenExecutionContextView.view(new InMemoryExecutionContext())
+              .setPomCache(new InMemoryMavenPomCache())
+              .setAddLocalRepository(false)
+              .setAddCentralRepository(false)
+              .setResolutionParallelism(4);
+            MavenRepository repository = MavenRepository.builder()
+              .id("stub")
+              .uri(repo.url("/").toString())
+              .knownToExist(true)
+              .build();
+            MavenPomDownloader downloader = new MavenPomDownloader(emptyMap(), ctx);
+
+            Map<GroupArtifactVersion, MavenPomDownloader.PrefetchTask> tasks = new LinkedHashMap<>();
+            for (String artifactId : List.of("a", "b", "c", "d")) {
+                GroupArtifactVersion gav = new GroupArtifactVersion("org.example", artifactId, "1.0");
+                tasks.put(gav, (d, c) -> d.download(gav, null, null, List.of(repository)));
+            }
+            downloader.prefetch(tasks);
+            downloader.prefetch(tasks);
+            assertThat(repo.getRequestCount()).isEqualTo(4);
+            assertThat(maxInFlight.get()).isGreaterThan(1);
+
+            Pom b = downloader.download(new GroupArtifactVersion("org.example", "b", "1.0"), null, null, List.of(repository));
+            assertThat(b.getArtifactId()).isEqualTo("b");
+            assertThat(repo.getRequestCount()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void revalidateMetadataMissingFromCache() throws Exception {
+        try (MockWebServer repo = new MockWebServer()) {
+            repo.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    if ("\"v1\"".equals(request.getHeader("If-None-Match"))) {
+                        return new MockResponse().setResponseCode(304);
+                    }
+                    //language=xml
+                    return new MockResponse().setResponseCode(200).setHeader("ETag", "\"v1\"").setBody("""
+                      <metadata>
+                        <groupId>org.example</groupId>
+                        <artifactId>revalidated</artifactId>
+                        <versioning>
+                          <versions>
+                            <version>1.0</version>
+                            <version>1.1</version>
+                          </versions>
+                        </versioning>
+                      </metadata>
+                      """);
+                }
+            });
+            repo.start();
+
+            MavenRepository repository = MavenRepository.builder()
+              .id("stub")
+              .uri(repo.url("/").toString())
+              .knownToExist(true)
+              .build();
+            // the parsed metadata has expired, but the downloaded document and its validators are still cached
+            MavenPomCache pomCache = new InMemoryMavenPomCache() {
+                @Override
+                public @Nullable Optional<MavenMetadata> getMavenMetadata(URI repo, GroupArtifactVersion gav) {
+                    return null;
+                }
+            };
+            for (int i = 0; i < 2; i++) {
+                MavenExecutionContextView ctx = MavenExecutionContextView.view(new InMemoryExecutionContext())
+                  .setPomCache(pomCache)
+                  .setAddLocalRepository(false)
+                  .setAddCentralRepository(false);
+                MavenMetadata metadata = new MavenPomDownloader(emptyMap(), ctx)
+                  .downloadMetadata(new GroupArtifact("org.example", "revalidated"), null, List.of(repository));
+                assertThat(metadata.getVersioning().getVersions()).containsExactly("1.0", "1.1");
+            }
+
+            assertThat(repo.getRequestCount()).isEqualTo(2);
+            assertThat(repo.takeRequest().getHeader("If-None-Match")).isNull();
+            assertThat(repo.takeRequest().getHeader("If-None-Match")).isEqualTo("\"v1\"");
+        }
+    }
+
     @Nested
     class WithNativeHttpURLConnectionAndTLS {
         private final ExecutionContext ctx = HttpSenderExecutionContextView.view(new InMemoryExecutionContext())
@@ -16,6 +16,7 @@
 package org.openrewrite.maven.tree;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.test.RewriteTest;
 
@@ -278,4 +279,33 @@ void resolveExecutionsFromDifferentParents() {
           )
         );
     }
+
+    @Test
+    void firstManagedDependencyTakesPrecedence() {
+        ResolvedPom pom = ResolvedPom.builder()
+          .dependencyManagement(List.of(
+            managed("org.example", "a", "1", null, null, Scope.Test),
+            managed("org.example", "a", "2", null, "tests", null),
+            managed("org.example", "a", "3", null, null, Scope.Runtime),
+            managed("org.example", "b", "4", "pom", null, null)
+          ))
+          .build();
+
+        assertThat(pom.getManagedVersion("org.example", "a", null, null)).isEqualTo("1");
+        assertThat(pom.getManagedVersion("org.example", "a", "jar", null)).isEqualTo("1");
+        assertThat(pom.getManagedScope("org.example", "a", null, null)).isEqualTo(Scope.Test);
+        assertThat(pom.getManagedVersion("org.example", "a", null, "tests")).isEqualTo("2");
+        assertThat(pom.getManagedVersion("org.example", "b", null, null)).isNull();
+        assertThat(pom.getManagedVersion("org.example", "b", "pom", null)).isEqualTo("4");
+        assertThat(pom.getManagedVersion("org.example", "c", null, null)).isNull();
+        assertThat(pom.findManagedDependencies("org.example", "a"))
+          .extracting(ResolvedManagedDependency::getVersion)
+          .containsExactly("1", "2", "3");
+    }
+
+    private static ResolvedManagedDependency managed(String groupId, String artifactId, String version,
+                                                     @Nullable String type, @Nullable String classifier, @Nullable Scope scope) {
+        return new ResolvedManagedDependency(new GroupArtifactVersion(groupId, artifactId, version), scope, type,
+          classifier, List.of(), null, null, null);
+    }
 }
@@ -18,11 +18,11 @@
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
 import org.openrewrite.internal.StringUtils;
-import org.openrewrite.xml.search.FindTags;
 import org.openrewrite.xml.trait.Namespaced;
 import org.openrewrite.xml.tree.Xml;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -35,6 +35,10 @@
  * <p>
  * The "current node" for XPath evaluation is always the root node of the document. As a result, '.' and '..' are not
  * recognized.
+ * <p>
+ * The expression is compiled once, when the matcher is constructed, so a matcher should be created once and reused
+ * rather than created for each tag visited. A tag is rejected by its name alone whenever the expression only matches
+ * tags with one name. To match many expressions at once, see {@link XPathMatcherIndex}.
  */
 public class XPathMatcher {
 
@@ -43,6 +47,8 @@ public class XPathMatcher {
     private static final Pattern ELEMENT_WITH_CONDITION_PATTERN = Pattern.compile("(@)?([-:\\w]+|\\*)(\\[.+])");
     private static final Pattern CONDITION_PATTERN = Pattern.compile("(\\[.*?])+?");
     private static final Pattern CONDITION_CONJUNCTION_PATTERN = Pattern.compile("(((local-name|namespace-uri)\\(\\)|(@)?([-\\w:]+|\\*))='(.*?)'(\\h?(or|and)\\h?)?)+?");
+    private static final Pattern TAG_NAME_PATTERN = Pattern.compile("[-:.\\w]+");
+    private static final int MAX_CACHED_MATCHERS = 256;
 
     private final String expression;
     private final boolean startsWithSlash;
@@ -50,12 +56,70 @@ public class XPathMatcher {
     private final String[] parts;
     private final long tagMatchingParts;
 
+    /**
+     * The element and conditions of each part like `plugin[artifactId='maven-compiler-plugin']`, or null for parts
+     * without conditions.
+     */
+    private final @Nullable ElementWithConditions[] elementsWithConditions;
+
+    /**
+     * The name that the tag matched, or the tag enclosing the attribute matched, must have. Null when the expression
+     * can match tags with different names.
+     */
+    private final @Nullable String tagName;
+
+    private final boolean skipsElements;
+    private final int blankPartIndex;
+    private final int doubleSlashIndex;
+
+    private volatile @Nullable XPathMatcher withoutDoubleSlashes;
+    private final Map<String, XPathMatcher> skippingByTagName = new ConcurrentHashMap<>();
+
     public XPathMatcher(String expression) {
         this.expression = expression;
         startsWithSlash = expression.startsWith("/");
         startsWithDoubleSlash = expression.startsWith("//");
         parts = splitOnXPathSeparator(expression.substring(startsWithDoubleSlash ? 2 : startsWithSlash ? 1 : 0));
         tagMatchingParts = Arrays.stream(parts).filter(part -> !part.isEmpty() && !part.startsWith("@")).count();
+
+        elementsWithConditions = new ElementWithConditions[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            Matcher matcher = ELEMENT_WITH_CONDITION_PATTERN.matcher(parts[i]);
+            if (matcher.matches()) {
+                elementsWithConditions[i] = new ElementWithConditions(matcher);
+            }
+        }
+        tagName = tagName(parts);
+
+        skipsElements = expression.contains("//") && Arrays.stream(parts).anyMatch(StringUtils::isBlank);
+        blankPartIndex = Arrays.asList(parts).indexOf("");
+        doubleSlashIndex = expression.indexOf("//");
+    }
+
+    private static @Nullable String tagName(String[] parts) {
+        if (parts.length == 0) {
+            return null;
+        }
+        for (String part : parts) {
+            // attribute steps can complete a match before the last step is reached
+            if (part.startsWith("@")) {
+                return null;
+            }
+        }
+        String last = parts[parts.length - 1];
+        int idx = last.indexOf("[");
+        if (idx > 0) {
+            last = last.substring(0, idx);
+        }
+        return TAG_NAME_PATTERN.matcher(last).matches() ? last : null;
+    }
+
+    /**
+     * @return The name that a tag must have to be matched, or to enclose an attribute that is matched, or null
+     * when the expression can match tags with different names.
+     */
+    @Nullable String getTagName() {
+        return tagName;
     }
 
     private String[] splitOnXPathSeparator(String input) {
@@ -74,6 +138,13 @@ private String[] splitOnXPathSeparator(String input) {
      * @return true if the expression matches the cursor, false otherwise
      */
     public boolean matches(Cursor cursor) {
+        if (tagName != null) {
+            Xml.Tag tag = nearestTag(cursor);
+            if (tag == null || !tag.getName().equals(tagName)) {
+                return false;
+            }
+        }
+
         List<Xml.Tag> path = new ArrayList<>();
         for (Cursor c = cursor; c != null; c = c.getParent()) {
             if (c.getValue() instanceof Xml.Tag) {
@@ -115,10 +186,10 @@ public boolean matches(Cursor cursor) {
                 String partName;
                 boolean matchedCondition = false;
 
-                Matcher matcher;
-                if (tagForCondition != null && partWithCondition.endsWith("]") &&
-                    (matcher = ELEMENT_WITH_CONDITION_PATTERN.matcher(partWithCondition)).matches()) {
-                    String optionalPartName = matchesElementWithConditionFunction(matcher, tagForCondition, cursor);
+                ElementWithConditions elementWithConditions = conditionIsBefore ?
+                        elementsWithConditions[i - 1] : elementsWithConditions[i];
+                if (tagForCondition != null && elementWithConditions != null) {
+                    String optionalPartName = matchesElementWithConditionFunction(elementWithConditions, tagForCondition, cursor);
                     if (optionalPartName == null) {
                         return false;
                     }
@@ -163,32 +234,22 @@ public boolean matches(Cursor cursor) {
             Collections.reverse(path);
 
             // Deal with the two forward slashes in the expression; works, but I'm not proud of it.
-            if (expression.contains("//") && Arrays.stream(parts).anyMatch(StringUtils::isBlank)) {
-                int blankPartIndex = Arrays.asList(parts).indexOf("");
-                int doubleSlashIndex = expression.indexOf("//");
-
+            if (skipsElements) {
                 if (path.size() > blankPartIndex && path.size() >= tagMatchingParts) {
                     Xml.Tag blankPartTag = path.get(blankPartIndex);
                     String part = parts[blankPartIndex + 1];
-                    Matcher matcher = ELEMENT_WITH_CONDITION_PATTERN.matcher(part);
-                    if (matcher.matches() ?
-                            matchesElementWithConditionFunction(matcher, blankPartTag, cursor) != null :
+                    ElementWithConditions elementWithConditions = elementsWithConditions[blankPartIndex + 1];
+                    if (elementWithConditions != null ?
+                            matchesElementWithConditionFunction(elementWithConditions, blankPartTag, cursor) != null :
                             Objects.equals(blankPartTag.getName(), part)) {
-                        if (matchesWithoutDoubleSlashesAt(cursor, doubleSlashIndex)) {
+                        if (withoutDoubleSlashes().matches(cursor)) {
                             return true;
                         }
                         // fall-through: maybe we can skip this element and match further down
                     }
-                    String newExpression = String.format(
-                            // the // here allows to skip several levels of nested elements
-                            "%s/%s//%s",
-                            expression.substring(0, doubleSlashIndex),
-                            blankPartTag.getName(),
-                            expression.substring(doubleSlashIndex + 2)
-                    );
-                    return new XPathMatcher(newExpression).matches(cursor);
+                    return skipping(blankPartTag.getName()).matches(cursor);
                 } else if (path.size() == tagMatchingParts) {
-                    return matchesWithoutDoubleSlashesAt(cursor, doubleSlashIndex);
+                    return withoutDoubleSlashes().matches(cursor);
                 }
             }
 
@@ -204,9 +265,8 @@ public boolean matches(Cursor cursor) {
                 String partName;
                 boolean matchedCondition = false;
 
-                Matcher matcher;
-                if (tag != null && part.endsWith("]") && (matcher = ELEMENT_WITH_CONDITION_PATTERN.matcher(part)).matches()) {
-                    String optionalPartName = matchesElementWithConditionFunction(matcher, tag, cursor);
+                if (tag != null && elementsWithConditions[i] != null) {
+                    String optionalPartName = matchesElementWithConditionFunction(elementsWithConditions[i], tag, cursor);
                     if (optionalPartName == null) {
                         return false;
                     }
@@ -234,28 +294,58 @@ public boolean matches(Cursor cursor) {
         }
     }
 
-    private boolean matchesWithoutDoubleSlashesAt(Cursor cursor, int doubleSlashIndex) {
-        String newExpression = String.format(
-                "%s/%s",
-                expression.substring(0, doubleSlashIndex),
-                expression.substring(doubleSlashIndex + 2)
-        );
-        return new XPathMatcher(newExpression).matches(cursor);
+    static Xml.@Nullable Tag nearestTag(Cursor cursor) {
+        for (Cursor c = cursor; c != null; c = c.getParent()) {
+            if (c.getValue() instanceof Xml.Tag) {
+                return c.getValue();
+            }
+        }
+        return null;
+    }
+
+    private XPathMatcher withoutDoubleSlashes() {
+        XPathMatcher matcher = withoutDoubleSlashes;
+        if (matcher == null) {
+            matcher = new XPathMatcher(String.format(
+                    "%s/%s",
+                    expression.substring(0, doubleSlashIndex),
+                    expression.substring(doubleSlashIndex + 2)
+            ));
+            withoutDoubleSlashes = matcher;
+        }
+        return matcher;
+    }
+
+    private XPathMatcher skipping(String blankPartTagName) {
+        XPathMatcher matcher = skippingByTagName.get(blankPartTagName);
+        if (matcher == null) {
+            matcher = new XPathMatcher(String.format(
+                    // the // here allows to skip several levels of nested elements
+                    "%s/%s//%s",
+                    expression.substring(0, doubleSlashIndex),
+                    blankPartTagName,
+                    expression.substring(doubleSlashIndex + 2)
+            ));
+            if (skippingByTagName.size() >= MAX_CACHED_MATCHERS) {
+                skippingByTagName.clear();
+            }
+            skippingByTagName.put(blankPartTagName, matcher);
+        }
+        return matcher;
     }
 
     /**
-     * Checks that the given {@code tag} matches the XPath part represented by {@code matcher}.
+     * Checks that the given {@code tag} matches the XPath part represented by {@code elementWithConditions}.
      *
-     * @param matcher an XPath part matcher for {@link #ELEMENT_WITH_CONDITION_PATTERN}
-     * @param tag     a tag to match
-     * @param cursor  the cursor we are trying to match
+     * @param elementWithConditions an XPath part compiled from {@link #ELEMENT_WITH_CONDITION_PATTERN}
+     * @param tag                   a tag to match
+     * @param cursor                the cursor we are trying to match
      * @return the element name specified before the condition of the part
      * (either {@code tag.getName()}, {@code "*"} or an attribute name) or {@code null} if the tag did not match
      */
-    private @Nullable String matchesElementWithConditionFunction(Matcher matcher, Xml.Tag tag, Cursor cursor) {
-        boolean isAttributeElement = matcher.group(1) != null;
-        String element = matcher.group(2);
-        String allConditions = matcher.group(3);
+    private @Nullable String matchesElementWithConditionFunction(ElementWithConditions elementWithConditions, Xml.Tag tag, Cursor cursor) {
+        boolean isAttributeElement = elementWithConditions.attribute;
+        String element = elementWithConditions.element;
 
         // Fail quickly if element name doesn't match
         if (!isAttributeElement && !tag.getName().equals(element) && !"*".equals(element)) {
@@ -263,21 +353,24 @@ private boolean matchesWithoutDoubleSlashesAt(Cursor cursor, int doubleSlashInde
         }
 
         // check that all conditions match on current element
-        Matcher conditions = CONDITION_PATTERN.matcher(allConditions);
         boolean stillMatchesConditions = true;
-        while (conditions.find() && stillMatchesConditions) {
-            String conditionGroup = conditions.group(1);
-            Matcher condition = CONDITION_CONJUNCTION_PATTERN.matcher(conditionGroup);
+        for (List<Condition> conditionGroup : elementWithConditions.conditionGroups) {
+            if (!stillMatchesConditions) {
+                break;
+            }
             boolean orCondition = false;
 
-            while (condition.find() && (stillMatchesConditions || orCondition)) {
+            for (Condition condition : conditionGroup) {
+                if (!stillMatchesConditions && !orCondition) {
+                    break;
+                }
                 boolean matchCurrentCondition = false;
 
-                boolean isAttributeCondition = condition.group(4) != null;
-                String selector = isAttributeCondition ? condition.group(5) : condition.group(2);
-                boolean isFunctionCondition = selector.endsWith("()");
-                String value = condition.group(6);
-                String conjunction = condition.group(8);
+                boolean isAttributeCondition = condition.attribute;
+                String selector = condition.selector;
+                boolean isFunctionCondition = condition.function;
+                String value = condition.value;
+                String conjunction = condition.conjunction;
                 orCondition = conjunction != null && conjunction.equals("or");
 
                 // invalid conjunction if not 'or' or 'and'
@@ -306,12 +399,7 @@ private boolean matchesWithoutDoubleSlashesAt(Cursor cursor, int doubleSlashInde
                         matchCurrentCondition = matchesElementAndFunction(cursor, element, selector, value);
                     }
                 } else { // other [] conditions
-                    for (Xml.Tag t : FindTags.find(tag, selector)) {
-                        if (t.getValue().map(v -> v.equals(value)).orElse(false)) {
-                            matchCurrentCondition = true;
-                            break;
-                        }
-                    }
+                    matchCurrentCondition = hasTagWithValue(tag, selector, value);
                 }
                 // break condition early if first OR condition is fulfilled
                 if (matchCurrentCondition && orCondition) {
@@ -325,6 +413,21 @@ private boolean matchesWithoutDoubleSlashesAt(Cursor cursor, int doubleSlashInde
         return stillMatchesConditions ? element : null;
     }
 
+    /**
+     * @return Whether the tag or any tag nested in it has the name, or any name when the name is `*`, and the value.
+     */
+    private static boolean hasTagWithValue(Xml.Tag tag, String name, String value) {
+        if (("*".equals(name) || tag.getName().equals(name)) && tag.getValue().map(value::equals).orElse(false)) {
+            return true;
+        }
+        for (Xml.Tag child : tag.getChildren()) {
+            if (hasTagWithValue(child, name, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static boolean matchesElementAndFunction(Cursor cursor, String element, String selector, String value) {
         Namespaced namespaced = new Namespaced(cursor);
         if (!element.equals("*") && !Objects.equals(namespaced.getName().orElse(null), element)) {
@@ -337,4 +440,40 @@ private static boolean matchesElementAndFunction(Cursor cursor, String element,
         }
         return false;
     }
+
+    private static class ElementWithConditions {
+        final boolean attribute;
+        final String element;
+        final List<List<Condition>> conditionGroups = new ArrayList<>();
+
+        ElementWithConditions(Matcher matcher) {
+            attribute = matcher.group(1) != null;
+            element = matcher.group(2);
+            Matcher conditions = CONDITION_PATTERN.matcher(matcher.group(3));
+            while (conditions.find()) {
+                List<Condition> conditionGroup = new ArrayList<>();
+                Matcher condition = CONDITION_CONJUNCTION_PATTERN.matcher(conditions.group(1));
+                while (condition.find()) {
+                    conditionGroup.add(new Condition(condition));
+                }
+                conditionGroups.add(conditionGroup);
+            }
+        }
+    }
+
+    private static class Condition {
+        final boolean attribute;
+        final String selector;
+        final boolean function;
+        final String value;
+        final @Nullable String conjunction;
+
+        Condition(Matcher condition) {
+            attribute = condition.group(4) != null;
+            selector = attribute ? condition.group(5) : condition.group(2);
+            function = selector.endsWith("()");
+            value = condition.group(6);
+            conjunction = condition.group(8);
+        }
+    }
 }
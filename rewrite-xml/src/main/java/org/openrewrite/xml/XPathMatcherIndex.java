@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.xml;
+
+import org.openrewrite.Cursor;
+import org.openrewrite.Incubating;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Many {@link XPathMatcher XPath matchers} combined so that all of those that match a cursor are found while
+ * visiting a document once, rather than by testing every matcher against every tag. Matchers of expressions that only
+ * match tags with one name, like `/project/dependencies/dependency` or `//plugin[artifactId='maven-compiler-plugin']`,
+ * are grouped by that name, so only the matchers of expressions like `//*` or `/project/@xmlns` are tested against
+ * every tag. An index is safe to share between threads.
+ */
+@Incubating(since = "8.40.0")
+public class XPathMatcherIndex {
+    private static final int[] NONE = new int[0];
+
+    private final List<XPathMatcher> matchers;
+    private final Map<String, int[]> byTagName = new HashMap<>();
+    private final int[] anyTagName;
+
+    public XPathMatcherIndex(Collection<XPathMatcher> matchers) {
+        this.matchers = new ArrayList<>(matchers);
+        Map<String, List<Integer>> named = new HashMap<>();
+        List<Integer> unnamed = new ArrayList<>();
+        for (int i = 0; i < this.matchers.size(); i++) {
+            String tagName = this.matchers.get(i).getTagName();
+            if (tagName == null) {
+                unnamed.add(i);
+            } else {
+                named.computeIfAbsent(tagName, n -> new ArrayList<>()).add(i);
+            }
+        }
+        named.forEach((tagName, positions) -> byTagName.put(tagName, toArray(positions)));
+        anyTagName = toArray(unnamed);
+    }
+
+    /**
+     * @return The matchers that match the cursor, in the order they were given to this index.
+     */
+    public List<XPathMatcher> matching(Cursor cursor) {
+        List<XPathMatcher> matching = emptyList();
+        int[] named = named(cursor);
+        for (int i = 0, j = 0; i < named.length || j < anyTagName.length; ) {
+            int next = j == anyTagName.length || (i < named.length && named[i] < anyTagName[j]) ?
+                    named[i++] : anyTagName[j++];
+            XPathMatcher matcher = matchers.get(next);
+            if (matcher.matches(cursor)) {
+                if (matching.isEmpty()) {
+                    matching = new ArrayList<>(2);
+                }
+                matching.add(matcher);
+            }
+        }
+        return matching;
+    }
+
+    public boolean matchesAny(Cursor cursor) {
+        for (int i : named(cursor)) {
+            if (matchers.get(i).matches(cursor)) {
+                return true;
+            }
+        }
+        for (int i : anyTagName) {
+            if (matchers.get(i).matches(cursor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int[] named(Cursor cursor) {
+        Xml.Tag tag = XPathMatcher.nearestTag(cursor);
+        if (tag == null) {
+            return NONE;
+        }
+        int[] named = byTagName.get(tag.getName());
+        return named == null ? NONE : named;
+    }
+
+    private static int[] toArray(List<Integer> positions) {
+        int[] array = new int[positions.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = positions.get(i);
+        }
+        return array;
+    }
+}
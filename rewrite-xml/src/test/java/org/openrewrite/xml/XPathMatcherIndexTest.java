@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.xml;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.Cursor;
+import org.openrewrite.SourceFile;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XPathMatcherIndexTest {
+
+    private final SourceFile pomXml = new XmlParser().parse(
+      """
+        <project xmlns="http://maven.apache.org/POM/4.0.0">
+          <groupId>com.mycompany.app</groupId>
+          <artifactId>my-app</artifactId>
+          <dependencies>
+            <dependency>
+              <groupId>org.openrewrite</groupId>
+              <artifactId scope="compile">rewrite-xml</artifactId>
+            </dependency>
+          </dependencies>
+          <build>
+            <pluginManagement>
+              <plugins>
+                <plugin>
+                  <groupId>org.apache.maven.plugins</groupId>
+                  <artifactId>maven-compiler-plugin</artifactId>
+                  <configuration>
+                    <source>1.8</source>
+                  </configuration>
+                </plugin>
+              </plugins>
+            </pluginManagement>
+          </build>
+        </project>
+        """
+    ).toList().get(0);
+
+    @Test
+    void matchesLikeEachMatcher() {
+        List<XPathMatcher> matchers = List.of(
+          new XPathMatcher("/project/dependencies/dependency"),
+          new XPathMatcher("/project/dependencies/dependency/artifactId"),
+          new XPathMatcher("//artifactId"),
+          new XPathMatcher("artifactId"),
+          new XPathMatcher("/project/artifactId"),
+          new XPathMatcher("//plugin[artifactId='maven-compiler-plugin']/configuration/source"),
+          new XPathMatcher("/project/build//plugin/configuration/source"),
+          new XPathMatcher("/project/build//plugin[groupId='org.apache.maven.plugins']"),
+          new XPathMatcher("//dependency/artifactId/@scope"),
+          new XPathMatcher("/project/@xmlns"),
+          new XPathMatcher("//*[local-name()='plugin']"),
+          new XPathMatcher("/project/*")
+        );
+        XPathMatcherIndex index = new XPathMatcherIndex(matchers);
+        AtomicInteger matched = new AtomicInteger();
+
+        new XmlVisitor<Integer>() {
+            @Override
+            public Xml visitTag(Xml.Tag tag, Integer p) {
+                assertMatchesLikeEachMatcher(getCursor());
+                return super.visitTag(tag, p);
+            }
+
+            @Override
+            public Xml visitAttribute(Xml.Attribute attribute, Integer p) {
+                assertMatchesLikeEachMatcher(getCursor());
+                return super.visitAttribute(attribute, p);
+            }
+
+            private void assertMatchesLikeEachMatcher(Cursor cursor) {
+                List<XPathMatcher> expected = new ArrayList<>();
+                for (XPathMatcher matcher : matchers) {
+                    if (matcher.matches(cursor)) {
+                        expected.add(matcher);
+                    }
+                }
+                assertThat(index.matching(cursor)).containsExactlyElementsOf(expected);
+                assertThat(index.matchesAny(cursor)).isEqualTo(!expected.isEmpty());
+                matched.addAndGet(expected.size());
+            }
+        }.visit(pomXml, 0);
+
+        assertThat(matched.get()).isPositive();
+    }
+
+    @Test
+    void groupsMatchersByTagName() {
+        assertThat(new XPathMatcher("/project/dependencies/dependency").getTagName()).isEqualTo("dependency");
+        assertThat(new XPathMatcher("//plugin[artifactId='maven-compiler-plugin']").getTagName()).isEqualTo("plugin");
+        assertThat(new XPathMatcher("/project/build//plugin").getTagName()).isEqualTo("plugin");
+        assertThat(new XPathMatcher("//dependency/artifactId/@scope").getTagName()).isNull();
+        assertThat(new XPathMatcher("/project/*").getTagName()).isNull();
+        assertThat(new XPathMatcher("//*[local-name()='plugin']").getTagName()).isNull();
+    }
+}
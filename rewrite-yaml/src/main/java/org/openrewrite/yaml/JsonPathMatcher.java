@@ -16,6 +16,7 @@
 package org.openrewrite.yaml;
 
 import lombok.EqualsAndHashCode;
+import lombok.Value;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
@@ -30,7 +31,9 @@
 import org.openrewrite.yaml.internal.grammar.JsonPathParserVisitor;
 import org.openrewrite.yaml.tree.Yaml;
 
+import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiPredicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -49,29 +52,40 @@ public class JsonPathMatcher {
 
     private final String jsonPath;
 
+    /**
+     * The parsed expression, which is only read while matching, so it is parsed on first use and shared by every
+     * match after that.
+     */
+    @EqualsAndHashCode.Exclude
+    private volatile JsonPathParser.@Nullable JsonPathContext parsed;
+
+    /**
+     * Whether the root of the last cursor path matched contains aliases. Matchers are typically used on every
+     * node of one document after another, so this saves visiting the whole document for aliases on each match.
+     */
+    @EqualsAndHashCode.Exclude
+    private volatile @Nullable AliasScan lastAliasScan;
+
     public JsonPathMatcher(String jsonPath) {
         this.jsonPath = jsonPath;
     }
 
     public <T> Optional<T> find(Cursor cursor) {
-        LinkedList<Tree> cursorPath = cursor.getPathAsStream()
-                .filter(o -> o instanceof Tree)
-                .map(Tree.class::cast)
-                .map(t -> new ReplaceAliasWithAnchorValueVisitor<Integer>()
-                        .visitNonNull(t, 0))
-                .collect(Collectors.toCollection(LinkedList::new));
+        return find(cursor, resolvedCursorPath(cursor));
+    }
+
+    private <T> Optional<T> find(Cursor cursor, List<Tree> cursorPath) {
         if (cursorPath.isEmpty()) {
             return Optional.empty();
         }
-        Collections.reverse(cursorPath);
 
         Tree start;
         if (jsonPath.startsWith(".") && !jsonPath.startsWith("..")) {
             start = cursor.getValue();
         } else {
-            start = cursorPath.peekFirst();
+            start = cursorPath.get(0);
         }
-        JsonPathParser.JsonPathContext ctx = jsonPath().jsonPath();
+        JsonPathParser.JsonPathContext ctx = jsonPath();
         // The stop may be optimized by interpreting the ExpressionContext and pre-determining the last visit.
         JsonPathParser.ExpressionContext stop = (JsonPathParser.ExpressionContext) ctx.children.get(ctx.children.size() - 1);
         @SuppressWarnings("ConstantConditions") JsonPathParserVisitor<Object> v = new JsonPathMatcher.JsonPathYamlVisitor(cursorPath, start, stop, false);
@@ -82,16 +96,10 @@ public <T> Optional<T> find(Cursor cursor) {
     }
 
     public boolean matches(Cursor cursor) {
-        Object cursorValue = new ReplaceAliasWithAnchorValueVisitor<Integer>().visit((Tree)cursor.getValue(), 0);
-        List<Object> cursorPath = cursor.getPathAsStream()
-                .map(cp -> {
-                    if (cp instanceof Yaml) {
-                        cp = new ReplaceAliasWithAnchorValueVisitor<Integer>().visit((Yaml) cp, 0);
-                    }
-                    return cp;
-                })
-                .collect(Collectors.toList());
-        return find(cursor).map(o -> {
+        List<Tree> cursorPath = resolvedCursorPath(cursor);
+        return find(cursor, cursorPath).map(o -> {
+            // the cursor's value is a tree, so it is last in the cursor path, with its aliases replaced
+            Object cursorValue = cursorPath.get(cursorPath.size() - 1);
             if (o instanceof List) {
                 //noinspection unchecked
                 List<Object> l = (List<Object>) o;
@@ -102,8 +110,55 @@ public boolean matches(Cursor cursor) {
         }).orElse(false);
     }
 
-    private JsonPathParser jsonPath() {
-        return new JsonPathParser(new CommonTokenStream(new JsonPathLexer(CharStreams.fromString(this.jsonPath))));
+    private JsonPathParser.JsonPathContext jsonPath() {
+        JsonPathParser.JsonPathContext ctx = parsed;
+        if (ctx == null) {
+            ctx = new JsonPathParser(new CommonTokenStream(new JsonPathLexer(CharStreams.fromString(this.jsonPath)))).jsonPath();
+            parsed = ctx;
+        }
+        return ctx;
+    }
+
+    /**
+     * @return The trees in the cursor path, from the root down to the cursor's value, with aliases replaced by the
+     * value of their anchor.
+     */
+    private List<Tree> resolvedCursorPath(Cursor cursor) {
+        List<Tree> cursorPath = new ArrayList<>();
+        for (Cursor c = cursor; c != null; c = c.getParent()) {
+            Object value = c.getValue();
+            if (value instanceof Tree) {
+                cursorPath.add((Tree) value);
+            }
+        }
+        Collections.reverse(cursorPath);
+        if (!cursorPath.isEmpty() && hasAliases(cursorPath.get(0))) {
+            cursorPath.replaceAll(t -> new ReplaceAliasWithAnchorValueVisitor<Integer>().visitNonNull(t, 0));
+        }
+        return cursorPath;
+    }
+
+    private boolean hasAliases(Tree root) {
+        AliasScan scan = lastAliasScan;
+        if (scan == null || scan.root.get() != root) {
+            AtomicBoolean aliases = new AtomicBoolean();
+            new YamlVisitor<AtomicBoolean>() {
+                @Override
+                public Yaml visitAlias(Yaml.Alias alias, AtomicBoolean found) {
+                    found.set(true);
+                    return alias;
+                }
+            }.visit(root, aliases);
+            scan = new AliasScan(new WeakReference<>(root), aliases.get());
+            lastAliasScan = scan;
+        }
+        return scan.aliases;
+    }
+
+    @Value
+    private static class AliasScan {
+        WeakReference<Tree> root;
+        boolean aliases;
     }
 
     @SuppressWarnings({"ConstantConditions", "unchecked"})
@@ -112,6 +112,25 @@ void findsAlias() {
         );
     }
 
+    @Test
+    void reusedForDocumentsWithAndWithoutAliases() {
+        var matcher = new JsonPathMatcher("$.*.yo");
+        assertThat(visit(List.of(
+          """
+            bar:
+              yo: friend
+            """
+        ), matcher, false)).containsExactly("yo: friend");
+        assertThat(visit(List.of(
+          """
+            bar:
+              &abc yo: friend
+            baz:
+              *abc: friendly
+            """
+        ), matcher, false)).containsExactly("&abc yo: friend", "*abc: friendly");
+    }
+
     @Test
     void doesNotMatchMissingProperty() {
         assertNotMatched(
@@ -783,7 +802,10 @@ private void assertMatched(String jsonPath, List<String> before, List<String> af
     }
 
     private List<String> visit(List<String> before, String jsonPath, boolean printMatches) {
-        var matcher = new JsonPathMatcher(jsonPath);
+        return visit(before, new JsonPathMatcher(jsonPath), printMatches);
+    }
+
+    private List<String> visit(List<String> before, JsonPathMatcher matcher, boolean printMatches) {
         return new YamlVisitor<List<String>>() {
             @Override
             public Yaml visitMapping(Yaml.Mapping mapping, List<String> p) {